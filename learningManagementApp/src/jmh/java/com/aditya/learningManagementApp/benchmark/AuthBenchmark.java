@@ -0,0 +1,74 @@
+package com.aditya.learningManagementApp.benchmark;
+
+import com.aditya.learningManagementApp.service.CustomUserDetailsService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The cost of HTTP Basic authentication: the user lookup alone, the lookup
+ * plus a raw BCrypt check (what every request paid before the auth caches),
+ * and the full provider path with {@code UserAuthCache} in place.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AuthBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Users {
+
+        EmbeddedLms lms;
+        CustomUserDetailsService userDetailsService;
+        PasswordEncoder passwordEncoder;
+        AuthenticationProvider authenticationProvider;
+        final AtomicLong next = new AtomicLong();
+
+        @Setup(Level.Trial)
+        public void setUp(EmbeddedLms lms) {
+            this.lms = lms;
+            this.userDetailsService = lms.bean(CustomUserDetailsService.class);
+            this.passwordEncoder = lms.bean(PasswordEncoder.class);
+            this.authenticationProvider = lms.bean(AuthenticationProvider.class);
+        }
+
+        String nextEmail() {
+            return lms.userEmails.get((int) (next.getAndIncrement() % EmbeddedLms.USERS));
+        }
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername(Users state) {
+        return state.userDetailsService.loadUserByUsername(state.nextEmail());
+    }
+
+    @Benchmark
+    public boolean loadAndVerify(Users state) {
+        UserDetails user = state.userDetailsService.loadUserByUsername(state.nextEmail());
+        return state.passwordEncoder.matches(EmbeddedLms.USER_PASSWORD, user.getPassword());
+    }
+
+    @Benchmark
+    public Authentication authenticate(Users state) {
+        return state.authenticationProvider.authenticate(
+                new UsernamePasswordAuthenticationToken(state.nextEmail(), EmbeddedLms.USER_PASSWORD));
+    }
+}
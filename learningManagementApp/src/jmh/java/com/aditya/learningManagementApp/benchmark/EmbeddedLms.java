@@ -0,0 +1,169 @@
+package com.aditya.learningManagementApp.benchmark;
+
+import com.aditya.learningManagementApp.LearningManagementAppApplication;
+import com.aditya.learningManagementApp.entities.Course;
+import com.aditya.learningManagementApp.entities.Exam;
+import com.aditya.learningManagementApp.entities.Instructor;
+import com.aditya.learningManagementApp.entities.Role;
+import com.aditya.learningManagementApp.entities.Student;
+import com.aditya.learningManagementApp.entities.User;
+import com.aditya.learningManagementApp.repository.CourseRepository;
+import com.aditya.learningManagementApp.repository.ExamRepository;
+import com.aditya.learningManagementApp.repository.InstructorRepository;
+import com.aditya.learningManagementApp.repository.RoleRepository;
+import com.aditya.learningManagementApp.repository.StudentRepository;
+import com.aditya.learningManagementApp.repository.UserRepository;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The whole application running on an in-memory H2 database (MySQL mode),
+ * with the schema built by the Flyway migrations and validated by Hibernate
+ * like in production, seeded with a fixed data set. One instance per benchmark fork; benchmarks
+ * that need another database start their own through {@link #startWith}.
+ */
+@State(Scope.Benchmark)
+public class EmbeddedLms {
+
+    public static final int INSTRUCTORS = 20;
+    public static final int COURSES = 100;
+    public static final int STUDENTS = 5_000;
+    public static final int USERS = 100;
+    public static final String USER_PASSWORD = "benchmark-password";
+
+    // Passed as command-line arguments, so they take precedence over application.properties.
+    // The same database settings as the h2 test profile: the MySQL dialect keeps ids on the *_seq tables
+    // The application logs at WARN; the benchmarks' own loggers report at INFO
+    private static final Map<String, String> EMBEDDED_PROPERTIES = Map.ofEntries(
+            Map.entry("spring.datasource.url", "jdbc:h2:mem:lms-benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1"),
+            Map.entry("spring.datasource.driver-class-name", "org.h2.Driver"),
+            Map.entry("spring.datasource.username", "sa"),
+            Map.entry("spring.datasource.password", ""),
+            Map.entry("spring.jpa.database-platform", "org.hibernate.dialect.MySQLDialect"),
+            Map.entry("spring.jpa.hibernate.ddl-auto", "validate"),
+            Map.entry("spring.jpa.show-sql", "false"),
+            Map.entry("server.port", "0"),
+            Map.entry("lms.auth.token.secret", "YmVuY2htYXJrLW9ubHktdG9rZW4tc2VjcmV0LW5vdC1mb3ItdXNl"),
+            Map.entry("logging.level.root", "WARN"),
+            Map.entry("logging.level.com.aditya.learningManagementApp.benchmark", "INFO"));
+
+    private ConfigurableApplicationContext context;
+
+    final List<Long> courseIds = new ArrayList<>();
+    final List<Long> examIds = new ArrayList<>();
+    final List<Long> studentIds = new ArrayList<>();
+    final List<String> userEmails = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void start() {
+        startWith(Map.of());
+    }
+
+    // Same application and data set, with some properties replaced (another datasource, a profile, ...)
+    public void startWith(Map<String, String> overrides) {
+        Map<String, String> properties = new HashMap<>(EMBEDDED_PROPERTIES);
+        properties.putAll(overrides);
+        String[] args = properties.entrySet().stream()
+                .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                .toArray(String[]::new);
+        context = new SpringApplicationBuilder(LearningManagementAppApplication.class).run(args);
+        transactions().executeWithoutResult(status -> seed());
+    }
+
+    // A real MySQL server for benchmarks that need one, from environment variables (they reach forked JVMs unchanged).
+    // The schema is a throwaway one: it is emptied here, so Flyway migrates it from scratch on start
+    static Map<String, String> mySqlFromEnvironment() {
+        String url = System.getenv("LMS_BENCH_MYSQL_URL");
+        if (url == null) {
+            throw new IllegalStateException("Set LMS_BENCH_MYSQL_URL=jdbc:mysql://<host>:3306/<throwaway schema>");
+        }
+        Map<String, String> properties = new HashMap<>();
+        properties.put("spring.datasource.url", url);
+        properties.put("spring.datasource.driver-class-name", "com.mysql.cj.jdbc.Driver");
+        properties.put("spring.datasource.username", System.getenv().getOrDefault("LMS_BENCH_MYSQL_USERNAME", "root"));
+        properties.put("spring.datasource.password", System.getenv().getOrDefault("LMS_BENCH_MYSQL_PASSWORD", ""));
+        Flyway.configure()
+                .dataSource(url, properties.get("spring.datasource.username"), properties.get("spring.datasource.password"))
+                .cleanDisabled(false)
+                .load()
+                .clean();
+        return properties;
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    public <T> T bean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    public JdbcTemplate jdbc() {
+        return bean(JdbcTemplate.class);
+    }
+
+    public TransactionTemplate transactions() {
+        return bean(TransactionTemplate.class);
+    }
+
+    private void seed() {
+        List<Instructor> instructors = new ArrayList<>(INSTRUCTORS);
+        for (int i = 0; i < INSTRUCTORS; i++) {
+            Instructor instructor = new Instructor();
+            instructor.setName("Instructor " + i);
+            instructor.setEmail("instructor" + i + "@lms.test");
+            instructor.setPassword("secret");
+            instructors.add(instructor);
+        }
+        instructors = bean(InstructorRepository.class).saveAll(instructors);
+
+        List<Course> courses = new ArrayList<>(COURSES);
+        for (int i = 0; i < COURSES; i++) {
+            courses.add(new Course("Course " + i, "Benchmark course " + i, instructors.get(i % INSTRUCTORS)));
+        }
+        courses = bean(CourseRepository.class).saveAll(courses);
+
+        List<Exam> exams = new ArrayList<>(COURSES);
+        for (Course course : courses) {
+            Exam exam = new Exam();
+            exam.setName(course.getTitle() + " final");
+            exam.setCourse(course);
+            exam.setInstructor(course.getInstructor());
+            exams.add(exam);
+            courseIds.add(course.getId());
+        }
+        bean(ExamRepository.class).saveAll(exams).forEach(exam -> examIds.add(exam.getId()));
+
+        List<Student> students = new ArrayList<>(STUDENTS);
+        for (int i = 0; i < STUDENTS; i++) {
+            students.add(new Student("Student " + i, "student" + i + "@lms.test", "secret"));
+        }
+        bean(StudentRepository.class).saveAll(students).forEach(student -> studentIds.add(student.getId()));
+
+        // One hash for every user: BCrypt cost is what loadAndVerify measures, not what seeding should pay
+        Role role = bean(RoleRepository.class).save(new Role("ROLE_STUDENT"));
+        String hash = bean(PasswordEncoder.class).encode(USER_PASSWORD);
+        List<User> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            String email = "user" + i + "@lms.test";
+            users.add(new User(email, hash, List.of(role)));
+            userEmails.add(email);
+        }
+        bean(UserRepository.class).saveAll(users);
+    }
+}
@@ -0,0 +1,58 @@
+package com.aditya.learningManagementApp.benchmark;
+
+import com.aditya.learningManagementApp.service.CourseEnrollmentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link CourseEnrollmentService#enrollStudent} on fresh (student, course)
+ * pairs. Enrollments are wiped before every iteration so each call takes the
+ * insert path rather than the already-enrolled short cut.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class EnrollmentBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Enrollments {
+
+        EmbeddedLms lms;
+        CourseEnrollmentService enrollmentService;
+        final AtomicLong next = new AtomicLong();
+
+        @Setup(Level.Trial)
+        public void setUp(EmbeddedLms lms) {
+            this.lms = lms;
+            this.enrollmentService = lms.bean(CourseEnrollmentService.class);
+        }
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            lms.jdbc().update("DELETE FROM student_courses");
+            next.set(0);
+        }
+    }
+
+    @Benchmark
+    public boolean enrollStudent(Enrollments state) {
+        long n = state.next.getAndIncrement();
+        Long studentId = state.lms.studentIds.get((int) (n % EmbeddedLms.STUDENTS));
+        Long courseId = state.lms.courseIds.get((int) ((n / EmbeddedLms.STUDENTS) % EmbeddedLms.COURSES));
+        return state.enrollmentService.enrollStudent(studentId, courseId);
+    }
+}
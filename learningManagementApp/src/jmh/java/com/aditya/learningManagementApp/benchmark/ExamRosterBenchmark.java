@@ -0,0 +1,88 @@
+package com.aditya.learningManagementApp.benchmark;
+
+import com.aditya.learningManagementApp.service.ExamService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Putting a course's {@link #ENROLLED} students on an empty exam roster: with
+ * the single INSERT ... SELECT from student_courses, and through
+ * {@code assignStudentsToExam} with the same ids, which runs one
+ * INSERT ... SELECT over the posted ids. {@code moveOneStudent} removes one
+ * student from a full roster and adds them back, which touches only that row
+ * and never loads the roster.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class ExamRosterBenchmark {
+
+    static final int ENROLLED = 2_000;
+
+    @State(Scope.Benchmark)
+    public static class Rosters {
+
+        EmbeddedLms lms;
+        ExamService examService;
+        Long examId;
+        Long fullExamId;
+        List<Long> enrolledIds;
+
+        @Setup(Level.Trial)
+        public void setUp(EmbeddedLms lms) {
+            this.lms = lms;
+            examService = lms.bean(ExamService.class);
+            examId = lms.examIds.get(0);
+            fullExamId = lms.examIds.get(1);
+            enrolledIds = lms.studentIds.subList(0, ENROLLED);
+
+            List<Object[]> enrollments = new ArrayList<>(ENROLLED * 2);
+            for (Long studentId : enrolledIds) {
+                enrollments.add(new Object[]{studentId, lms.courseIds.get(0)});
+                enrollments.add(new Object[]{studentId, lms.courseIds.get(1)});
+            }
+            lms.jdbc().batchUpdate("INSERT INTO student_courses (student_id, course_id) VALUES (?, ?)", enrollments);
+            examService.assignCourseRosterToExam(fullExamId);
+        }
+
+        @Setup(Level.Invocation)
+        public void clearRoster() {
+            lms.jdbc().update("DELETE FROM exam_students WHERE exam_id = ?", examId);
+        }
+    }
+
+    @Benchmark
+    public int courseRoster(Rosters state) {
+        return state.examService.assignCourseRosterToExam(state.examId);
+    }
+
+    @Benchmark
+    public Object studentIds(Rosters state) {
+        return state.examService.assignStudentsToExam(state.examId, state.enrolledIds);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @Warmup(iterations = 3, time = 1)
+    @Measurement(iterations = 5, time = 1)
+    public Object moveOneStudent(Rosters state) {
+        List<Long> student = List.of(state.enrolledIds.get(0));
+        state.examService.removeStudentsFromExam(state.fullExamId, student);
+        return state.examService.assignStudentsToExam(state.fullExamId, student);
+    }
+}
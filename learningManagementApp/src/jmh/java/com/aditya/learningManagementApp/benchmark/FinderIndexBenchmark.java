@@ -0,0 +1,170 @@
+package com.aditya.learningManagementApp.benchmark;
+
+import com.aditya.learningManagementApp.dto.EnrollmentRequest;
+import com.aditya.learningManagementApp.dto.ExamSummary;
+import com.aditya.learningManagementApp.entities.Grade;
+import com.aditya.learningManagementApp.repository.EnrollmentJdbcRepository;
+import com.aditya.learningManagementApp.repository.ExamRepository;
+import com.aditya.learningManagementApp.repository.GradeJdbcRepository;
+import com.aditya.learningManagementApp.repository.GradeRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The repository finders on a large data set: every student enrolled in,
+ * graded in and on the exam roster of {@link #ENROLLED_COURSES} courses
+ * (200k rows in each of student_courses, grades and exam_students). Runs once
+ * with the indexes of V2__finder_indexes.sql and once with them dropped again,
+ * which leaves the single-column foreign key indexes that ddl-auto=update used
+ * to create (and the exam_students primary key of V5).
+ * <p>
+ * Uses embedded H2 unless {@code LMS_BENCH_MYSQL_URL} is set (see
+ * {@link MySqlDatasourceBenchmark}); both get the Flyway-migrated schema.
+ * H2's planner picks the foreign key indexes for most of these queries
+ * whatever else exists, so only the MySQL numbers say anything about the
+ * migration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class FinderIndexBenchmark {
+
+    static final int ENROLLED_COURSES = 40;
+    static final int GRADED_CHUNK = 500;
+    static final long SEEDED_ID_BASE = 1_000_000_000L;
+
+    @State(Scope.Benchmark)
+    public static class Seeded {
+
+        @Param({"indexed", "unindexed"})
+        public String schema;
+
+        EmbeddedLms lms;
+        GradeRepository gradeRepository;
+        GradeJdbcRepository gradeJdbcRepository;
+        ExamRepository examRepository;
+        EnrollmentJdbcRepository enrollmentJdbcRepository;
+        List<Long> enrolledCourseIds;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Map<String, String> overrides = new HashMap<>();
+            if (System.getenv("LMS_BENCH_MYSQL_URL") != null) {
+                overrides.putAll(EmbeddedLms.mySqlFromEnvironment());
+            } else {
+                overrides.put("spring.datasource.url",
+                        "jdbc:h2:mem:lms-finders-" + schema + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+            }
+            lms = new EmbeddedLms();
+            lms.startWith(overrides);
+            gradeRepository = lms.bean(GradeRepository.class);
+            gradeJdbcRepository = lms.bean(GradeJdbcRepository.class);
+            examRepository = lms.bean(ExamRepository.class);
+            enrollmentJdbcRepository = lms.bean(EnrollmentJdbcRepository.class);
+            enrolledCourseIds = lms.courseIds.subList(0, ENROLLED_COURSES);
+
+            if ("unindexed".equals(schema)) {
+                // Same statements on MySQL (8.0.19+) and H2. The exam_students (exam_id, student_id) index is its
+                // primary key since V5 and stays
+                lms.jdbc().execute("ALTER TABLE grades DROP CONSTRAINT uk_grades_student_course");
+                lms.jdbc().execute("DROP INDEX idx_grades_course_student ON grades");
+                lms.jdbc().execute("DROP INDEX idx_exam_students_student_exam ON exam_students");
+                lms.jdbc().execute("DROP INDEX idx_student_courses_student_course ON student_courses");
+            }
+            seed();
+        }
+
+        // Plain JDBC batches with ids far above the sequences; nothing here is written through Hibernate
+        private void seed() {
+            List<EnrollmentRequest> rows = new ArrayList<>(EmbeddedLms.STUDENTS * ENROLLED_COURSES);
+            for (int c = 0; c < ENROLLED_COURSES; c++) {
+                for (Long studentId : lms.studentIds) {
+                    rows.add(new EnrollmentRequest(studentId, lms.courseIds.get(c)));
+                }
+            }
+            enrollmentJdbcRepository.insertEnrollments(rows, 1_000);
+
+            // EmbeddedLms creates exam i for course i
+            lms.jdbc().batchUpdate("INSERT INTO exam_students (exam_id, student_id) VALUES (?, ?)", rows, 1_000,
+                    (ps, row) -> {
+                        ps.setLong(1, lms.examIds.get(lms.courseIds.indexOf(row.courseId())));
+                        ps.setLong(2, row.studentId());
+                    });
+
+            long[] nextId = {SEEDED_ID_BASE};
+            lms.jdbc().batchUpdate("INSERT INTO grades (id, student_id, course_id, exam_id, grade) VALUES (?, ?, ?, ?, 'A')",
+                    rows, 1_000,
+                    (ps, row) -> {
+                        ps.setLong(1, nextId[0]++);
+                        ps.setLong(2, row.studentId());
+                        ps.setLong(3, row.courseId());
+                        ps.setLong(4, lms.examIds.get(lms.courseIds.indexOf(row.courseId())));
+                    });
+        }
+
+        Long randomStudent() {
+            return lms.studentIds.get(ThreadLocalRandom.current().nextInt(EmbeddedLms.STUDENTS));
+        }
+
+        Long randomCourse() {
+            return enrolledCourseIds.get(ThreadLocalRandom.current().nextInt(ENROLLED_COURSES));
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            lms.stop();
+        }
+    }
+
+    // assignGrade's duplicate check
+    @Benchmark
+    public Optional<Grade> gradeByStudentAndCourse(Seeded state) {
+        return state.gradeRepository.findByStudentIdAndCourseId(state.randomStudent(), state.randomCourse());
+    }
+
+    @Benchmark
+    public List<Grade> gradesByStudent(Seeded state) {
+        return state.gradeRepository.findByStudentId(state.randomStudent());
+    }
+
+    // assignGradesForExam's per-chunk duplicate check
+    @Benchmark
+    public Set<Long> gradedStudentsOfChunk(Seeded state) {
+        int from = ThreadLocalRandom.current().nextInt(EmbeddedLms.STUDENTS - GRADED_CHUNK);
+        return state.gradeJdbcRepository.findGradedStudentIds(state.randomCourse(),
+                state.lms.studentIds.subList(from, from + GRADED_CHUNK));
+    }
+
+    @Benchmark
+    public List<ExamSummary> examsByStudent(Seeded state) {
+        return state.examRepository.findSummariesByStudentId(state.randomStudent());
+    }
+
+    // bulkEnroll's duplicate check for one student across every course
+    @Benchmark
+    public Set<EnrollmentRequest> enrollmentsOfStudent(Seeded state) {
+        return state.enrollmentJdbcRepository.findExistingEnrollments(List.of(state.randomStudent()), state.lms.courseIds);
+    }
+}
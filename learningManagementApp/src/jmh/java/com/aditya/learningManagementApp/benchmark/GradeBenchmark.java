@@ -0,0 +1,90 @@
+package com.aditya.learningManagementApp.benchmark;
+
+import com.aditya.learningManagementApp.dto.EnrollmentRequest;
+import com.aditya.learningManagementApp.entities.Course;
+import com.aditya.learningManagementApp.entities.Exam;
+import com.aditya.learningManagementApp.entities.Grade;
+import com.aditya.learningManagementApp.entities.Student;
+import com.aditya.learningManagementApp.repository.EnrollmentJdbcRepository;
+import com.aditya.learningManagementApp.service.GradeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link GradeService#assignGrade} for enrolled, not yet graded students.
+ * Every student is enrolled in the first {@link #GRADED_COURSES} courses up
+ * front and grades are wiped before every iteration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class GradeBenchmark {
+
+    static final int GRADED_COURSES = 40;
+
+    @State(Scope.Benchmark)
+    public static class Grading {
+
+        EmbeddedLms lms;
+        GradeService gradeService;
+        final AtomicLong next = new AtomicLong();
+
+        @Setup(Level.Trial)
+        public void setUp(EmbeddedLms lms) {
+            this.lms = lms;
+            this.gradeService = lms.bean(GradeService.class);
+
+            List<EnrollmentRequest> enrollments = new ArrayList<>(EmbeddedLms.STUDENTS * GRADED_COURSES);
+            for (int c = 0; c < GRADED_COURSES; c++) {
+                for (Long studentId : lms.studentIds) {
+                    enrollments.add(new EnrollmentRequest(studentId, lms.courseIds.get(c)));
+                }
+            }
+            lms.bean(EnrollmentJdbcRepository.class).insertEnrollments(enrollments, 1_000);
+        }
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            lms.jdbc().update("DELETE FROM grades");
+            lms.jdbc().update("DELETE FROM student_transcripts");
+            lms.jdbc().update("DELETE FROM grade_distributions");
+            next.set(0);
+        }
+    }
+
+    @Benchmark
+    public Grade assignGrade(Grading state) {
+        long n = state.next.getAndIncrement();
+        int courseIndex = (int) ((n / EmbeddedLms.STUDENTS) % GRADED_COURSES);
+
+        Student student = new Student();
+        student.setId(state.lms.studentIds.get((int) (n % EmbeddedLms.STUDENTS)));
+        Course course = new Course();
+        course.setId(state.lms.courseIds.get(courseIndex));
+        Exam exam = new Exam();
+        exam.setId(state.lms.examIds.get(courseIndex));
+
+        Grade grade = new Grade();
+        grade.setGrade("A");
+        grade.setStudent(student);
+        grade.setCourse(course);
+        grade.setExam(exam);
+        return state.gradeService.assignGrade(grade);
+    }
+}
@@ -0,0 +1,110 @@
+package com.aditya.learningManagementApp.benchmark;
+
+import com.aditya.learningManagementApp.dto.GradeDistributionSummary;
+import com.aditya.learningManagementApp.entities.Grade;
+import com.aditya.learningManagementApp.repository.GradeRepository;
+import com.aditya.learningManagementApp.service.GradeAnalyticsService;
+import com.aditya.learningManagementApp.service.GradeHistogram;
+import com.aditya.learningManagementApp.service.GradeScale;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A course's grade distribution with {@link EmbeddedLms#STUDENTS} scored
+ * grades: read through {@link GradeAnalyticsService} (one precomputed row)
+ * against the same statistics computed from {@code findByCourseId} on every
+ * read. {@code rebuild} times the full recomputation over
+ * {@link #GRADED_COURSES} courses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class GradeDistributionBenchmark {
+
+    static final int GRADED_COURSES = 40;
+
+    @State(Scope.Benchmark)
+    public static class Distributions {
+
+        EmbeddedLms lms;
+        GradeAnalyticsService gradeAnalyticsService;
+        GradeRepository gradeRepository;
+        TransactionTemplate readOnly;
+
+        @Setup(Level.Trial)
+        public void setUp(EmbeddedLms lms) {
+            this.lms = lms;
+            gradeAnalyticsService = lms.bean(GradeAnalyticsService.class);
+            gradeRepository = lms.bean(GradeRepository.class);
+            readOnly = new TransactionTemplate(lms.transactions().getTransactionManager());
+            readOnly.setReadOnly(true);
+
+            // Normally distributed scores, straight into the table; the rebuild then derives the statistics
+            Random random = new Random(42);
+            List<Object[]> grades = new ArrayList<>(EmbeddedLms.STUDENTS * GRADED_COURSES);
+            long id = 1;
+            for (int c = 0; c < GRADED_COURSES; c++) {
+                for (Long studentId : lms.studentIds) {
+                    BigDecimal score = BigDecimal.valueOf(Math.max(0, Math.min(100, 75 + random.nextGaussian() * 12)))
+                            .setScale(2, RoundingMode.HALF_UP);
+                    grades.add(new Object[]{id++, lms.courseIds.get(c), lms.examIds.get(c), studentId,
+                            GradeScale.letterFor(score), score});
+                }
+            }
+            lms.jdbc().batchUpdate("INSERT INTO grades (id, course_id, exam_id, student_id, grade, score) VALUES (?, ?, ?, ?, ?, ?)",
+                    grades);
+            gradeAnalyticsService.rebuildDistributions();
+        }
+
+        Long randomCourse() {
+            return lms.courseIds.get(ThreadLocalRandom.current().nextInt(GRADED_COURSES));
+        }
+    }
+
+    @Benchmark
+    public GradeDistributionSummary precomputed(Distributions state) {
+        return state.gradeAnalyticsService.getCourseDistribution(state.randomCourse());
+    }
+
+    // Without grade_distributions: load the course's grades and compute the statistics on every read
+    @Benchmark
+    public GradeDistributionSummary scannedOnRead(Distributions state) {
+        Long courseId = state.randomCourse();
+        return state.readOnly.execute(status -> {
+            GradeHistogram histogram = new GradeHistogram();
+            for (Grade grade : state.gradeRepository.findByCourseId(courseId)) {
+                histogram.add(grade.getGrade(), grade.getScore());
+            }
+            return GradeDistributionSummary.from("COURSE", courseId, histogram);
+        });
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5)
+    public int rebuild(Distributions state) {
+        return state.gradeAnalyticsService.rebuildDistributions();
+    }
+}
@@ -0,0 +1,136 @@
+package com.aditya.learningManagementApp.benchmark;
+
+import com.aditya.learningManagementApp.entities.Course;
+import com.aditya.learningManagementApp.entities.Exam;
+import com.aditya.learningManagementApp.entities.Grade;
+import com.aditya.learningManagementApp.entities.Student;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Inserting {@link #ROWS} students, and {@link #ROWS} grades for one exam,
+ * through Hibernate in one transaction, flushed every {@link #FLUSH_EVERY}
+ * rows like a bulk load. Runs once in the default persistence mode (JDBC
+ * batches of 50, ordered inserts) and once row by row
+ * ({@code lms.persistence.jdbc-batch-size=0}). Both take their ids from the
+ * pooled sequences, so the row-by-row run stands in for IDENTITY generation.
+ * <p>
+ * Uses embedded H2 unless {@code LMS_BENCH_MYSQL_URL} is set (see
+ * {@link MySqlDatasourceBenchmark}). H2 has no network round trip to save, so
+ * the two modes come out close there; the batching gain shows on MySQL, where
+ * rewriteBatchedStatements turns each batch into one multi-row INSERT.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+public class InsertThroughputBenchmark {
+
+    static final int ROWS = EmbeddedLms.STUDENTS;
+    static final int FLUSH_EVERY = 500;
+
+    @State(Scope.Benchmark)
+    public static class Inserts {
+
+        @Param({"batched", "row-by-row"})
+        public String mode;
+
+        EmbeddedLms lms;
+        EntityManager entityManager;
+        Long courseId;
+        Long examId;
+        long seededMaxStudentId;
+        final AtomicLong next = new AtomicLong();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Map<String, String> overrides = new HashMap<>();
+            if (System.getenv("LMS_BENCH_MYSQL_URL") != null) {
+                overrides.putAll(EmbeddedLms.mySqlFromEnvironment());
+            } else {
+                overrides.put("spring.datasource.url",
+                        "jdbc:h2:mem:lms-inserts-" + mode + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+            }
+            if ("row-by-row".equals(mode)) {
+                overrides.put("lms.persistence.jdbc-batch-size", "0");
+                overrides.put("spring.jpa.properties.hibernate.order_inserts", "false");
+                overrides.put("spring.jpa.properties.hibernate.order_updates", "false");
+            }
+            lms = new EmbeddedLms();
+            lms.startWith(overrides);
+            entityManager = SharedEntityManagerCreator.createSharedEntityManager(lms.bean(EntityManagerFactory.class));
+            courseId = lms.courseIds.get(0);
+            examId = lms.examIds.get(0);
+            seededMaxStudentId = lms.studentIds.stream().mapToLong(Long::longValue).max().orElseThrow();
+        }
+
+        // Every invocation starts from the seeded data: no students of earlier runs, and no grades
+        @Setup(Level.Invocation)
+        public void reset() {
+            lms.jdbc().update("DELETE FROM grades");
+            lms.jdbc().update("DELETE FROM students WHERE id > ?", seededMaxStudentId);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            lms.stop();
+        }
+    }
+
+    @Benchmark
+    public int students(Inserts state) {
+        EntityManager em = state.entityManager;
+        state.lms.transactions().executeWithoutResult(status -> {
+            for (int i = 0; i < ROWS; i++) {
+                long n = state.next.incrementAndGet();
+                em.persist(new Student("Student " + n, "inserted" + n + "@lms.test", "secret"));
+                if ((i + 1) % FLUSH_EVERY == 0) {
+                    em.flush();
+                    em.clear();
+                }
+            }
+        });
+        return ROWS;
+    }
+
+    // One grade for each seeded student, on the first course's exam
+    @Benchmark
+    public int grades(Inserts state) {
+        EntityManager em = state.entityManager;
+        state.lms.transactions().executeWithoutResult(status -> {
+            for (int i = 0; i < ROWS; i++) {
+                Grade grade = new Grade();
+                grade.setGrade("A");
+                grade.setStudent(em.getReference(Student.class, state.lms.studentIds.get(i)));
+                grade.setCourse(em.getReference(Course.class, state.courseId));
+                grade.setExam(em.getReference(Exam.class, state.examId));
+                em.persist(grade);
+                if ((i + 1) % FLUSH_EVERY == 0) {
+                    em.flush();
+                    em.clear();
+                }
+            }
+        });
+        return ROWS;
+    }
+}
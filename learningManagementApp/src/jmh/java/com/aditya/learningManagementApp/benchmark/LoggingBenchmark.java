@@ -0,0 +1,87 @@
+package com.aditya.learningManagementApp.benchmark;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.core.config.Configurator;
+import org.apache.logging.log4j.core.selector.ClassLoaderContextSelector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.URISyntaxException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caller-side cost of the INFO lines one enrollment request logs: two from the
+ * controller, two from the service, each with a couple of parameters.
+ * <ul>
+ *   <li>{@code off}: INFO disabled, only the level checks</li>
+ *   <li>{@code sync}: synchronous console appender (the previous setup)</li>
+ *   <li>{@code async}: all loggers async, no rate limit</li>
+ *   <li>{@code production}: the shipped log4j2-spring.xml (async plus per-package BurstFilter)</li>
+ * </ul>
+ * Stdout is swapped for a null stream before Log4j starts, so the numbers
+ * leave out terminal cost and are a lower bound for the synchronous case. Add
+ * {@code -prof gc} to {@code jmh.args} to see allocation per request.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@State(Scope.Benchmark)
+public class LoggingBenchmark {
+
+    @Param({"off", "sync", "async", "production"})
+    public String config;
+
+    private Logger controllerLogger;
+    private Logger serviceLogger;
+    private PrintStream originalOut;
+    private long studentId = 1;
+    private final Long courseId = 42L;
+
+    @Setup(Level.Trial)
+    public void setUp() throws URISyntaxException {
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        if ("off".equals(config) || "sync".equals(config)) {
+            // Overrides the async selector from log4j2.component.properties; must precede the first LogManager call
+            System.setProperty("log4j2.contextSelector", ClassLoaderContextSelector.class.getName());
+        }
+
+        String resource = "production".equals(config) ? "log4j2-spring.xml" : "log4j2-bench-" + config + ".xml";
+        Configurator.reconfigure(LoggingBenchmark.class.getClassLoader().getResource(resource).toURI());
+
+        controllerLogger = LogManager.getLogger("com.aditya.learningManagementApp.controllers.CourseEnrollmentController");
+        serviceLogger = LogManager.getLogger("com.aditya.learningManagementApp.service.CourseEnrollmentService");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        LogManager.shutdown();
+        System.setOut(originalOut);
+    }
+
+    @Benchmark
+    public long enrollmentRequest() {
+        long student = studentId++;
+        controllerLogger.info("Enrollment request: studentId={}, courseId={}", student, courseId);
+        serviceLogger.info("Attempting to enroll student {} into course {}", student, courseId);
+        serviceLogger.info("Student {} successfully enrolled in course {}", student, courseId);
+        controllerLogger.info("Student {} enrolled in course {}", student, courseId);
+        return student;
+    }
+}
@@ -0,0 +1,119 @@
+package com.aditya.learningManagementApp.benchmark;
+
+import com.aditya.learningManagementApp.dto.EnrollmentRequest;
+import com.aditya.learningManagementApp.dto.GradeSummary;
+import com.aditya.learningManagementApp.entities.Course;
+import com.aditya.learningManagementApp.entities.Exam;
+import com.aditya.learningManagementApp.entities.Grade;
+import com.aditya.learningManagementApp.entities.Student;
+import com.aditya.learningManagementApp.repository.EnrollmentJdbcRepository;
+import com.aditya.learningManagementApp.service.GradeService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The lookup-heavy {@link GradeService} paths against a real MySQL server,
+ * once with the driver defaults and once with the {@code prod} profile
+ * (sized fixed pool, cached server-side prepared statements). Needs a
+ * throwaway schema, which is dropped and recreated. The connection comes from
+ * environment variables, which reach the forked benchmark JVMs unchanged:
+ * <pre>
+ * LMS_BENCH_MYSQL_URL=jdbc:mysql://localhost:3306/lms_bench LMS_BENCH_MYSQL_USERNAME=root LMS_BENCH_MYSQL_PASSWORD=... \
+ *     mvn verify -Pbenchmark -Djmh.args="MySqlDatasourceBenchmark -t 8"
+ * </pre>
+ * Excluded from the default benchmark run, which has no MySQL to talk to.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class MySqlDatasourceBenchmark {
+
+    static final int GRADED_COURSES = 40;
+
+    @State(Scope.Benchmark)
+    public static class MySql {
+
+        @Param({"defaults", "prod"})
+        public String datasource;
+
+        EmbeddedLms lms;
+        GradeService gradeService;
+        final AtomicLong next = new AtomicLong();
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Map<String, String> overrides = EmbeddedLms.mySqlFromEnvironment();
+            if ("prod".equals(datasource)) {
+                overrides.put("spring.profiles.active", "prod");
+            }
+            lms = new EmbeddedLms();
+            lms.startWith(overrides);
+            gradeService = lms.bean(GradeService.class);
+
+            List<EnrollmentRequest> enrollments = new ArrayList<>(EmbeddedLms.STUDENTS * GRADED_COURSES);
+            for (int c = 0; c < GRADED_COURSES; c++) {
+                for (Long studentId : lms.studentIds) {
+                    enrollments.add(new EnrollmentRequest(studentId, lms.courseIds.get(c)));
+                }
+            }
+            lms.bean(EnrollmentJdbcRepository.class).insertEnrollments(enrollments, 1_000);
+        }
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            lms.jdbc().update("DELETE FROM grades");
+            next.set(0);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            lms.stop();
+        }
+    }
+
+    @Benchmark
+    public Grade assignGrade(MySql state) {
+        long n = state.next.getAndIncrement();
+        int courseIndex = (int) ((n / EmbeddedLms.STUDENTS) % GRADED_COURSES);
+
+        Student student = new Student();
+        student.setId(state.lms.studentIds.get((int) (n % EmbeddedLms.STUDENTS)));
+        Course course = new Course();
+        course.setId(state.lms.courseIds.get(courseIndex));
+        Exam exam = new Exam();
+        exam.setId(state.lms.examIds.get(courseIndex));
+
+        Grade grade = new Grade();
+        grade.setGrade("A");
+        grade.setStudent(student);
+        grade.setCourse(course);
+        grade.setExam(exam);
+        return state.gradeService.assignGrade(grade);
+    }
+
+    @Benchmark
+    public List<GradeSummary> gradesByStudent(MySql state) {
+        Long studentId = state.lms.studentIds.get(ThreadLocalRandom.current().nextInt(EmbeddedLms.STUDENTS));
+        return state.gradeService.getGradesByStudent(studentId);
+    }
+}
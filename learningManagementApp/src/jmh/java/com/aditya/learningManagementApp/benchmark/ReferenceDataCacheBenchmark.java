@@ -0,0 +1,110 @@
+package com.aditya.learningManagementApp.benchmark;
+
+import com.aditya.learningManagementApp.entities.Exam;
+import com.aditya.learningManagementApp.entities.Instructor;
+import com.aditya.learningManagementApp.entities.Role;
+import com.aditya.learningManagementApp.repository.ExamRepository;
+import com.aditya.learningManagementApp.repository.InstructorRepository;
+import com.aditya.learningManagementApp.repository.RoleRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The reference-data lookups behind user registration, course and exam
+ * creation, each in its own read-only transaction as the services run them:
+ * the role by name, an instructor by id, and an exam by id (which brings its
+ * course and instructor along). Runs once with the second-level and query
+ * caches and once with both switched off.
+ * <p>
+ * Uses embedded H2 unless {@code LMS_BENCH_MYSQL_URL} is set (see
+ * {@link MySqlDatasourceBenchmark}). H2 answers from the same heap, so the
+ * uncached numbers there are a floor; every miss on MySQL adds a network
+ * round trip.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ReferenceDataCacheBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Lookups {
+
+        @Param({"cached", "uncached"})
+        public String cache;
+
+        EmbeddedLms lms;
+        TransactionTemplate readOnly;
+        RoleRepository roleRepository;
+        InstructorRepository instructorRepository;
+        ExamRepository examRepository;
+        List<Long> instructorIds;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            Map<String, String> overrides = new HashMap<>();
+            if (System.getenv("LMS_BENCH_MYSQL_URL") != null) {
+                overrides.putAll(EmbeddedLms.mySqlFromEnvironment());
+            } else {
+                overrides.put("spring.datasource.url",
+                        "jdbc:h2:mem:lms-l2-" + cache + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+            }
+            if ("uncached".equals(cache)) {
+                overrides.put("spring.jpa.properties.hibernate.cache.use_second_level_cache", "false");
+                overrides.put("spring.jpa.properties.hibernate.cache.use_query_cache", "false");
+            }
+            lms = new EmbeddedLms();
+            lms.startWith(overrides);
+            readOnly = new TransactionTemplate(lms.transactions().getTransactionManager());
+            readOnly.setReadOnly(true);
+            roleRepository = lms.bean(RoleRepository.class);
+            instructorRepository = lms.bean(InstructorRepository.class);
+            examRepository = lms.bean(ExamRepository.class);
+            instructorIds = instructorRepository.findAll().stream().map(Instructor::getId).toList();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            lms.stop();
+        }
+    }
+
+    // UserService.registerUser
+    @Benchmark
+    public Role roleByName(Lookups state) {
+        return state.readOnly.execute(status -> state.roleRepository.findByName("ROLE_STUDENT").orElseThrow());
+    }
+
+    // CourseService.addCourse, ExamService.createExam
+    @Benchmark
+    public Instructor instructorById(Lookups state) {
+        Long id = state.instructorIds.get(ThreadLocalRandom.current().nextInt(state.instructorIds.size()));
+        return state.readOnly.execute(status -> state.instructorRepository.findById(id).orElseThrow());
+    }
+
+    // ExamService.assignStudentsToExam loads the exam; its course and instructor are eager
+    @Benchmark
+    public Exam examById(Lookups state) {
+        Long id = state.lms.examIds.get(ThreadLocalRandom.current().nextInt(state.lms.examIds.size()));
+        return state.readOnly.execute(status -> state.examRepository.findById(id).orElseThrow());
+    }
+}
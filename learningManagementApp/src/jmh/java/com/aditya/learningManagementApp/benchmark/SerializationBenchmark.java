@@ -0,0 +1,207 @@
+package com.aditya.learningManagementApp.benchmark;
+
+import com.aditya.learningManagementApp.dto.CourseSummary;
+import com.aditya.learningManagementApp.dto.EnrollmentRequest;
+import com.aditya.learningManagementApp.dto.ExamSummary;
+import com.aditya.learningManagementApp.dto.GradeSummary;
+import com.aditya.learningManagementApp.dto.InstructorSummary;
+import com.aditya.learningManagementApp.dto.StudentSummary;
+import com.aditya.learningManagementApp.entities.Course;
+import com.aditya.learningManagementApp.entities.Exam;
+import com.aditya.learningManagementApp.entities.Grade;
+import com.aditya.learningManagementApp.entities.Instructor;
+import com.aditya.learningManagementApp.entities.Student;
+import com.aditya.learningManagementApp.repository.CourseRepository;
+import com.aditya.learningManagementApp.repository.EnrollmentJdbcRepository;
+import com.aditya.learningManagementApp.repository.ExamRepository;
+import com.aditya.learningManagementApp.repository.GradeRepository;
+import com.aditya.learningManagementApp.repository.InstructorRepository;
+import com.aditya.learningManagementApp.repository.StudentRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.Hibernate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization, with the application's ObjectMapper, of what the
+ * controllers used to return, the entity graphs, next to the response DTOs
+ * that replaced them: courses, exams with their roster, a course's grades,
+ * the students of those exams and the instructors. Graphs are loaded and
+ * fully initialized once, so only serialization is timed; the payload size of
+ * each pair is logged during setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class SerializationBenchmark {
+
+    private static final Logger logger = LogManager.getLogger(SerializationBenchmark.class);
+
+    static final int ROSTER_EXAMS = 10;
+    static final int ROSTER_SIZE = 50;
+
+    @State(Scope.Benchmark)
+    public static class Graphs {
+
+        ObjectMapper objectMapper;
+        List<Course> courses;
+        List<CourseSummary> courseSummaries;
+        List<Exam> exams;
+        List<ExamSummary> examSummaries;
+        List<Grade> grades;
+        List<GradeSummary> gradeSummaries;
+        List<Student> students;
+        List<StudentSummary> studentSummaries;
+        List<Instructor> instructors;
+        List<InstructorSummary> instructorSummaries;
+
+        @Setup(Level.Trial)
+        public void setUp(EmbeddedLms lms) {
+            objectMapper = lms.bean(ObjectMapper.class);
+            lms.transactions().executeWithoutResult(status -> attachRosters(lms));
+            lms.transactions().executeWithoutResult(status -> load(lms));
+            logPayloadSizes();
+        }
+
+        // The first ROSTER_EXAMS exams get ROSTER_SIZE enrolled, graded students each
+        private void attachRosters(EmbeddedLms lms) {
+            StudentRepository studentRepository = lms.bean(StudentRepository.class);
+            List<EnrollmentRequest> enrollments = new ArrayList<>();
+            List<Grade> newGrades = new ArrayList<>();
+            for (int e = 0; e < ROSTER_EXAMS; e++) {
+                Exam exam = lms.bean(ExamRepository.class).findById(lms.examIds.get(e)).orElseThrow();
+                List<Student> roster = new ArrayList<>(ROSTER_SIZE);
+                for (int s = 0; s < ROSTER_SIZE; s++) {
+                    Student student = studentRepository.getReferenceById(lms.studentIds.get(e * ROSTER_SIZE + s));
+                    roster.add(student);
+                    enrollments.add(new EnrollmentRequest(student.getId(), exam.getCourse().getId()));
+
+                    Grade grade = new Grade();
+                    grade.setGrade("B");
+                    grade.setStudent(student);
+                    grade.setCourse(exam.getCourse());
+                    grade.setExam(exam);
+                    newGrades.add(grade);
+                }
+                exam.setStudents(new HashSet<>(roster));
+            }
+            lms.bean(EnrollmentJdbcRepository.class).insertEnrollments(enrollments, 1_000);
+            lms.bean(GradeRepository.class).saveAll(newGrades);
+        }
+
+        private void load(EmbeddedLms lms) {
+            courses = lms.bean(CourseRepository.class).findAll();
+            courseSummaries = lms.bean(CourseRepository.class)
+                    .findSummariesAfter(0L, PageRequest.of(0, EmbeddedLms.COURSES));
+            exams = lms.bean(ExamRepository.class).findAllById(lms.examIds.subList(0, ROSTER_EXAMS));
+            exams.forEach(exam -> exam.getStudents().forEach(student -> Hibernate.initialize(student.getCourses())));
+            grades = lms.bean(GradeRepository.class).findByCourseId(lms.courseIds.get(0));
+            grades.forEach(grade -> {
+                Hibernate.initialize(grade.getStudent().getCourses());
+                grade.getExam().getStudents().forEach(student -> Hibernate.initialize(student.getCourses()));
+            });
+            students = exams.stream().flatMap(exam -> exam.getStudents().stream()).toList();
+            instructors = lms.bean(InstructorRepository.class).findAll();
+
+            // What the controllers build from the same data
+            examSummaries = exams.stream().map(ExamSummary::from).toList();
+            gradeSummaries = lms.bean(GradeRepository.class).findSummariesByCourseId(lms.courseIds.get(0));
+            studentSummaries = students.stream().map(StudentSummary::from).toList();
+            instructorSummaries = instructors.stream().map(InstructorSummary::from).toList();
+        }
+
+        private void logPayloadSizes() {
+            Map<String, List<?>> pairs = new LinkedHashMap<>();
+            pairs.put("courses", courses);
+            pairs.put("courseSummaries", courseSummaries);
+            pairs.put("examsWithRoster", exams);
+            pairs.put("examSummaries", examSummaries);
+            pairs.put("courseGrades", grades);
+            pairs.put("courseGradeSummaries", gradeSummaries);
+            pairs.put("students", students);
+            pairs.put("studentSummaries", studentSummaries);
+            pairs.put("instructors", instructors);
+            pairs.put("instructorSummaries", instructorSummaries);
+            pairs.forEach((name, payload) -> {
+                try {
+                    logger.info("Payload {}: {} items, {} bytes", name, payload.size(),
+                            objectMapper.writeValueAsBytes(payload).length);
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+    }
+
+    @Benchmark
+    public byte[] courses(Graphs graphs) throws JsonProcessingException {
+        return graphs.objectMapper.writeValueAsBytes(graphs.courses);
+    }
+
+    @Benchmark
+    public byte[] courseSummaries(Graphs graphs) throws JsonProcessingException {
+        return graphs.objectMapper.writeValueAsBytes(graphs.courseSummaries);
+    }
+
+    @Benchmark
+    public byte[] examsWithRoster(Graphs graphs) throws JsonProcessingException {
+        return graphs.objectMapper.writeValueAsBytes(graphs.exams);
+    }
+
+    @Benchmark
+    public byte[] examSummaries(Graphs graphs) throws JsonProcessingException {
+        return graphs.objectMapper.writeValueAsBytes(graphs.examSummaries);
+    }
+
+    @Benchmark
+    public byte[] courseGrades(Graphs graphs) throws JsonProcessingException {
+        return graphs.objectMapper.writeValueAsBytes(graphs.grades);
+    }
+
+    @Benchmark
+    public byte[] courseGradeSummaries(Graphs graphs) throws JsonProcessingException {
+        return graphs.objectMapper.writeValueAsBytes(graphs.gradeSummaries);
+    }
+
+    @Benchmark
+    public byte[] students(Graphs graphs) throws JsonProcessingException {
+        return graphs.objectMapper.writeValueAsBytes(graphs.students);
+    }
+
+    @Benchmark
+    public byte[] studentSummaries(Graphs graphs) throws JsonProcessingException {
+        return graphs.objectMapper.writeValueAsBytes(graphs.studentSummaries);
+    }
+
+    @Benchmark
+    public byte[] instructors(Graphs graphs) throws JsonProcessingException {
+        return graphs.objectMapper.writeValueAsBytes(graphs.instructors);
+    }
+
+    @Benchmark
+    public byte[] instructorSummaries(Graphs graphs) throws JsonProcessingException {
+        return graphs.objectMapper.writeValueAsBytes(graphs.instructorSummaries);
+    }
+}
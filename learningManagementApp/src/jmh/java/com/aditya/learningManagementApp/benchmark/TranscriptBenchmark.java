@@ -0,0 +1,123 @@
+package com.aditya.learningManagementApp.benchmark;
+
+import com.aditya.learningManagementApp.dto.Transcript;
+import com.aditya.learningManagementApp.dto.TranscriptEntry;
+import com.aditya.learningManagementApp.repository.GradeRepository;
+import com.aditya.learningManagementApp.service.GradeScale;
+import com.aditya.learningManagementApp.service.TranscriptService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A student's transcript with {@link #GRADED_COURSES} graded courses: read
+ * through {@link TranscriptService} (totals from the student_transcripts row)
+ * against the same response computed from the student's grades on every read,
+ * once from the grade entities ({@code findByStudentId}) and once from the
+ * transcript projection.
+ * {@code rebuild} times the full backfill over every student's grades.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class TranscriptBenchmark {
+
+    static final int GRADED_COURSES = 40;
+
+    @State(Scope.Benchmark)
+    public static class Transcripts {
+
+        EmbeddedLms lms;
+        TranscriptService transcriptService;
+        GradeRepository gradeRepository;
+        TransactionTemplate readOnly;
+
+        @Setup(Level.Trial)
+        public void setUp(EmbeddedLms lms) {
+            this.lms = lms;
+            transcriptService = lms.bean(TranscriptService.class);
+            gradeRepository = lms.bean(GradeRepository.class);
+            readOnly = new TransactionTemplate(lms.transactions().getTransactionManager());
+            readOnly.setReadOnly(true);
+
+            // Grades straight into the table, cycling through the scale; the rebuild then derives points and totals
+            List<String> letters = new ArrayList<>(GradeScale.points().keySet());
+            List<Object[]> grades = new ArrayList<>(EmbeddedLms.STUDENTS * GRADED_COURSES);
+            long id = 1;
+            for (int c = 0; c < GRADED_COURSES; c++) {
+                for (Long studentId : lms.studentIds) {
+                    grades.add(new Object[]{id, lms.courseIds.get(c), lms.examIds.get(c), studentId,
+                            letters.get((int) (id % letters.size()))});
+                    id++;
+                }
+            }
+            lms.jdbc().batchUpdate("INSERT INTO grades (id, course_id, exam_id, student_id, grade) VALUES (?, ?, ?, ?, ?)", grades);
+            transcriptService.rebuildTranscripts();
+        }
+
+        Long randomStudent() {
+            return lms.studentIds.get(ThreadLocalRandom.current().nextInt(lms.studentIds.size()));
+        }
+    }
+
+    @Benchmark
+    public Transcript precomputed(Transcripts state) {
+        return state.transcriptService.getTranscript(state.randomStudent());
+    }
+
+    // Without student_transcripts: load the student's grades and sum them on every read
+    @Benchmark
+    public Transcript entitiesAggregatedOnRead(Transcripts state) {
+        Long studentId = state.randomStudent();
+        return state.readOnly.execute(status -> aggregate(studentId, state.gradeRepository.findByStudentId(studentId).stream()
+                .map(grade -> new TranscriptEntry(grade.getCourse().getId(), grade.getCourse().getTitle(),
+                        grade.getExam().getId(), grade.getGrade(), grade.getScore(), grade.getGradePoints()))
+                .toList()));
+    }
+
+    @Benchmark
+    public Transcript projectionAggregatedOnRead(Transcripts state) {
+        Long studentId = state.randomStudent();
+        return state.readOnly.execute(status -> aggregate(studentId, state.gradeRepository.findTranscriptEntries(studentId)));
+    }
+
+    private static Transcript aggregate(Long studentId, List<TranscriptEntry> grades) {
+        int gpaExamGrades = 0;
+        BigDecimal points = BigDecimal.ZERO;
+        for (TranscriptEntry entry : grades) {
+            if (entry.gradePoints() != null) {
+                gpaExamGrades++;
+                points = points.add(entry.gradePoints());
+            }
+        }
+        BigDecimal gpa = gpaExamGrades == 0 ? null : points.divide(BigDecimal.valueOf(gpaExamGrades), 2, RoundingMode.HALF_UP);
+        return new Transcript(studentId, grades.size(), gpaExamGrades, points, gpa, grades);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 1)
+    @Measurement(iterations = 5)
+    public long rebuild(Transcripts state) {
+        return state.transcriptService.rebuildTranscripts();
+    }
+}
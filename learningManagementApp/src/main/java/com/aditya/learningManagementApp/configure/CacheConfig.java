@@ -0,0 +1,55 @@
+package com.aditya.learningManagementApp.configure;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    private static final Logger logger = LogManager.getLogger(CacheConfig.class);
+
+    public static final String COURSES = "courses";
+    public static final String INSTRUCTORS = "instructors";
+    public static final String STUDENTS = "students";
+    public static final String USER_DETAILS = "userDetails";
+    public static final String VERIFIED_CREDENTIALS = "verifiedCredentials";
+
+    // Caches are registered up front so the actuator binds hit/miss/eviction metrics for each of them.
+    // Puts and @CacheEvict inside a transaction wait for its commit, so a read between the eviction and
+    // the commit cannot cache the old row again; evictIfPresent still evicts immediately
+    @Bean
+    public CacheManager cacheManager(@Value("${lms.cache.entity.maximum-size:10000}") long maximumSize,
+                                     @Value("${lms.cache.entity.ttl:PT5M}") Duration ttl,
+                                     @Value("${lms.cache.auth.maximum-size:10000}") long authMaximumSize,
+                                     @Value("${lms.cache.auth.ttl:PT2M}") Duration authTtl) {
+        logger.info("Creating Caffeine CacheManager (maximumSize={}, ttl={}, auth ttl={})", maximumSize, ttl, authTtl);
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        for (String name : List.of(COURSES, INSTRUCTORS, STUDENTS)) {
+            cacheManager.registerCustomCache(name, boundedCache(maximumSize, ttl));
+        }
+        for (String name : List.of(USER_DETAILS, VERIFIED_CREDENTIALS)) {
+            cacheManager.registerCustomCache(name, boundedCache(authMaximumSize, authTtl));
+        }
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    private static com.github.benmanes.caffeine.cache.Cache<Object, Object> boundedCache(long maximumSize, Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.aditya.learningManagementApp.configure;
+
+import com.aditya.learningManagementApp.service.UserAuthCache;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Wraps the BCrypt encoder used for login checks: a credential that already
+ * matched its stored hash within the cache TTL is accepted without running
+ * BCrypt again. Encoding is always delegated.
+ */
+public class CachingPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final UserAuthCache userAuthCache;
+
+    public CachingPasswordEncoder(PasswordEncoder delegate, UserAuthCache userAuthCache) {
+        this.delegate = delegate;
+        this.userAuthCache = userAuthCache;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return delegate.matches(rawPassword, encodedPassword);
+        }
+        if (userAuthCache.isVerified(rawPassword, encodedPassword)) {
+            return true;
+        }
+        boolean matches = delegate.matches(rawPassword, encodedPassword);
+        if (matches) {
+            userAuthCache.markVerified(rawPassword, encodedPassword);
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
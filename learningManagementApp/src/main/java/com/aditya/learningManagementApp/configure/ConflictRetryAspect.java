@@ -0,0 +1,76 @@
+package com.aditya.learningManagementApp.configure;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Re-runs {@link RetryOnConflict} methods that fail with a transient conflict,
+ * with exponential backoff and full jitter so colliding requests spread out
+ * instead of colliding again. Ordered ahead of the transaction interceptor, so
+ * each attempt runs in a fresh transaction; a call that joins an outer
+ * transaction is not retried here, the outermost caller owns that decision.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class ConflictRetryAspect {
+
+    private static final Logger logger = LogManager.getLogger(ConflictRetryAspect.class);
+
+    private final ServiceMetrics serviceMetrics;
+
+    @Value("${lms.retry.conflict.max-attempts:4}")
+    private int maxAttempts = 4;
+
+    @Value("${lms.retry.conflict.initial-backoff:PT0.02S}")
+    private Duration initialBackoff = Duration.ofMillis(20);
+
+    @Value("${lms.retry.conflict.max-backoff:PT0.5S}")
+    private Duration maxBackoff = Duration.ofMillis(500);
+
+    public ConflictRetryAspect(ServiceMetrics serviceMetrics) {
+        this.serviceMetrics = serviceMetrics;
+    }
+
+    @Around("@annotation(com.aditya.learningManagementApp.configure.RetryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        String service = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String operation = joinPoint.getSignature().getName();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (ConcurrencyFailureException | DuplicateKeyException e) {
+                if (attempt >= maxAttempts) {
+                    logger.warn("{}.{} still conflicting after {} attempts: {}", service, operation, attempt, e.getMessage());
+                    throw e;
+                }
+                serviceMetrics.recordRetry(service, operation, e);
+                long backoff = backoffMillis(attempt);
+                logger.debug("{}.{} conflicted on attempt {}, retrying in {} ms", service, operation, attempt, backoff);
+                Thread.sleep(backoff);
+            }
+        }
+    }
+
+    // Full jitter: uniform in [0, min(max, initial * 2^(attempt - 1))]
+    long backoffMillis(int attempt) {
+        long ceiling = Math.min(maxBackoff.toMillis(), initialBackoff.toMillis() << Math.min(attempt - 1, 20));
+        return ThreadLocalRandom.current().nextLong(ceiling + 1);
+    }
+}
@@ -0,0 +1,92 @@
+package com.aditya.learningManagementApp.configure;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Sends {@code @Transactional(readOnly = true)} work to a read replica and
+ * everything else to the primary. Active only when
+ * {@code lms.datasource.replica.url} is set; otherwise Spring Boot's single
+ * data source is used unchanged.
+ * <p>
+ * The lazy proxy defers borrowing a physical connection until the first
+ * statement, by which time the transaction's read-only flag is known.
+ */
+@Configuration
+@ConditionalOnExpression("!'${lms.datasource.replica.url:}'.isEmpty()")
+public class ReadReplicaConfig {
+
+    private static final Logger logger = LogManager.getLogger(ReadReplicaConfig.class);
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    @ConfigurationProperties("lms.datasource.replica.hikari")
+    public HikariDataSource replicaDataSource(DataSourceProperties properties,
+                                              @Value("${lms.datasource.replica.url}") String url,
+                                              @Value("${lms.datasource.replica.username:${spring.datasource.username:}}") String username,
+                                              @Value("${lms.datasource.replica.password:${spring.datasource.password:}}") String password) {
+        HikariDataSource replica = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        replica.setPoolName("lms-replica");
+        replica.setReadOnly(true);
+        return replica;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replica,
+                                               @Value("${lms.datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+                                               @Value("${lms.datasource.replica.max-lag:PT5S}") Duration maxLag,
+                                               @Value("${lms.datasource.replica.check-interval:PT5S}") Duration checkInterval,
+                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        logger.info("Routing read-only transactions to the read replica (max lag {}, checked every {})", maxLag, checkInterval);
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, lagQuery, maxLag);
+        meterRegistry.ifAvailable(registry -> {
+            Gauge.builder("lms.datasource.replica.usable", monitor, m -> m.isUsable() ? 1 : 0)
+                    .description("1 while read-only transactions are served by the replica")
+                    .register(registry);
+            Gauge.builder("lms.datasource.replica.lag", monitor, ReplicaLagMonitor::getLagSeconds)
+                    .description("Replication lag at the last check, -1 when unknown")
+                    .baseUnit("seconds")
+                    .register(registry);
+        });
+        monitor.start(checkInterval);
+        return monitor;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primary,
+                                 @Qualifier("replicaDataSource") DataSource replica,
+                                 ReplicaLagMonitor monitor) {
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+        routing.setReadOnlyDataSource(new ReplicaFallbackDataSource(replica, primary, monitor));
+        return routing;
+    }
+}
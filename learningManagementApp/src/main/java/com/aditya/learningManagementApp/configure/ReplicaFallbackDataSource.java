@@ -0,0 +1,51 @@
+package com.aditya.learningManagementApp.configure;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+/**
+ * The data source read-only transactions get their connection from: the
+ * replica while {@link ReplicaLagMonitor} considers it usable, the primary
+ * otherwise or when borrowing from the replica fails.
+ */
+public class ReplicaFallbackDataSource extends AbstractDataSource {
+
+    private final DataSource replica;
+    private final DataSource primary;
+    private final ReplicaLagMonitor monitor;
+
+    public ReplicaFallbackDataSource(DataSource replica, DataSource primary, ReplicaLagMonitor monitor) {
+        this.replica = replica;
+        this.primary = primary;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return connect(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return connect(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection connect(Borrow borrow) throws SQLException {
+        if (monitor.isUsable()) {
+            try {
+                return borrow.from(replica);
+            } catch (SQLException | RuntimeException e) {
+                monitor.markUnavailable(e);
+            }
+        }
+        return borrow.from(primary);
+    }
+
+    @FunctionalInterface
+    private interface Borrow {
+        Connection from(DataSource dataSource) throws SQLException;
+    }
+}
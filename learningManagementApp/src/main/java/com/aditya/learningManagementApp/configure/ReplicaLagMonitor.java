@@ -0,0 +1,114 @@
+package com.aditya.learningManagementApp.configure;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides whether the read replica may serve reads. A background check runs
+ * the lag query every interval; the replica is usable when it answers and is
+ * at most {@code maxLag} behind. A replica that is not replicating at all (the
+ * query returns no row, e.g. a second standalone instance) counts as current.
+ * Until the first check passes, reads stay on the primary.
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final Logger logger = LogManager.getLogger(ReplicaLagMonitor.class);
+
+    private static final String[] LAG_COLUMNS = {"Seconds_Behind_Source", "Seconds_Behind_Master"};
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final ScheduledExecutorService scheduler;
+
+    private volatile boolean usable;
+    private volatile long lagSeconds = -1;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void start(Duration interval) {
+        scheduler.scheduleWithFixedDelay(this::check, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public boolean isUsable() {
+        return usable;
+    }
+
+    // Last measured lag in seconds; -1 when unknown (unreachable, replication stopped, not checked yet)
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    // A read failed on the replica: keep reads on the primary until the next check passes
+    public void markUnavailable(Exception cause) {
+        if (usable) {
+            logger.warn("Read replica failed, routing reads to the primary: {}", cause.getMessage());
+        }
+        usable = false;
+        lagSeconds = -1;
+    }
+
+    public void check() {
+        Long lag;
+        try (Connection connection = replica.getConnection()) {
+            lag = lagQuery == null || lagQuery.isBlank() ? Long.valueOf(0) : queryLag(connection);
+        } catch (SQLException | RuntimeException e) {
+            logger.debug("Replica check failed", e);
+            lag = null;
+        }
+        boolean nowUsable = lag != null && lag <= maxLag.toSeconds();
+        if (nowUsable != usable) {
+            logger.warn(nowUsable ? "Read replica usable again (lag {}s)" : "Read replica unusable (lag {}s, max {}s), reads go to the primary",
+                    lag, maxLag.toSeconds());
+        }
+        lagSeconds = lag == null ? -1 : lag;
+        usable = nowUsable;
+    }
+
+    // Null when replication is configured but stopped (the lag column is NULL)
+    private Long queryLag(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                return 0L;
+            }
+            ResultSetMetaData metaData = rs.getMetaData();
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                for (String column : LAG_COLUMNS) {
+                    if (column.equalsIgnoreCase(metaData.getColumnLabel(i))) {
+                        long lag = rs.getLong(i);
+                        return rs.wasNull() ? null : lag;
+                    }
+                }
+            }
+            // A custom query: the first column is the lag in seconds
+            long lag = rs.getLong(1);
+            return rs.wasNull() ? null : lag;
+        }
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
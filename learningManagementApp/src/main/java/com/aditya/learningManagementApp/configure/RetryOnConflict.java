@@ -0,0 +1,18 @@
+package com.aditya.learningManagementApp.configure;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a transactional service method whose whole transaction may be re-run
+ * when it loses a race with a concurrent one (deadlock, lock timeout,
+ * optimistic-lock failure, duplicate key). The method must be safe to repeat
+ * from the start, so it cannot consume one-shot input such as a stream.
+ * See {@link ConflictRetryAspect}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
@@ -0,0 +1,83 @@
+package com.aditya.learningManagementApp.configure;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/**
+ * Hibernate second-level cache for the reference data that is read far more
+ * often than it is written: roles, instructors with their course lists, and
+ * courses, plus cached results for the role and instructor finders. Every
+ * region is a bounded Caffeine cache behind the JCache API, with the size and
+ * time to live configured under {@code lms.cache.hibernate.*}. Hibernate
+ * refuses to start if an entity asks for a region that is not created here.
+ * <p>
+ * Each session factory gets its own JCache manager, so two application
+ * contexts in one JVM (tests, benchmarks) never share entries. Hibernate
+ * closes it together with the session factory.
+ */
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final Logger logger = LogManager.getLogger(SecondLevelCacheConfig.class);
+
+    public static final String ROLES = "lms.roles";
+    public static final String INSTRUCTORS = "lms.instructors";
+    public static final String INSTRUCTOR_COURSES = "lms.instructors.courses";
+    public static final String COURSES = "lms.courses";
+    public static final String ROLE_QUERIES = "lms.queries.roles";
+    public static final String INSTRUCTOR_QUERIES = "lms.queries.instructors";
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheRegions(
+            @Value("${lms.cache.hibernate.roles.maximum-size:100}") long rolesMaximumSize,
+            @Value("${lms.cache.hibernate.roles.ttl:PT1H}") Duration rolesTtl,
+            @Value("${lms.cache.hibernate.instructors.maximum-size:10000}") long instructorsMaximumSize,
+            @Value("${lms.cache.hibernate.instructors.ttl:PT10M}") Duration instructorsTtl,
+            @Value("${lms.cache.hibernate.courses.maximum-size:10000}") long coursesMaximumSize,
+            @Value("${lms.cache.hibernate.courses.ttl:PT10M}") Duration coursesTtl,
+            @Value("${lms.cache.hibernate.queries.maximum-size:1000}") long queriesMaximumSize,
+            @Value("${lms.cache.hibernate.queries.ttl:PT5M}") Duration queriesTtl) {
+        return properties -> {
+            logger.info("Creating second-level cache regions (roles {}/{}, instructors {}/{}, courses {}/{}, queries {}/{})",
+                    rolesMaximumSize, rolesTtl, instructorsMaximumSize, instructorsTtl,
+                    coursesMaximumSize, coursesTtl, queriesMaximumSize, queriesTtl);
+            CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                    .getCacheManager(URI.create("lms-hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+
+            createRegion(cacheManager, ROLES, rolesMaximumSize, rolesTtl);
+            createRegion(cacheManager, INSTRUCTORS, instructorsMaximumSize, instructorsTtl);
+            createRegion(cacheManager, INSTRUCTOR_COURSES, instructorsMaximumSize, instructorsTtl);
+            createRegion(cacheManager, COURSES, coursesMaximumSize, coursesTtl);
+            createRegion(cacheManager, ROLE_QUERIES, queriesMaximumSize, queriesTtl);
+            createRegion(cacheManager, INSTRUCTOR_QUERIES, queriesMaximumSize, queriesTtl);
+            createRegion(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, queriesMaximumSize, queriesTtl);
+            // Last-change time per table, which every cached query result is checked against; must never be evicted
+            cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                    new CaffeineConfiguration<>());
+
+            properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+        };
+    }
+
+    private static void createRegion(CacheManager cacheManager, String region, long maximumSize, Duration ttl) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(ttl.toNanos()));
+        cacheManager.createCache(region, configuration);
+    }
+}
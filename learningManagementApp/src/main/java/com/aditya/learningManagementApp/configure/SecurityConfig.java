@@ -1,7 +1,6 @@
 package com.aditya.learningManagementApp.configure;
 
-import com.aditya.learningManagementApp.service.CustomUserDetailsService;
-import com.aditya.learningManagementApp.service.UserService;
+import com.aditya.learningManagementApp.service.UserAuthCache;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.context.annotation.Bean;
@@ -12,8 +11,8 @@ import org.springframework.security.authentication.dao.DaoAuthenticationProvider
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
 
 import static org.springframework.security.config.Customizer.withDefaults;
@@ -25,15 +24,19 @@ public class SecurityConfig {
 
     private final UserDetailsService userDetailsService;
     private final PasswordEncoder passwordEncoder;
+    private final UserAuthCache userAuthCache;
 
-    public SecurityConfig(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder) {
+    public SecurityConfig(UserDetailsService userDetailsService, PasswordEncoder passwordEncoder,
+                          UserAuthCache userAuthCache) {
         this.userDetailsService = userDetailsService;
         this.passwordEncoder = passwordEncoder;
+        this.userAuthCache = userAuthCache;
         logger.info("SecurityConfig initialized with custom UserDetailsService and PasswordEncoder");
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   JwtAuthenticationConverter jwtAuthenticationConverter) throws Exception {
         logger.info("Configuring SecurityFilterChain");
         http.csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
@@ -41,10 +44,16 @@ public class SecurityConfig {
                         .requestMatchers("/student/**").hasAnyAuthority("ROLE_STUDENT", "ROLE_ADMIN")
                         .requestMatchers("/instructor/**").hasAnyAuthority("ROLE_INSTRUCTOR", "ROLE_ADMIN")
                         .requestMatchers("/course/**").hasAuthority("ROLE_ADMIN")
+                        .requestMatchers("/users/me/**").authenticated()
+                        .requestMatchers("/users/**").hasAuthority("ROLE_ADMIN")
+                        .requestMatchers("/grade/transcripts/rebuild", "/grade/distributions/rebuild").hasAuthority("ROLE_ADMIN")
                         .anyRequest().authenticated()
                 )
                 .formLogin(login -> login.permitAll())
-                .httpBasic(withDefaults());
+                .httpBasic(withDefaults())
+                // Bearer tokens from /auth/token are verified by HMAC signature only
+                .oauth2ResourceServer(oauth2 -> oauth2
+                        .jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthenticationConverter)));
 
         logger.info("SecurityFilterChain configured successfully");
         return http.build();
@@ -55,7 +64,10 @@ public class SecurityConfig {
         logger.info("Creating DaoAuthenticationProvider bean");
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
         provider.setUserDetailsService(userDetailsService);
-        provider.setPasswordEncoder(passwordEncoder);
+        provider.setUserCache(userAuthCache);
+        provider.setPasswordEncoder(userAuthCache.isEnabled()
+                ? new CachingPasswordEncoder(passwordEncoder, userAuthCache)
+                : passwordEncoder);
         return provider;
     }
 
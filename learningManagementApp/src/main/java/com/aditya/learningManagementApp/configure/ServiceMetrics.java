@@ -0,0 +1,66 @@
+package com.aditya.learningManagementApp.configure;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * Domain metrics for the service layer. Every public service operation is timed
+ * by {@link ServiceMetricsAspect}; the timer's count per outcome doubles as the
+ * success/failure counter. Services report how many items a call carried
+ * (rows per bulk enrollment, students per exam assignment, ...) through
+ * {@link #recordPayload}. Transactions re-run after a concurrency conflict are
+ * counted by {@link #recordRetry}.
+ */
+@Component
+public class ServiceMetrics {
+
+    public static final String OPERATION_TIMER = "lms.service.operation";
+    public static final String PAYLOAD_SUMMARY = "lms.service.payload";
+    public static final String RETRY_COUNTER = "lms.service.retries";
+
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_FAILURE = "failure";
+
+    private final MeterRegistry meterRegistry;
+
+    public ServiceMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void stop(Timer.Sample sample, String service, String operation, Throwable failure) {
+        sample.stop(Timer.builder(OPERATION_TIMER)
+                .description("Service operation latency")
+                .tag("service", service)
+                .tag("operation", operation)
+                .tag("outcome", failure == null ? OUTCOME_SUCCESS : OUTCOME_FAILURE)
+                .tag("exception", failure == null ? "none" : failure.getClass().getSimpleName())
+                .register(meterRegistry));
+    }
+
+    public void recordPayload(Class<?> service, String operation, long items) {
+        DistributionSummary.builder(PAYLOAD_SUMMARY)
+                .description("Items carried by a single service call")
+                .baseUnit("items")
+                .tag("service", service.getSimpleName())
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(items);
+    }
+
+    public void recordRetry(String service, String operation, Throwable conflict) {
+        Counter.builder(RETRY_COUNTER)
+                .description("Service operations re-run after a concurrency conflict")
+                .tag("service", service)
+                .tag("operation", operation)
+                .tag("exception", conflict.getClass().getSimpleName())
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,38 @@
+package com.aditya.learningManagementApp.configure;
+
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Times every public method of the {@code *Service} beans, tagged by service,
+ * operation and outcome. Calls a service makes on itself bypass the proxy and
+ * are not timed separately.
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    private final ServiceMetrics serviceMetrics;
+
+    public ServiceMetricsAspect(ServiceMetrics serviceMetrics) {
+        this.serviceMetrics = serviceMetrics;
+    }
+
+    @Around("execution(public * com.aditya.learningManagementApp.service.*Service.*(..))")
+    public Object timeOperation(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = serviceMetrics.start();
+        Throwable failure = null;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable t) {
+            failure = t;
+            throw t;
+        } finally {
+            serviceMetrics.stop(sample, joinPoint.getSignature().getDeclaringType().getSimpleName(),
+                    joinPoint.getSignature().getName(), failure);
+        }
+    }
+}
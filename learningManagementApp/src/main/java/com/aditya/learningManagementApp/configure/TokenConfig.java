@@ -0,0 +1,86 @@
+package com.aditya.learningManagementApp.configure;
+
+import com.nimbusds.jose.jwk.source.ImmutableSecret;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.util.Base64;
+
+/**
+ * HMAC-signed (HS256) access and refresh tokens. Verifying a token needs only
+ * the shared secret: no user lookup and no password hashing.
+ */
+@Configuration
+public class TokenConfig {
+
+    private static final Logger logger = LogManager.getLogger(TokenConfig.class);
+
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLES = "roles";
+    public static final String CLAIM_TOKEN_TYPE = "token_type";
+    public static final String CLAIM_TOKEN_VERSION = "ver";
+    public static final String ACCESS_TOKEN = "access";
+    public static final String REFRESH_TOKEN = "refresh";
+
+    @Bean
+    public SecretKey tokenSigningKey(@Value("${lms.auth.token.secret:}") String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("lms.auth.token.secret is not set; provide a base64 key through LMS_TOKEN_SECRET");
+        }
+        byte[] keyBytes = Base64.getDecoder().decode(secret);
+        if (keyBytes.length < 32) {
+            throw new IllegalStateException("lms.auth.token.secret must decode to at least 256 bits");
+        }
+        return new SecretKeySpec(keyBytes, "HmacSHA256");
+    }
+
+    @Bean
+    public JwtEncoder jwtEncoder(SecretKey tokenSigningKey) {
+        logger.info("Creating HS256 JwtEncoder bean");
+        return new NimbusJwtEncoder(new ImmutableSecret<>(tokenSigningKey));
+    }
+
+    // Used by the resource server filter; refresh tokens are rejected here
+    @Bean
+    public JwtDecoder jwtDecoder(SecretKey tokenSigningKey) {
+        logger.info("Creating HS256 JwtDecoder bean for access tokens");
+        return decoderFor(tokenSigningKey, ACCESS_TOKEN);
+    }
+
+    @Bean
+    public JwtAuthenticationConverter jwtAuthenticationConverter() {
+        JwtGrantedAuthoritiesConverter authoritiesConverter = new JwtGrantedAuthoritiesConverter();
+        authoritiesConverter.setAuthoritiesClaimName(CLAIM_ROLES);
+        authoritiesConverter.setAuthorityPrefix(""); // role names are already stored as ROLE_*
+        JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
+        converter.setJwtGrantedAuthoritiesConverter(authoritiesConverter);
+        return converter;
+    }
+
+    public static JwtDecoder decoderFor(SecretKey key, String tokenType) {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withSecretKey(key).macAlgorithm(MacAlgorithm.HS256).build();
+        OAuth2TokenValidator<Jwt> typeValidator = jwt -> tokenType.equals(jwt.getClaimAsString(CLAIM_TOKEN_TYPE))
+                ? OAuth2TokenValidatorResult.success()
+                : OAuth2TokenValidatorResult.failure(new OAuth2Error("invalid_token", "Expected a " + tokenType + " token", null));
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(JwtValidators.createDefault(), typeValidator));
+        return decoder;
+    }
+}
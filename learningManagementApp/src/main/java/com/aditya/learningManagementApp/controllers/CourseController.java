@@ -1,5 +1,7 @@
 package com.aditya.learningManagementApp.controllers;
 
+import com.aditya.learningManagementApp.dto.CourseEnrollmentCount;
+import com.aditya.learningManagementApp.dto.CourseSummary;
 import com.aditya.learningManagementApp.entities.Course;
 import com.aditya.learningManagementApp.service.CourseService;
 import org.apache.logging.log4j.LogManager;
@@ -16,23 +18,25 @@ public class CourseController {
 
     private static final Logger logger = LogManager.getLogger(CourseController.class);
 
+    static final String NEXT_AFTER_ID_HEADER = "X-Next-After-Id";
+
     @Autowired
     private CourseService courseService;
 
     @PostMapping("/add")
-    public ResponseEntity<Course> addCourse(@RequestBody Course course, @RequestParam Long instructorId) {
+    public ResponseEntity<CourseSummary> addCourse(@RequestBody Course course, @RequestParam Long instructorId) {
         logger.info("Received request to add course: {} for instructorId: {}",instructorId);
         Course addedCourse = courseService.addCourse(course, instructorId);
         logger.info("Course added successfully with ID: {}", addedCourse.getId());
-        return ResponseEntity.ok(addedCourse);
+        return ResponseEntity.ok(CourseSummary.from(addedCourse));
     }
 
     @PutMapping("/update/{id}")
-    public ResponseEntity<Course> updateCourse(@PathVariable Long id, @RequestBody Course course) {
+    public ResponseEntity<CourseSummary> updateCourse(@PathVariable Long id, @RequestBody Course course) {
         logger.info("Received request to update course with ID: {}", id);
         Course updatedCourse = courseService.updateCourse(id, course);
         logger.info("Course updated successfully: {}", updatedCourse.getId());
-        return ResponseEntity.ok(updatedCourse);
+        return ResponseEntity.ok(CourseSummary.from(updatedCourse));
     }
 
     @DeleteMapping("/delete/{id}")
@@ -43,18 +47,31 @@ public class CourseController {
         return ResponseEntity.ok("Course deleted successfully!");
     }
 
+    // Keyset-paginated listing; the next page starts after the id in the X-Next-After-Id header
     @GetMapping("/all")
-    public ResponseEntity<List<Course>> getAllCourses() {
-        logger.info("Fetching all courses");
-        List<Course> courses = courseService.getAllCourses();
+    public ResponseEntity<List<CourseSummary>> getAllCourses(@RequestParam(required = false) Long afterId,
+                                                             @RequestParam(required = false) Long instructorId,
+                                                             @RequestParam(defaultValue = "" + CourseService.DEFAULT_PAGE_SIZE) int limit) {
+        logger.info("Fetching courses after ID {} (instructor: {}, limit: {})", afterId, instructorId, limit);
+        List<CourseSummary> courses = courseService.getCourseSummaries(afterId, instructorId, limit);
         logger.info("Total courses found: {}", courses.size());
-        return ResponseEntity.ok(courses);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (!courses.isEmpty()) {
+            response.header(NEXT_AFTER_ID_HEADER, String.valueOf(courses.get(courses.size() - 1).id()));
+        }
+        return response.body(courses);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Course> getCourseById(@PathVariable Long id) {
+    public ResponseEntity<CourseSummary> getCourseById(@PathVariable Long id) {
         logger.info("Fetching course with ID: {}", id);
-        Course course = courseService.getCourseById(id);
+        CourseSummary course = courseService.getCourseById(id);
         return ResponseEntity.ok(course);
     }
+
+    @GetMapping("/{id}/enrollment")
+    public ResponseEntity<CourseEnrollmentCount> getEnrollmentCount(@PathVariable Long id) {
+        logger.info("Fetching enrollment count for course ID: {}", id);
+        return ResponseEntity.ok(courseService.getEnrollmentCount(id));
+    }
 }
@@ -1,13 +1,23 @@
 package com.aditya.learningManagementApp.controllers;
 
+import com.aditya.learningManagementApp.dto.EnrollmentRequest;
+import com.aditya.learningManagementApp.dto.EnrollmentResult;
 import com.aditya.learningManagementApp.service.CourseEnrollmentService;
-import jakarta.transaction.Transactional;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+
 @RestController
 @RequestMapping("/course/enrollment")
 public class CourseEnrollmentController {
@@ -18,7 +28,6 @@ public class CourseEnrollmentController {
     private CourseEnrollmentService enrollmentService;
 
     @PostMapping("/enroll")
-    @Transactional
     public ResponseEntity<String> enroll(@RequestParam Long studentId, @RequestParam Long courseId) {
         logger.info("Enrollment request: studentId={}, courseId={}", studentId, courseId);
         try {
@@ -33,6 +42,15 @@ public class CourseEnrollmentController {
         } catch (IllegalArgumentException e) {
             logger.error("Enrollment error: {}", e.getMessage());
             return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        } catch (IllegalStateException e) {
+            logger.warn("Enrollment rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: " + e.getMessage());
+        } catch (ConcurrencyFailureException e) {
+            logger.warn("Enrollment of student {} into course {} kept conflicting: {}", studentId, courseId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: Too many concurrent changes to this course, please retry.");
+        } catch (DataAccessResourceFailureException | CannotCreateTransactionException e) {
+            // Pool timeouts: GlobalExceptionHandler answers 503 with Retry-After
+            throw e;
         } catch (Exception e) {
             logger.error("Unexpected error during enrollment", e);
             return ResponseEntity.internalServerError().body("Internal Server Error: " + e.getMessage());
@@ -40,7 +58,6 @@ public class CourseEnrollmentController {
     }
 
     @DeleteMapping("/unenroll")
-    @Transactional
     public ResponseEntity<String> unenroll(@RequestParam Long studentId, @RequestParam Long courseId) {
         logger.info("Unenrollment request: studentId={}, courseId={}", studentId, courseId);
         try {
@@ -55,9 +72,29 @@ public class CourseEnrollmentController {
         } catch (IllegalArgumentException e) {
             logger.error("Unenrollment error: {}", e.getMessage());
             return ResponseEntity.badRequest().body("Error: " + e.getMessage());
+        } catch (ConcurrencyFailureException e) {
+            logger.warn("Unenrollment of student {} from course {} kept conflicting: {}", studentId, courseId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("Error: Too many concurrent changes to this course, please retry.");
+        } catch (DataAccessResourceFailureException | CannotCreateTransactionException e) {
+            // Pool timeouts: GlobalExceptionHandler answers 503 with Retry-After
+            throw e;
         } catch (Exception e) {
             logger.error("Unexpected error during unenrollment", e);
             return ResponseEntity.internalServerError().body("Internal Server Error: " + e.getMessage());
         }
     }
+
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<List<EnrollmentResult>> bulkEnroll(@RequestBody List<EnrollmentRequest> requests) {
+        logger.info("Bulk enrollment request with {} rows", requests.size());
+        List<EnrollmentResult> results = enrollmentService.bulkEnroll(requests);
+        return ResponseEntity.ok(results);
+    }
+
+    @PostMapping(value = "/bulk", consumes = "text/csv")
+    public ResponseEntity<List<EnrollmentResult>> bulkEnrollCsv(Reader body) throws IOException {
+        logger.info("Bulk enrollment request from CSV upload");
+        List<EnrollmentResult> results = enrollmentService.bulkEnrollCsv(body);
+        return ResponseEntity.ok(results);
+    }
 }
@@ -1,5 +1,6 @@
 package com.aditya.learningManagementApp.controllers;
 
+import com.aditya.learningManagementApp.dto.ExamSummary;
 import com.aditya.learningManagementApp.entities.Exam;
 import com.aditya.learningManagementApp.service.ExamService;
 import org.apache.logging.log4j.LogManager;
@@ -21,37 +22,56 @@ public class ExamController {
 
     //  Create a new exam
     @PostMapping("/create")
-    public ResponseEntity<Exam> createExam(@RequestBody Exam exam) {
+    public ResponseEntity<ExamSummary> createExam(@RequestBody Exam exam) {
         Exam createdExam = examService.createExam(exam);
         logger.info("Exam created with ID: {}", createdExam.getId());
-        return ResponseEntity.ok(createdExam);
+        return ResponseEntity.ok(ExamSummary.from(createdExam));
     }
 
     //  Get all exams for an instructor
     @GetMapping("/instructor/{instructorId}")
-    public ResponseEntity<List<Exam>> getExamsByInstructor(@PathVariable Long instructorId) {
+    public ResponseEntity<List<ExamSummary>> getExamsByInstructor(@PathVariable Long instructorId,
+                                                                  @RequestParam(defaultValue = "false") boolean includeStudents) {
         logger.info("Fetching exams for instructor with ID: {}", instructorId);
-        List<Exam> exams = examService.getExamsByInstructor(instructorId);
+        List<ExamSummary> exams = examService.getExamsByInstructor(instructorId, includeStudents);
         logger.info("Found {} exams for instructor {}", exams.size(), instructorId);
         return ResponseEntity.ok(exams);
     }
 
     //  Get all exams assigned to a student
     @GetMapping("/student/{studentId}")
-    public ResponseEntity<List<Exam>> getExamsByStudent(@PathVariable Long studentId) {
+    public ResponseEntity<List<ExamSummary>> getExamsByStudent(@PathVariable Long studentId,
+                                                               @RequestParam(defaultValue = "false") boolean includeStudents) {
         logger.info("Fetching exams for student with ID: {}", studentId);
-        List<Exam> exams = examService.getExamsByStudent(studentId);
+        List<ExamSummary> exams = examService.getExamsByStudent(studentId, includeStudents);
         logger.info("Found {} exams for student {}", exams.size(), studentId);
         return ResponseEntity.ok(exams);
     }
 
-    //  Assign students to an exam
+    //  Assign students to an exam; the roster itself is read through the listings with includeStudents=true
     @PostMapping("/assign/{examId}")
-    public ResponseEntity<Exam> assignStudentsToExam(@PathVariable Long examId, @RequestBody List<Long> studentIds) {
+    public ResponseEntity<ExamSummary> assignStudentsToExam(@PathVariable Long examId, @RequestBody List<Long> studentIds) {
         logger.info("Assigning students {} to exam ID: {}", studentIds, examId);
         Exam updatedExam = examService.assignStudentsToExam(examId, studentIds);
         logger.info("Students assigned to exam ID: {}", examId);
-        return ResponseEntity.ok(updatedExam);
+        return ResponseEntity.ok(ExamSummary.from(updatedExam));
+    }
+
+    //  Remove students from an exam; only their rows are deleted from the roster
+    @DeleteMapping("/assign/{examId}")
+    public ResponseEntity<ExamSummary> removeStudentsFromExam(@PathVariable Long examId, @RequestParam List<Long> studentIds) {
+        logger.info("Removing students {} from exam ID: {}", studentIds, examId);
+        Exam updatedExam = examService.removeStudentsFromExam(examId, studentIds);
+        return ResponseEntity.ok(ExamSummary.from(updatedExam));
+    }
+
+    //  Assign every student enrolled in the exam's course; returns how many were added
+    @PostMapping("/assign/{examId}/course-roster")
+    public ResponseEntity<Integer> assignCourseRosterToExam(@PathVariable Long examId) {
+        logger.info("Assigning the course roster to exam ID: {}", examId);
+        int added = examService.assignCourseRosterToExam(examId);
+        logger.info("Assigned {} students to exam ID: {}", added, examId);
+        return ResponseEntity.ok(added);
     }
 
     // Delete an exam
@@ -1,12 +1,23 @@
 package com.aditya.learningManagementApp.controllers;
 
+import com.aditya.learningManagementApp.dto.ExportFormat;
+import com.aditya.learningManagementApp.dto.GradeBatchResult;
+import com.aditya.learningManagementApp.dto.GradeDistributionSummary;
+import com.aditya.learningManagementApp.dto.GradeEntry;
+import com.aditya.learningManagementApp.dto.GradeSummary;
+import com.aditya.learningManagementApp.dto.GradeUpdate;
+import com.aditya.learningManagementApp.dto.Transcript;
 import com.aditya.learningManagementApp.entities.Grade;
+import com.aditya.learningManagementApp.service.GradeAnalyticsService;
 import com.aditya.learningManagementApp.service.GradeService;
+import com.aditya.learningManagementApp.service.TranscriptService;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -19,17 +30,51 @@ public class GradeController {
     @Autowired
     private GradeService gradeService;
 
+    @Autowired
+    private TranscriptService transcriptService;
+
+    @Autowired
+    private GradeAnalyticsService gradeAnalyticsService;
+
     @PostMapping("/assign")
-    public ResponseEntity<Grade> assignGrade(@RequestBody Grade grade) {
+    public ResponseEntity<GradeSummary> assignGrade(@RequestBody Grade grade) {
         logger.info("Assigning grade for studentId={} in courseId={}", grade.getStudent().getId(), grade.getCourse().getId());
         Grade assignedGrade = gradeService.assignGrade(grade);
-        return ResponseEntity.ok(assignedGrade);
+        return ResponseEntity.ok(GradeSummary.from(assignedGrade));
+    }
+
+    @PostMapping("/exam/{examId}/batch")
+    public ResponseEntity<List<GradeBatchResult>> assignGradesForExam(@PathVariable Long examId,
+                                                                      @RequestBody List<GradeEntry> entries) {
+        logger.info("Batch grading request for examId={} with {} rows", examId, entries.size());
+        List<GradeBatchResult> results = gradeService.assignGradesForExam(examId, entries);
+        return ResponseEntity.ok(results);
+    }
+
+    @PutMapping("/{gradeId}")
+    public ResponseEntity<GradeSummary> changeGrade(@PathVariable Long gradeId, @RequestBody GradeUpdate update) {
+        logger.info("Changing gradeId={}", gradeId);
+        Grade grade = gradeService.changeGrade(gradeId, update);
+        return ResponseEntity.ok(GradeSummary.from(grade));
+    }
+
+    @GetMapping("/student/{studentId}/transcript")
+    public ResponseEntity<Transcript> getTranscript(@PathVariable Long studentId) {
+        logger.info("Fetching transcript for studentId={}", studentId);
+        return ResponseEntity.ok(transcriptService.getTranscript(studentId));
+    }
+
+    // Backfill: recomputes grade points and every student's transcript from the grades table
+    @PostMapping("/transcripts/rebuild")
+    public ResponseEntity<Long> rebuildTranscripts() {
+        logger.info("Rebuilding all transcripts");
+        return ResponseEntity.ok(transcriptService.rebuildTranscripts());
     }
 
     @GetMapping("/student/{studentId}")
-    public ResponseEntity<List<Grade>> getGradesByStudent(@PathVariable Long studentId) {
+    public ResponseEntity<List<GradeSummary>> getGradesByStudent(@PathVariable Long studentId) {
         logger.info("Fetching grades for studentId={}", studentId);
-        List<Grade> grades = gradeService.getGradesByStudent(studentId);
+        List<GradeSummary> grades = gradeService.getGradesByStudent(studentId);
         if (grades.isEmpty()) {
             logger.warn("No grades found for studentId={}", studentId);
             return ResponseEntity.noContent().build();
@@ -39,10 +84,40 @@ public class GradeController {
     }
 
     @GetMapping("/course/{courseId}")
-    public ResponseEntity<List<Grade>> getGradesByCourse(@PathVariable Long courseId) {
+    public ResponseEntity<List<GradeSummary>> getGradesByCourse(@PathVariable Long courseId) {
         logger.info("Fetching grades for courseId={}", courseId);
-        List<Grade> grades = gradeService.getGradesByCourse(courseId);
+        List<GradeSummary> grades = gradeService.getGradesByCourse(courseId);
         logger.info("Found {} grades for courseId={}", grades.size(), courseId);
         return ResponseEntity.ok(grades);
     }
+
+    @GetMapping("/course/{courseId}/distribution")
+    public ResponseEntity<GradeDistributionSummary> getCourseDistribution(@PathVariable Long courseId) {
+        logger.info("Fetching grade distribution for courseId={}", courseId);
+        return ResponseEntity.ok(gradeAnalyticsService.getCourseDistribution(courseId));
+    }
+
+    @GetMapping("/exam/{examId}/distribution")
+    public ResponseEntity<GradeDistributionSummary> getExamDistribution(@PathVariable Long examId) {
+        logger.info("Fetching grade distribution for examId={}", examId);
+        return ResponseEntity.ok(gradeAnalyticsService.getExamDistribution(examId));
+    }
+
+    // Recomputes every course's and exam's statistics from the grades table, courses in parallel
+    @PostMapping("/distributions/rebuild")
+    public ResponseEntity<Integer> rebuildDistributions() {
+        logger.info("Rebuilding all grade distributions");
+        return ResponseEntity.ok(gradeAnalyticsService.rebuildDistributions());
+    }
+
+    // Streams the course's grades as NDJSON (default) or CSV without building a list in memory
+    @GetMapping("/course/{courseId}/export")
+    public ResponseEntity<StreamingResponseBody> exportGradesByCourse(@PathVariable Long courseId,
+                                                                      @RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        logger.info("Exporting grades for courseId={} as {}", courseId, format);
+        StreamingResponseBody body = out -> gradeService.exportGradesByCourse(courseId, format, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .body(body);
+    }
 }
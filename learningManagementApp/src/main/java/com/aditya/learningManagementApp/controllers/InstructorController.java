@@ -1,5 +1,6 @@
 package com.aditya.learningManagementApp.controllers;
 
+import com.aditya.learningManagementApp.dto.InstructorSummary;
 import com.aditya.learningManagementApp.entities.Instructor;
 import com.aditya.learningManagementApp.service.InstructorService;
 import org.apache.logging.log4j.LogManager;
@@ -20,19 +21,19 @@ public class InstructorController {
     private InstructorService instructorService;
 
     @PostMapping("/register")
-    public ResponseEntity<Instructor> register(@RequestBody Instructor instructor) {
+    public ResponseEntity<InstructorSummary> register(@RequestBody Instructor instructor) {
         logger.info("Registering new instructor: {}", instructor.getName());
         Instructor savedInstructor = instructorService.registerInstructor(instructor);
         logger.info("Instructor registered with ID: {}", savedInstructor.getId());
-        return ResponseEntity.ok(savedInstructor);
+        return ResponseEntity.ok(InstructorSummary.from(savedInstructor));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Instructor> getInstructor(@PathVariable Long id) {
+    public ResponseEntity<InstructorSummary> getInstructor(@PathVariable Long id) {
         logger.info("Fetching instructor with ID: {}", id);
-        Optional<Instructor> instructor = instructorService.getInstructorById(id);
+        Optional<InstructorSummary> instructor = instructorService.getInstructorById(id);
         if (instructor.isPresent()) {
-            logger.info("Instructor found: {}", instructor.get().getName());
+            logger.info("Instructor found: {}", instructor.get().name());
             return ResponseEntity.ok(instructor.get());
         } else {
             logger.warn("Instructor not found with ID: {}", id);
@@ -41,11 +42,11 @@ public class InstructorController {
     }
 
     @PutMapping("/update/{id}")
-    public ResponseEntity<Instructor> updateInstructor(@PathVariable Long id, @RequestBody Instructor updatedInstructor) {
+    public ResponseEntity<InstructorSummary> updateInstructor(@PathVariable Long id, @RequestBody Instructor updatedInstructor) {
         logger.info("Updating instructor with ID: {}", id);
         Instructor instructor = instructorService.updateInstructorDetails(id, updatedInstructor);
         logger.info("Instructor updated: {}", instructor.getName());
-        return ResponseEntity.ok(instructor);
+        return ResponseEntity.ok(InstructorSummary.from(instructor));
     }
 
     @DeleteMapping("/delete/{id}")
@@ -1,5 +1,6 @@
 package com.aditya.learningManagementApp.controllers;
 
+import com.aditya.learningManagementApp.dto.StudentSummary;
 import com.aditya.learningManagementApp.entities.Student;
 import com.aditya.learningManagementApp.GlobalExceptionHandler.ResourceNotFoundException;
 import com.aditya.learningManagementApp.service.StudentService;
@@ -19,31 +20,31 @@ public class StudentController {
     private StudentService studentService;
 
     @PostMapping("/register")
-    public ResponseEntity<Student> register(@RequestBody Student student) {
+    public ResponseEntity<StudentSummary> register(@RequestBody Student student) {
         logger.info("Registering student: {}", student.getName());
         Student savedStudent = studentService.registerStudent(student);
         logger.info("Student registered with ID: {}", savedStudent.getId());
-        return ResponseEntity.ok(savedStudent);
+        return ResponseEntity.ok(StudentSummary.from(savedStudent));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Student> getStudent(@PathVariable Long id) {
+    public ResponseEntity<StudentSummary> getStudent(@PathVariable Long id) {
         logger.info("Fetching student with ID: {}", id);
-        Student student = studentService.getStudentById(id)
+        StudentSummary student = studentService.getStudentById(id)
                 .orElseThrow(() -> {
                     logger.warn("Student not found with ID: {}", id);
                     return new ResourceNotFoundException("Student not found with ID: " + id);
                 });
-        logger.info("Student found: {}", student.getName());
+        logger.info("Student found: {}", student.name());
         return ResponseEntity.ok(student);
     }
 
     @PutMapping("/update/{id}")
-    public ResponseEntity<Student> updateStudent(@PathVariable Long id, @RequestBody Student student) {
+    public ResponseEntity<StudentSummary> updateStudent(@PathVariable Long id, @RequestBody Student student) {
         logger.info("Updating student with ID: {}", id);
         Student updatedStudent = studentService.updateStudentDetails(id, student);
         logger.info("Student updated: {}", updatedStudent.getName());
-        return ResponseEntity.ok(updatedStudent);
+        return ResponseEntity.ok(StudentSummary.from(updatedStudent));
     }
 
     @DeleteMapping("/delete/{id}")
@@ -0,0 +1,59 @@
+package com.aditya.learningManagementApp.controllers;
+
+import com.aditya.learningManagementApp.service.UserService;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+
+// Account changes that must drop the cached principal; /users/me is the caller's own account, the rest is admin only
+@RestController
+@RequestMapping("/users")
+public class UserAccountController {
+
+    private static final Logger logger = LogManager.getLogger(UserAccountController.class);
+
+    private final UserService userService;
+
+    public UserAccountController(UserService userService) {
+        this.userService = userService;
+    }
+
+    @PutMapping("/me/password")
+    public ResponseEntity<String> changePassword(Authentication authentication,
+                                                 @RequestBody Map<String, String> requestBody) {
+        String password = requestBody.get("password");
+
+        if (password == null || password.isBlank()) {
+            logger.warn("Missing new password for {}", authentication.getName());
+            return ResponseEntity.badRequest().body("A new password is required.");
+        }
+
+        userService.changePassword(authentication.getName(), password);
+        logger.info("Password changed for {}", authentication.getName());
+        return ResponseEntity.ok("Password changed for " + authentication.getName());
+    }
+
+    @PutMapping("/{email}/roles")
+    public ResponseEntity<String> updateRoles(@PathVariable String email, @RequestBody List<String> roles) {
+        if (roles == null || roles.isEmpty()) {
+            logger.warn("Missing roles for {}", email);
+            return ResponseEntity.badRequest().body("At least one role is required.");
+        }
+
+        userService.updateRoles(email, roles);
+        logger.info("Roles of {} set to {}", email, roles);
+        return ResponseEntity.ok("Roles of " + email + " set to " + roles);
+    }
+
+    @DeleteMapping("/{email}")
+    public ResponseEntity<String> deleteUser(@PathVariable String email) {
+        userService.deleteUser(email);
+        logger.info("User {} deleted", email);
+        return ResponseEntity.ok("User " + email + " deleted successfully.");
+    }
+}
@@ -1,6 +1,8 @@
 package com.aditya.learningManagementApp.controllers;
 
+import com.aditya.learningManagementApp.dto.TokenResponse;
 import com.aditya.learningManagementApp.entities.User;
+import com.aditya.learningManagementApp.service.TokenService;
 import com.aditya.learningManagementApp.service.UserService;
 import jakarta.validation.Valid;
 import org.apache.logging.log4j.LogManager;
@@ -23,10 +25,13 @@ public class UserController {
 
     private final UserService userService;
     private final AuthenticationManager authenticationManager;
+    private final TokenService tokenService;
 
-    public UserController(UserService userService, AuthenticationManager authenticationManager) {
+    public UserController(UserService userService, AuthenticationManager authenticationManager,
+                          TokenService tokenService) {
         this.userService = userService;
         this.authenticationManager = authenticationManager;
+        this.tokenService = tokenService;
     }
 
     @PostMapping("/register")
@@ -73,4 +78,45 @@ public class UserController {
             return ResponseEntity.status(401).body("Invalid email or password");
         }
     }
+
+    // Password is checked once here; later requests present the returned bearer token instead
+    @PostMapping("/token")
+    public ResponseEntity<TokenResponse> token(@RequestBody Map<String, String> requestBody) {
+        String email = requestBody.get("email");
+        String password = requestBody.get("password");
+
+        logger.info("Token request for email: {}", email);
+
+        if (email == null || password == null) {
+            logger.warn("Missing email or password during token request");
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(email, password));
+        } catch (BadCredentialsException e) {
+            logger.warn("Token request failed for {}: Invalid credentials", email);
+            return ResponseEntity.status(401).build();
+        }
+
+        User user = userService.findByEmail(email)
+                .orElseThrow(() -> new BadCredentialsException("Invalid email or password"));
+        return ResponseEntity.ok(tokenService.issueTokens(user));
+    }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<TokenResponse> refresh(@RequestBody Map<String, String> requestBody) {
+        String refreshToken = requestBody.get("refreshToken");
+
+        if (refreshToken == null) {
+            logger.warn("Missing refresh token");
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            return ResponseEntity.ok(tokenService.refresh(refreshToken));
+        } catch (BadCredentialsException e) {
+            return ResponseEntity.status(401).build();
+        }
+    }
 }
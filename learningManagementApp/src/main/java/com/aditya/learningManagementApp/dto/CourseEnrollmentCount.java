@@ -0,0 +1,8 @@
+package com.aditya.learningManagementApp.dto;
+
+/**
+ * Enrollment figures for one course, read from the maintained counter column
+ * rather than by counting the roster. {@code capacity} is null when unlimited.
+ */
+public record CourseEnrollmentCount(Long courseId, int enrolledCount, Integer capacity) {
+}
@@ -0,0 +1,18 @@
+package com.aditya.learningManagementApp.dto;
+
+import com.aditya.learningManagementApp.entities.Course;
+import com.aditya.learningManagementApp.entities.Instructor;
+
+/**
+ * Lean read model for course listings and lookups: no students collection,
+ * instructor flattened to its id and name.
+ */
+public record CourseSummary(Long id, String title, String description, Long instructorId, String instructorName) {
+
+    public static CourseSummary from(Course course) {
+        Instructor instructor = course.getInstructor();
+        return new CourseSummary(course.getId(), course.getTitle(), course.getDescription(),
+                instructor != null ? instructor.getId() : null,
+                instructor != null ? instructor.getName() : null);
+    }
+}
@@ -0,0 +1,8 @@
+package com.aditya.learningManagementApp.dto;
+
+/**
+ * One (student, course) pair of a bulk enrollment request. Also used as the key
+ * of a student_courses join row.
+ */
+public record EnrollmentRequest(Long studentId, Long courseId) {
+}
@@ -0,0 +1,21 @@
+package com.aditya.learningManagementApp.dto;
+
+/**
+ * Outcome of a single row of a bulk enrollment request.
+ */
+public record EnrollmentResult(Long studentId, Long courseId, Status status) {
+
+    public enum Status {
+        ENROLLED,
+        ALREADY_ENROLLED,
+        DUPLICATE_IN_REQUEST,
+        STUDENT_NOT_FOUND,
+        COURSE_NOT_FOUND,
+        COURSE_FULL,
+        INVALID
+    }
+
+    public static EnrollmentResult of(EnrollmentRequest request, Status status) {
+        return new EnrollmentResult(request.studentId(), request.courseId(), status);
+    }
+}
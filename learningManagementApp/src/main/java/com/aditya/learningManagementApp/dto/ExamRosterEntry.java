@@ -0,0 +1,7 @@
+package com.aditya.learningManagementApp.dto;
+
+/**
+ * One exam_students row joined with the student's public fields.
+ */
+public record ExamRosterEntry(Long examId, Long studentId, String studentName, String studentEmail) {
+}
@@ -0,0 +1,37 @@
+package com.aditya.learningManagementApp.dto;
+
+import com.aditya.learningManagementApp.entities.Course;
+import com.aditya.learningManagementApp.entities.Exam;
+import com.aditya.learningManagementApp.entities.Instructor;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.List;
+
+/**
+ * Exam listing read model: course and instructor flattened to id and name,
+ * student roster only present when explicitly requested.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ExamSummary(Long id, String name, Long courseId, String courseTitle,
+                          Long instructorId, String instructorName, List<StudentSummary> students) {
+
+    // Used by JPQL constructor expressions, which never load the roster
+    public ExamSummary(Long id, String name, Long courseId, String courseTitle, Long instructorId, String instructorName) {
+        this(id, name, courseId, courseTitle, instructorId, instructorName, null);
+    }
+
+    // Without the roster; course and instructor are eager to-ones, so this needs no further queries
+    public static ExamSummary from(Exam exam) {
+        Course course = exam.getCourse();
+        Instructor instructor = exam.getInstructor();
+        return new ExamSummary(exam.getId(), exam.getName(),
+                course != null ? course.getId() : null,
+                course != null ? course.getTitle() : null,
+                instructor != null ? instructor.getId() : null,
+                instructor != null ? instructor.getName() : null);
+    }
+
+    public ExamSummary withStudents(List<StudentSummary> roster) {
+        return new ExamSummary(id, name, courseId, courseTitle, instructorId, instructorName, roster);
+    }
+}
@@ -0,0 +1,16 @@
+package com.aditya.learningManagementApp.dto;
+
+/**
+ * Outcome of a single row of a batch grade upload.
+ */
+public record GradeBatchResult(Long studentId, Status status) {
+
+    public enum Status {
+        ASSIGNED,
+        ALREADY_GRADED,
+        DUPLICATE_IN_REQUEST,
+        NOT_ENROLLED,
+        STUDENT_NOT_FOUND,
+        INVALID
+    }
+}
@@ -0,0 +1,32 @@
+package com.aditya.learningManagementApp.dto;
+
+import com.aditya.learningManagementApp.service.GradeHistogram;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grade statistics of an exam or a course. Letter counts cover every grade;
+ * the score statistics cover the grades with a numeric score and are null
+ * when there are none. Percentiles are accurate to within one point.
+ */
+public record GradeDistributionSummary(String scope, Long scopeId, int graded, Map<String, Integer> letters,
+                                       BigDecimal meanGradePoints, int scored, BigDecimal mean,
+                                       BigDecimal standardDeviation, BigDecimal median,
+                                       Map<String, BigDecimal> percentiles, List<Integer> scoreBands) {
+
+    public static GradeDistributionSummary from(String scope, Long scopeId, GradeHistogram histogram) {
+        Map<String, BigDecimal> percentiles = new LinkedHashMap<>();
+        if (histogram.getScored() > 0) {
+            percentiles.put("p10", histogram.quantile(0.10));
+            percentiles.put("p25", histogram.quantile(0.25));
+            percentiles.put("p75", histogram.quantile(0.75));
+            percentiles.put("p90", histogram.quantile(0.90));
+        }
+        return new GradeDistributionSummary(scope, scopeId, histogram.getGraded(), histogram.letterCounts(),
+                histogram.meanGradePoints(), histogram.getScored(), histogram.mean(), histogram.standardDeviation(),
+                histogram.quantile(0.5), percentiles, histogram.scoreBands());
+    }
+}
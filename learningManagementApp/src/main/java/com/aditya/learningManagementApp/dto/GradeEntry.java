@@ -0,0 +1,14 @@
+package com.aditya.learningManagementApp.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * One row of a batch grade upload for an exam. Either the grade or the score
+ * may be left out; a missing grade is derived from the score.
+ */
+public record GradeEntry(Long studentId, String grade, BigDecimal score) {
+
+    public GradeEntry(Long studentId, String grade) {
+        this(studentId, grade, null);
+    }
+}
@@ -0,0 +1,7 @@
+package com.aditya.learningManagementApp.dto;
+
+/**
+ * Flat grade record used for exports; carries ids only, no entity graphs.
+ */
+public record GradeRow(Long studentId, Long examId, String grade) {
+}
@@ -0,0 +1,19 @@
+package com.aditya.learningManagementApp.dto;
+
+import com.aditya.learningManagementApp.entities.Grade;
+
+import java.math.BigDecimal;
+
+/**
+ * Grade response: the student, course and exam are referenced by id only, so
+ * serializing a grade never touches their entity graphs.
+ */
+public record GradeSummary(Long id, Long studentId, Long courseId, Long examId, String grade,
+                           BigDecimal score, BigDecimal gradePoints) {
+
+    // Reads only the ids of the associations, which Hibernate proxies answer without loading
+    public static GradeSummary from(Grade grade) {
+        return new GradeSummary(grade.getId(), grade.getStudent().getId(), grade.getCourse().getId(),
+                grade.getExam().getId(), grade.getGrade(), grade.getScore(), grade.getGradePoints());
+    }
+}
@@ -0,0 +1,10 @@
+package com.aditya.learningManagementApp.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * New letter grade and/or score for an existing grade. A blank grade with a
+ * score takes the letter of the score; a missing score keeps the old one.
+ */
+public record GradeUpdate(String grade, BigDecimal score) {
+}
@@ -0,0 +1,13 @@
+package com.aditya.learningManagementApp.dto;
+
+import com.aditya.learningManagementApp.entities.Instructor;
+
+/**
+ * Immutable instructor view returned by lookups; never carries the password hash.
+ */
+public record InstructorSummary(Long id, String name, String email) {
+
+    public static InstructorSummary from(Instructor instructor) {
+        return new InstructorSummary(instructor.getId(), instructor.getName(), instructor.getEmail());
+    }
+}
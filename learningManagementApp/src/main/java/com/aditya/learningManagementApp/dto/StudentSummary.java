@@ -0,0 +1,14 @@
+package com.aditya.learningManagementApp.dto;
+
+import com.aditya.learningManagementApp.entities.Student;
+
+/**
+ * Immutable student view returned by lookups; never carries the password hash
+ * or the course collection.
+ */
+public record StudentSummary(Long id, String name, String email) {
+
+    public static StudentSummary from(Student student) {
+        return new StudentSummary(student.getId(), student.getName(), student.getEmail());
+    }
+}
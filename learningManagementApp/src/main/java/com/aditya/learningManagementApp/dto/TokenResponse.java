@@ -0,0 +1,4 @@
+package com.aditya.learningManagementApp.dto;
+
+public record TokenResponse(String accessToken, String refreshToken, String tokenType, long expiresIn) {
+}
@@ -0,0 +1,25 @@
+package com.aditya.learningManagementApp.dto;
+
+import com.aditya.learningManagementApp.entities.StudentTranscript;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * A student's transcript: totals from the precomputed student_transcripts row
+ * and one entry per exam grade. The totals and the GPA count exam grades, so a
+ * course with several graded exams weighs more than one with a single grade.
+ * The GPA is null until the student has a grade on the 4.0 scale.
+ */
+public record Transcript(Long studentId, int examGrades, int gpaExamGrades, BigDecimal gradePoints,
+                         BigDecimal gpa, List<TranscriptEntry> grades) {
+
+    public static Transcript from(StudentTranscript totals, List<TranscriptEntry> grades) {
+        return new Transcript(totals.getStudentId(), totals.getExamGrades(), totals.getGpaExamGrades(),
+                totals.getGradePoints(), totals.getGpa(), grades);
+    }
+
+    public static Transcript empty(Long studentId) {
+        return new Transcript(studentId, 0, 0, BigDecimal.ZERO, null, List.of());
+    }
+}
@@ -0,0 +1,10 @@
+package com.aditya.learningManagementApp.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * One exam grade on a transcript, with its course.
+ */
+public record TranscriptEntry(Long courseId, String courseTitle, Long examId, String grade,
+                              BigDecimal score, BigDecimal gradePoints) {
+}
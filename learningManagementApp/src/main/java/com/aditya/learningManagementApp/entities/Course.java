@@ -1,16 +1,27 @@
 package com.aditya.learningManagementApp.entities;
 
+import com.aditya.learningManagementApp.configure.SecondLevelCacheConfig;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.HashSet;
 import java.util.Set;
 
+// The enrolled_count column is deliberately not mapped: EnrollmentJdbcRepository keeps it with plain JDBC, so
+// enrollments never invalidate this region or the cached course lists of instructors
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.COURSES)
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})  // Grades reference these as lazy proxies
 @Table(name = "courses")
 public class Course {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "courses_seq")
+    @SequenceGenerator(name = "courses_seq", sequenceName = "courses_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -23,7 +34,12 @@ public class Course {
     @JoinColumn(name = "instructor_id", nullable = false)
     private Instructor instructor;
 
+    // Maximum number of enrolled students; null means unlimited
+    private Integer capacity;
+
+    // Not cached: enrollments are written to student_courses with plain JDBC, which Hibernate never sees
     @ManyToMany(mappedBy = "courses")  //  Ensures bidirectional mapping
+    @JsonIgnore  // Student.courses already serializes this link; both sides would recurse
     private Set<Student> students = new HashSet<>();
 
     // Constructors
@@ -65,6 +81,14 @@ public class Course {
         this.instructor = instructor;
     }
 
+    public Integer getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(Integer capacity) {
+        this.capacity = capacity;
+    }
+
     public Set<Student> getStudents() {
         return students;
     }
@@ -1,13 +1,15 @@
 package com.aditya.learningManagementApp.entities;
 
 import jakarta.persistence.*;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 
 @Entity
 @Table(name = "exams")
 public class Exam {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "exams_seq")
+    @SequenceGenerator(name = "exams_seq", sequenceName = "exams_seq", allocationSize = 50)
     private Long id;
     private String name;
 
@@ -19,13 +21,17 @@ public class Exam {
     @JoinColumn(name = "course_id", nullable = false)
     private Course course;
 
+    // A set, so Hibernate writes only the join rows that were added or removed instead of rewriting the roster
     @ManyToMany
     @JoinTable(
             name = "exam_students",
             joinColumns = @JoinColumn(name = "exam_id"),
-            inverseJoinColumns = @JoinColumn(name = "student_id")
+            inverseJoinColumns = @JoinColumn(name = "student_id"),
+            indexes = {
+                    @Index(name = "idx_exam_students_student_exam", columnList = "student_id, exam_id")
+            }
     )
-    private List<Student> students;
+    private Set<Student> students = new HashSet<>();
 
     // Getters and Setters
     public Long getId() { return id; }
@@ -40,8 +46,8 @@ public class Exam {
     public Course getCourse() { return course; }
     public void setCourse(Course course) { this.course = course; }
 
-    public List<Student> getStudents() { return students; }
-    public void setStudents(List<Student> students) { this.students = students; }
+    public Set<Student> getStudents() { return students; }
+    public void setStudents(Set<Student> students) { this.students = students; }
 
     public Exam() {}
 }
@@ -2,14 +2,33 @@ package com.aditya.learningManagementApp.entities;
 
 import jakarta.persistence.*;
 
+import java.math.BigDecimal;
+
 @Entity
-@Table(name = "grades")
+// Indexes and keys are created by the Flyway migrations (db/migration); declared here so generated schemas match
+@Table(name = "grades",
+        uniqueConstraints = @UniqueConstraint(name = Grade.STUDENT_COURSE_KEY,
+                columnNames = {"student_id", "course_id"}),
+        indexes = @Index(name = "idx_grades_course_student", columnList = "course_id, student_id"))
 public class Grade {
+
+    // One grade per student and course
+    public static final String STUDENT_COURSE_KEY = "uk_grades_student_course";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "grades_seq")
+    @SequenceGenerator(name = "grades_seq", sequenceName = "grades_seq", allocationSize = 50)
     private Long id;
     private String grade;
 
+    // Optional numeric score out of 100
+    @Column(precision = 5, scale = 2)
+    private BigDecimal score;
+
+    // Set from the letter grade by GradeScale; null for grades outside the scale, which do not count towards the GPA
+    @Column(name = "grade_points", precision = 3, scale = 2)
+    private BigDecimal gradePoints;
+
     @ManyToOne
     @JoinColumn(name = "student_id", nullable = false)
     private Student student;
@@ -40,6 +59,22 @@ public class Grade {
         this.grade = grade;
     }
 
+    public BigDecimal getScore() {
+        return score;
+    }
+
+    public void setScore(BigDecimal score) {
+        this.score = score;
+    }
+
+    public BigDecimal getGradePoints() {
+        return gradePoints;
+    }
+
+    public void setGradePoints(BigDecimal gradePoints) {
+        this.gradePoints = gradePoints;
+    }
+
     public Student getStudent() {
         return student;
     }
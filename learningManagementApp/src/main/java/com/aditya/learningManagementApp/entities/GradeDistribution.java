@@ -0,0 +1,108 @@
+package com.aditya.learningManagementApp.entities;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Running grade statistics of one exam or course (see GradeHistogram for the
+ * encoding). Read-only here: GradeAnalyticsService writes the rows with SQL,
+ * under a row lock, in the transaction that writes the grade.
+ */
+@Entity
+@Immutable
+@IdClass(GradeDistribution.Key.class)
+@Table(name = "grade_distributions")
+public class GradeDistribution {
+
+    public static final String EXAM = "EXAM";
+    public static final String COURSE = "COURSE";
+
+    @Id
+    @Column(length = 6)
+    private String scope;
+
+    @Id
+    @Column(name = "scope_id")
+    private Long scopeId;
+
+    @Column(nullable = false)
+    private int graded;
+
+    @Column(nullable = false)
+    private int scored;
+
+    @Column(name = "score_sum", nullable = false, precision = 12, scale = 2)
+    private BigDecimal scoreSum;
+
+    @Column(name = "score_sum_squares", nullable = false, precision = 16, scale = 4)
+    private BigDecimal scoreSumSquares;
+
+    @Column(name = "letter_counts", nullable = false, length = 64)
+    private byte[] letterCounts;
+
+    @Column(name = "score_bins", nullable = false, length = 512)
+    private byte[] scoreBins;
+
+    public GradeDistribution() {
+    }
+
+    public String getScope() {
+        return scope;
+    }
+
+    public Long getScopeId() {
+        return scopeId;
+    }
+
+    public int getGraded() {
+        return graded;
+    }
+
+    public int getScored() {
+        return scored;
+    }
+
+    public BigDecimal getScoreSum() {
+        return scoreSum;
+    }
+
+    public BigDecimal getScoreSumSquares() {
+        return scoreSumSquares;
+    }
+
+    public byte[] getLetterCounts() {
+        return letterCounts;
+    }
+
+    public byte[] getScoreBins() {
+        return scoreBins;
+    }
+
+    public static class Key implements Serializable {
+
+        private String scope;
+        private Long scopeId;
+
+        public Key() {
+        }
+
+        public Key(String scope, Long scopeId) {
+            this.scope = scope;
+            this.scopeId = scopeId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key && Objects.equals(scope, key.scope) && Objects.equals(scopeId, key.scopeId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(scope, scopeId);
+        }
+    }
+}
@@ -1,15 +1,21 @@
 package com.aditya.learningManagementApp.entities;
 
+import com.aditya.learningManagementApp.configure.SecondLevelCacheConfig;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.List;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.INSTRUCTORS)
 @Table(name = "instructors")
 public class Instructor {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "instructors_seq")
+    @SequenceGenerator(name = "instructors_seq", sequenceName = "instructors_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -23,6 +29,7 @@ public class Instructor {
 
     // mappedBy="instructor" should match the field name in Course
     @OneToMany(mappedBy = "instructor", fetch = FetchType.LAZY, cascade = CascadeType.ALL)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.INSTRUCTOR_COURSES)
     @JsonIgnore
     private List<Course> courses;
 
@@ -1,15 +1,19 @@
 package com.aditya.learningManagementApp.entities;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.*;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})  // Grades reference these as lazy proxies
 @Table(name = "students")
 public class Student {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "students_seq")
+    @SequenceGenerator(name = "students_seq", sequenceName = "students_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -21,11 +25,15 @@ public class Student {
     @Column(nullable = false)
     private String password;
 
+    // Enrollments go through CourseEnrollmentService, which enforces capacity and keeps the seat count; never bound
+    // from a request body
+    @JsonIgnore
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "student_courses",
             joinColumns = @JoinColumn(name = "student_id"),
-            inverseJoinColumns = @JoinColumn(name = "course_id")
+            inverseJoinColumns = @JoinColumn(name = "course_id"),
+            indexes = @Index(name = "idx_student_courses_student_course", columnList = "student_id, course_id")
     )
     private Set<Course> courses = new HashSet<>();
 
@@ -0,0 +1,58 @@
+package com.aditya.learningManagementApp.entities;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Running totals of a student's exam grades, kept in step with the grades table by
+ * GradeService (incrementally, through TranscriptJdbcRepository) and
+ * recomputed by TranscriptService.rebuildTranscripts. Read-only here: the row
+ * is only ever written with SQL, so concurrent grading cannot lose an update.
+ */
+@Entity
+@Immutable
+@Table(name = "student_transcripts")
+public class StudentTranscript {
+
+    @Id
+    @Column(name = "student_id")
+    private Long studentId;
+
+    // One grade per (student, course), so this is also the number of graded courses
+    @Column(name = "exam_grades", nullable = false)
+    private int examGrades;
+
+    // Exam grades on the scale; the GPA divisor
+    @Column(name = "gpa_exam_grades", nullable = false)
+    private int gpaExamGrades;
+
+    @Column(name = "grade_points", nullable = false, precision = 10, scale = 2)
+    private BigDecimal gradePoints;
+
+    public StudentTranscript() {
+    }
+
+    public Long getStudentId() {
+        return studentId;
+    }
+
+    public int getExamGrades() {
+        return examGrades;
+    }
+
+    public int getGpaExamGrades() {
+        return gpaExamGrades;
+    }
+
+    public BigDecimal getGradePoints() {
+        return gradePoints;
+    }
+
+    // Unweighted mean over exam grades: a course weighs as much as its graded exams. Null until a grade on the scale exists
+    public BigDecimal getGpa() {
+        return gpaExamGrades == 0 ? null : gradePoints.divide(BigDecimal.valueOf(gpaExamGrades), 2, RoundingMode.HALF_UP);
+    }
+}
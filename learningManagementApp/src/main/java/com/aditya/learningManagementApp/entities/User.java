@@ -14,7 +14,8 @@ import java.util.stream.Collectors;
 public class User implements UserDetails {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false) // Ensuring unique and required email
@@ -26,9 +27,14 @@ public class User implements UserDetails {
     @ManyToMany(fetch = FetchType.EAGER)
     @JoinTable(name = "user_roles",
             joinColumns = @JoinColumn(name = "user_id"),
-            inverseJoinColumns = @JoinColumn(name = "role_id"))
+            inverseJoinColumns = @JoinColumn(name = "role_id"),
+            indexes = @Index(name = "idx_user_roles_user_role", columnList = "user_id, role_id"))
     private List<Role> roles;
 
+    // Bumped when the password changes; refresh tokens carry it, so the ones issued before stop working
+    @Column(name = "token_version", nullable = false)
+    private int tokenVersion;
+
     //  Default constructor
     public User() {
     }
@@ -106,4 +112,12 @@ public class User implements UserDetails {
     public List<Role> getRoles() {
         return roles;
     }
+
+    public int getTokenVersion() {
+        return tokenVersion;
+    }
+
+    public void setTokenVersion(int tokenVersion) {
+        this.tokenVersion = tokenVersion;
+    }
 }
@@ -1,9 +1,29 @@
 package com.aditya.learningManagementApp.repository;
 
 
+import com.aditya.learningManagementApp.dto.CourseSummary;
 import com.aditya.learningManagementApp.entities.Course;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
 
 public interface CourseRepository extends JpaRepository<Course, Long> {
-}
 
+    @Query("select c.id from Course c where c.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);  // Batch id validation without loading entities
+
+    // Keyset pages over the primary key; the page size comes from the Pageable
+    @Query("select new com.aditya.learningManagementApp.dto.CourseSummary(c.id, c.title, c.description, i.id, i.name) "
+            + "from Course c join c.instructor i where c.id > :afterId order by c.id")
+    List<CourseSummary> findSummariesAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query("select new com.aditya.learningManagementApp.dto.CourseSummary(c.id, c.title, c.description, i.id, i.name) "
+            + "from Course c join c.instructor i where i.id = :instructorId and c.id > :afterId order by c.id")
+    List<CourseSummary> findSummariesByInstructorAfter(@Param("instructorId") Long instructorId,
+                                                       @Param("afterId") Long afterId, Pageable pageable);
+}
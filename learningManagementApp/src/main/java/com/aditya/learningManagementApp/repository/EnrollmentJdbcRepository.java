@@ -0,0 +1,165 @@
+package com.aditya.learningManagementApp.repository;
+
+import com.aditya.learningManagementApp.dto.CourseEnrollmentCount;
+import com.aditya.learningManagementApp.dto.EnrollmentRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Direct access to the student_courses join table, so enrollment rows can be
+ * checked and written without hydrating Student.courses / Course.students,
+ * and to the courses' enrolled_count seat counter. The counter is not mapped
+ * on Course: Hibernate never sees these statements, so a seat change leaves
+ * the cached courses and instructors' course lists in place.
+ */
+@Repository
+public class EnrollmentJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public EnrollmentJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public boolean isEnrolled(Long studentId, Long courseId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM student_courses WHERE student_id = ? AND course_id = ?",
+                Integer.class, studentId, courseId);
+        return count != null && count > 0;
+    }
+
+    public int insertEnrollment(Long studentId, Long courseId) {
+        return jdbcTemplate.update(
+                "INSERT INTO student_courses (student_id, course_id) VALUES (?, ?)",
+                studentId, courseId);
+    }
+
+    public int deleteEnrollment(Long studentId, Long courseId) {
+        return jdbcTemplate.update(
+                "DELETE FROM student_courses WHERE student_id = ? AND course_id = ?",
+                studentId, courseId);
+    }
+
+    public List<Long> findCourseIdsOfStudent(Long studentId) {
+        return jdbcTemplate.queryForList(
+                "SELECT course_id FROM student_courses WHERE student_id = ? ORDER BY course_id",
+                Long.class, studentId);
+    }
+
+    /**
+     * Drops one enrollment seat first, then row, so a drop locks the course row
+     * before student_courses just like an enrollment does. If the student turns
+     * out not to be enrolled, the seat is put back while the course row is still
+     * locked; returns whether a row was deleted.
+     */
+    public boolean dropEnrollment(Long studentId, Long courseId) {
+        int released = releaseSeats(courseId, 1);
+        if (deleteEnrollment(studentId, courseId) == 1) {
+            return true;
+        }
+        if (released == 1) {
+            claimSeats(courseId, 1);
+        }
+        return false;
+    }
+
+    // Claims seats only if they fit under the capacity, in one statement; 0 rows updated means the course is full
+    public int claimSeats(Long courseId, int seats) {
+        return jdbcTemplate.update(
+                "UPDATE courses SET enrolled_count = enrolled_count + ? "
+                        + "WHERE id = ? AND (capacity IS NULL OR enrolled_count + ? <= capacity)",
+                seats, courseId, seats);
+    }
+
+    // Locks the course row and returns the seats left under its capacity, Integer.MAX_VALUE for an uncapped course
+    public int lockRemainingSeats(Long courseId) {
+        return jdbcTemplate.query(
+                "SELECT capacity, enrolled_count FROM courses WHERE id = ? FOR UPDATE",
+                (rs, rowNum) -> {
+                    Integer capacity = rs.getObject(1, Integer.class);
+                    return capacity == null ? Integer.MAX_VALUE : Math.max(0, capacity - rs.getInt(2));
+                },
+                courseId).stream().findFirst().orElse(0);
+    }
+
+    // Locks the course row, so no seat can be claimed until the caller's transaction ends
+    public int lockEnrolledCount(Long courseId) {
+        return jdbcTemplate.query(
+                "SELECT enrolled_count FROM courses WHERE id = ? FOR UPDATE",
+                (rs, rowNum) -> rs.getInt(1),
+                courseId).stream().findFirst().orElse(0);
+    }
+
+    public int releaseSeats(Long courseId, int seats) {
+        return jdbcTemplate.update(
+                "UPDATE courses SET enrolled_count = enrolled_count - ? WHERE id = ? AND enrolled_count >= ?",
+                seats, courseId, seats);
+    }
+
+    public Optional<CourseEnrollmentCount> findEnrollmentCount(Long courseId) {
+        return jdbcTemplate.query(
+                "SELECT id, enrolled_count, capacity FROM courses WHERE id = ?",
+                (rs, rowNum) -> new CourseEnrollmentCount(rs.getLong(1), rs.getInt(2), rs.getObject(3, Integer.class)),
+                courseId).stream().findFirst();
+    }
+
+    public Set<Long> findEnrolledStudentIds(Long courseId, Collection<Long> studentIds) {
+        Set<Long> enrolled = new HashSet<>();
+        if (studentIds.isEmpty()) {
+            return enrolled;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("courseId", courseId)
+                .addValue("studentIds", studentIds);
+        namedParameterJdbcTemplate.query(
+                "SELECT student_id FROM student_courses WHERE course_id = :courseId AND student_id IN (:studentIds)",
+                params,
+                rs -> {
+                    enrolled.add(rs.getLong(1));
+                });
+        return enrolled;
+    }
+
+    // Returns the subset of the given pairs' cross product that is already enrolled
+    public Set<EnrollmentRequest> findExistingEnrollments(Collection<Long> studentIds, Collection<Long> courseIds) {
+        Set<EnrollmentRequest> existing = new HashSet<>();
+        if (studentIds.isEmpty() || courseIds.isEmpty()) {
+            return existing;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("studentIds", studentIds)
+                .addValue("courseIds", courseIds);
+        namedParameterJdbcTemplate.query(
+                "SELECT student_id, course_id FROM student_courses "
+                        + "WHERE student_id IN (:studentIds) AND course_id IN (:courseIds)",
+                params,
+                rs -> {
+                    existing.add(new EnrollmentRequest(rs.getLong(1), rs.getLong(2)));
+                });
+        return existing;
+    }
+
+    public int[][] insertEnrollments(List<EnrollmentRequest> enrollments, int batchSize) {
+        if (enrollments.isEmpty()) {
+            return new int[0][];
+        }
+        return jdbcTemplate.batchUpdate(
+                "INSERT INTO student_courses (student_id, course_id) VALUES (?, ?)",
+                enrollments,
+                batchSize,
+                (ps, enrollment) -> {
+                    ps.setLong(1, enrollment.studentId());
+                    ps.setLong(2, enrollment.courseId());
+                });
+    }
+}
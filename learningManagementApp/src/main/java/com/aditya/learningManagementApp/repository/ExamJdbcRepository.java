@@ -0,0 +1,60 @@
+package com.aditya.learningManagementApp.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * Set-based writes to the exam_students join table, so rosters can be
+ * changed without loading Exam.students or a single Student.
+ */
+@Repository
+public class ExamJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public ExamJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    // Adds every student enrolled in the course who is not on the exam yet; returns the number added
+    public int assignCourseRoster(Long examId, Long courseId) {
+        return jdbcTemplate.update(
+                "INSERT INTO exam_students (exam_id, student_id) "
+                        + "SELECT ?, sc.student_id FROM student_courses sc WHERE sc.course_id = ? "
+                        + "AND NOT EXISTS (SELECT 1 FROM exam_students es WHERE es.exam_id = ? AND es.student_id = sc.student_id)",
+                examId, courseId, examId);
+    }
+
+    // Adds the given students who exist and are not on the exam yet; returns the number added
+    public int assignStudents(Long examId, Collection<Long> studentIds) {
+        if (studentIds.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("examId", examId)
+                .addValue("studentIds", studentIds);
+        return namedParameterJdbcTemplate.update(
+                "INSERT INTO exam_students (exam_id, student_id) "
+                        + "SELECT :examId, s.id FROM students s WHERE s.id IN (:studentIds) "
+                        + "AND NOT EXISTS (SELECT 1 FROM exam_students es WHERE es.exam_id = :examId AND es.student_id = s.id)",
+                params);
+    }
+
+    // Deletes only the join rows of the given students; returns the number removed
+    public int removeStudents(Long examId, Collection<Long> studentIds) {
+        if (studentIds.isEmpty()) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("examId", examId)
+                .addValue("studentIds", studentIds);
+        return namedParameterJdbcTemplate.update(
+                "DELETE FROM exam_students WHERE exam_id = :examId AND student_id IN (:studentIds)", params);
+    }
+}
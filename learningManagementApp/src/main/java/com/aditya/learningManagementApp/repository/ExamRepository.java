@@ -1,12 +1,27 @@
 package com.aditya.learningManagementApp.repository;
 
+import com.aditya.learningManagementApp.dto.ExamRosterEntry;
+import com.aditya.learningManagementApp.dto.ExamSummary;
 import com.aditya.learningManagementApp.entities.Exam;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface ExamRepository extends JpaRepository<Exam, Long> {
 
-    List<Exam> findByInstructorId(Long instructorId);
+    // Listings are single-query projections; associations are joined, never lazily walked
+    @Query("select new com.aditya.learningManagementApp.dto.ExamSummary(e.id, e.name, c.id, c.title, i.id, i.name) "
+            + "from Exam e join e.course c join e.instructor i where i.id = :instructorId order by e.id")
+    List<ExamSummary> findSummariesByInstructorId(@Param("instructorId") Long instructorId);
+
+    @Query("select new com.aditya.learningManagementApp.dto.ExamSummary(e.id, e.name, c.id, c.title, i.id, i.name) "
+            + "from Exam e join e.course c join e.instructor i join e.students s where s.id = :studentId order by e.id")
+    List<ExamSummary> findSummariesByStudentId(@Param("studentId") Long studentId);
 
-    List<Exam> findByStudentsId(Long studentId);
+    @Query("select new com.aditya.learningManagementApp.dto.ExamRosterEntry(e.id, s.id, s.name, s.email) "
+            + "from Exam e join e.students s where e.id in :examIds order by s.id")
+    List<ExamRosterEntry> findRosterEntries(@Param("examIds") Collection<Long> examIds);
 }
@@ -0,0 +1,91 @@
+package com.aditya.learningManagementApp.repository;
+
+import com.aditya.learningManagementApp.service.GradeHistogram;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Writes to grade_distributions. A row is read with its lock held, merged in
+ * Java and written back, so every writer to the same exam or course waits for
+ * the one before it to commit.
+ */
+@Repository
+public class GradeDistributionJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public GradeDistributionJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Locks the row, creating an empty one first if there is none. Losing the
+     * race to create it only costs the failed statement; the transaction
+     * carries on and locks the winner's row.
+     */
+    public GradeHistogram lockOrCreate(String scope, Long scopeId) {
+        List<GradeHistogram> rows = lock(scope, scopeId);
+        if (!rows.isEmpty()) {
+            return rows.get(0);
+        }
+        GradeHistogram empty = new GradeHistogram();
+        try {
+            jdbcTemplate.update("INSERT INTO grade_distributions (scope, scope_id, graded, scored, score_sum, score_sum_squares, "
+                            + "letter_counts, score_bins) VALUES (?, ?, 0, 0, 0, 0, ?, ?)",
+                    scope, scopeId, empty.encodeLetterCounts(), empty.encodeScoreBins());
+        } catch (DuplicateKeyException e) {
+            return lock(scope, scopeId).get(0);
+        }
+        return empty;
+    }
+
+    private List<GradeHistogram> lock(String scope, Long scopeId) {
+        return jdbcTemplate.query("SELECT graded, scored, score_sum, score_sum_squares, letter_counts, score_bins "
+                        + "FROM grade_distributions WHERE scope = ? AND scope_id = ? FOR UPDATE",
+                (rs, rowNum) -> GradeHistogram.decode(rs.getInt(1), rs.getInt(2), rs.getBigDecimal(3), rs.getBigDecimal(4),
+                        rs.getBytes(5), rs.getBytes(6)),
+                scope, scopeId);
+    }
+
+    // The row must exist and be locked (lockOrCreate)
+    public void update(String scope, Long scopeId, GradeHistogram histogram) {
+        jdbcTemplate.update("UPDATE grade_distributions SET graded = ?, scored = ?, score_sum = ?, score_sum_squares = ?, "
+                        + "letter_counts = ?, score_bins = ? WHERE scope = ? AND scope_id = ?",
+                histogram.getGraded(), histogram.getScored(), histogram.getScoreSum(), histogram.getScoreSumSquares(),
+                histogram.encodeLetterCounts(), histogram.encodeScoreBins(), scope, scopeId);
+    }
+
+    public void insert(String scope, Long scopeId, GradeHistogram histogram) {
+        jdbcTemplate.update("INSERT INTO grade_distributions (scope, scope_id, graded, scored, score_sum, score_sum_squares, "
+                        + "letter_counts, score_bins) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                scope, scopeId, histogram.getGraded(), histogram.getScored(), histogram.getScoreSum(),
+                histogram.getScoreSumSquares(), histogram.encodeLetterCounts(), histogram.encodeScoreBins());
+    }
+
+    public int deleteExamsOfCourse(Long courseId) {
+        return jdbcTemplate.update("DELETE FROM grade_distributions WHERE scope = 'EXAM' "
+                + "AND scope_id IN (SELECT id FROM exams WHERE course_id = ?)", courseId);
+    }
+
+    public boolean isEmpty() {
+        return jdbcTemplate.queryForList("SELECT scope_id FROM grade_distributions LIMIT 1", Long.class).isEmpty();
+    }
+
+    public List<Long> findCourseIds() {
+        return jdbcTemplate.queryForList("SELECT id FROM courses ORDER BY id", Long.class);
+    }
+
+    public boolean hasGrades() {
+        return !jdbcTemplate.queryForList("SELECT id FROM grades LIMIT 1", Long.class).isEmpty();
+    }
+
+    // Rows are exam_id, grade, score; grades belong to the course of their exam, the same exams deleteExamsOfCourse clears
+    public void forEachGradeOfCourse(Long courseId, RowCallbackHandler handler) {
+        jdbcTemplate.query("SELECT g.exam_id, g.grade, g.score FROM grades g JOIN exams e ON e.id = g.exam_id "
+                + "WHERE e.course_id = ?", handler, courseId);
+    }
+}
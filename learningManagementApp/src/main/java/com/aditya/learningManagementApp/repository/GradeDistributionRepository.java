@@ -0,0 +1,8 @@
+package com.aditya.learningManagementApp.repository;
+
+import com.aditya.learningManagementApp.entities.GradeDistribution;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+// Reads only; the rows are written by GradeDistributionJdbcRepository
+public interface GradeDistributionRepository extends JpaRepository<GradeDistribution, GradeDistribution.Key> {
+}
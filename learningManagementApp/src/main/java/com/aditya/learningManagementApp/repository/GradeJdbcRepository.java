@@ -0,0 +1,40 @@
+package com.aditya.learningManagementApp.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Set-based reads on the grades table for bulk grading.
+ */
+@Repository
+public class GradeJdbcRepository {
+
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    public GradeJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    public Set<Long> findGradedStudentIds(Long courseId, Collection<Long> studentIds) {
+        Set<Long> graded = new HashSet<>();
+        if (studentIds.isEmpty()) {
+            return graded;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("courseId", courseId)
+                .addValue("studentIds", studentIds);
+        namedParameterJdbcTemplate.query(
+                "SELECT student_id FROM grades WHERE course_id = :courseId AND student_id IN (:studentIds)",
+                params,
+                rs -> {
+                    graded.add(rs.getLong(1));
+                });
+        return graded;
+    }
+}
@@ -1,15 +1,43 @@
 package com.aditya.learningManagementApp.repository;
 
+import com.aditya.learningManagementApp.dto.GradeRow;
+import com.aditya.learningManagementApp.dto.GradeSummary;
+import com.aditya.learningManagementApp.dto.TranscriptEntry;
 import com.aditya.learningManagementApp.entities.Grade;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface GradeRepository extends JpaRepository<Grade, Long> {
     List<Grade> findByStudentId(Long studentId);
     List<Grade> findByCourseId(Long courseId);
     Optional<Grade> findByStudentIdAndCourseId(Long studentId, Long courseId);
+
+    @Query("select new com.aditya.learningManagementApp.dto.GradeSummary(g.id, g.student.id, g.course.id, g.exam.id, g.grade, g.score, g.gradePoints) "
+            + "from Grade g where g.student.id = :studentId order by g.id")
+    List<GradeSummary> findSummariesByStudentId(@Param("studentId") Long studentId);
+
+    @Query("select new com.aditya.learningManagementApp.dto.GradeSummary(g.id, g.student.id, g.course.id, g.exam.id, g.grade, g.score, g.gradePoints) "
+            + "from Grade g where g.course.id = :courseId order by g.id")
+    List<GradeSummary> findSummariesByCourseId(@Param("courseId") Long courseId);
+
+    // One row per graded course with its title, joined in the same query
+    @Query("select new com.aditya.learningManagementApp.dto.TranscriptEntry(c.id, c.title, g.exam.id, g.grade, g.score, g.gradePoints) "
+            + "from Grade g join g.course c where g.student.id = :studentId order by c.id, g.id")
+    List<TranscriptEntry> findTranscriptEntries(@Param("studentId") Long studentId);
+
+    // Must be consumed inside a transaction and closed; rows are fetched from the driver in batches
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select new com.aditya.learningManagementApp.dto.GradeRow(g.student.id, g.exam.id, g.grade) "
+            + "from Grade g where g.course.id = :courseId order by g.id")
+    Stream<GradeRow> streamRowsByCourseId(@Param("courseId") Long courseId);
 }
@@ -1,9 +1,20 @@
 package com.aditya.learningManagementApp.repository;
 
+import com.aditya.learningManagementApp.configure.SecondLevelCacheConfig;
 import com.aditya.learningManagementApp.entities.Instructor;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
 import java.util.Optional;
 
 public interface InstructorRepository extends JpaRepository<Instructor, Long> {
+
+    // The cached result is the instructor's id; the entity itself then comes from the instructors region
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.INSTRUCTOR_QUERIES)
+    })
     Optional<Instructor> findByEmail(String email);  //  Find instructor by email (for authentication)
 }
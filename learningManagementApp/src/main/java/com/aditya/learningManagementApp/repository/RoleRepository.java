@@ -1,9 +1,20 @@
 package com.aditya.learningManagementApp.repository;
 
+import com.aditya.learningManagementApp.configure.SecondLevelCacheConfig;
 import com.aditya.learningManagementApp.entities.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+
 import java.util.Optional;
 
 public interface RoleRepository extends JpaRepository<Role, Long> {
+
+    // Result cached until a write to roles or the region ttl, so a role inserted by SQL can take that long to appear
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.ROLE_QUERIES)
+    })
     Optional<Role> findByName(String name);  //  Find role by name (ADMIN, INSTRUCTOR, STUDENT)
 }
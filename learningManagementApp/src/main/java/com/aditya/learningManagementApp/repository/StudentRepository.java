@@ -2,8 +2,16 @@ package com.aditya.learningManagementApp.repository;
 
 import com.aditya.learningManagementApp.entities.Student;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.Optional;
+import java.util.Set;
 
 public interface StudentRepository extends JpaRepository<Student, Long> {
     Optional<Student> findByEmail(String email);  // Find student by email (for authentication)
+
+    @Query("select s.id from Student s where s.id in :ids")
+    Set<Long> findExistingIds(@Param("ids") Collection<Long> ids);  // Batch id validation without loading entities
 }
@@ -0,0 +1,8 @@
+package com.aditya.learningManagementApp.repository;
+
+import com.aditya.learningManagementApp.entities.StudentTranscript;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+// Reads only; the rows are written by TranscriptJdbcRepository
+public interface StudentTranscriptRepository extends JpaRepository<StudentTranscript, Long> {
+}
@@ -0,0 +1,84 @@
+package com.aditya.learningManagementApp.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes to student_transcripts. Grading adds deltas with relative upserts,
+ * so concurrent grades for the same student add up instead of overwriting
+ * each other; the rebuild recomputes rows from the grades table.
+ */
+@Repository
+public class TranscriptJdbcRepository {
+
+    /**
+     * Change to one student's totals: exam grades, exam grades counting
+     * towards the GPA, and grade points. Negative when a grade is changed.
+     */
+    public record Delta(Long studentId, int examGrades, int gpaExamGrades, BigDecimal gradePoints) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public TranscriptJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // One upsert per student: the first grade creates the row, so concurrent first grades add up without a retry
+    public void applyDeltas(List<Delta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO student_transcripts (student_id, exam_grades, gpa_exam_grades, grade_points) VALUES (?, ?, ?, ?) "
+                        + "ON DUPLICATE KEY UPDATE exam_grades = exam_grades + ?, gpa_exam_grades = gpa_exam_grades + ?, "
+                        + "grade_points = grade_points + ?",
+                deltas.stream().map(delta -> new Object[]{
+                        delta.studentId(), delta.examGrades(), delta.gpaExamGrades(), delta.gradePoints(),
+                        delta.examGrades(), delta.gpaExamGrades(), delta.gradePoints()}).toList());
+    }
+
+    // {min, max}; {0, -1} for an empty table
+    public long[] findGradeIdRange() {
+        return idRange("SELECT COALESCE(MIN(id), 0), COALESCE(MAX(id), -1) FROM grades");
+    }
+
+    // Every transcript row belongs to a student, so this also covers rows whose grades are gone
+    public long[] findStudentIdRange() {
+        return idRange("SELECT COALESCE(MIN(id), 0), COALESCE(MAX(id), -1) FROM students");
+    }
+
+    private long[] idRange(String sql) {
+        return jdbcTemplate.queryForObject(sql, (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+    }
+
+    // Re-derives grade_points for grades with ids in [fromId, toId] from the letter grade, with one statement
+    public int updateGradePoints(Map<String, BigDecimal> scale, long fromId, long toId) {
+        StringBuilder sql = new StringBuilder("UPDATE grades SET grade_points = CASE UPPER(TRIM(grade))");
+        List<Object> args = new ArrayList<>();
+        scale.forEach((letter, points) -> {
+            sql.append(" WHEN ? THEN CAST(? AS DECIMAL(3, 2))");
+            args.add(letter);
+            args.add(points);
+        });
+        sql.append(" ELSE NULL END WHERE id BETWEEN ? AND ?");
+        args.add(fromId);
+        args.add(toId);
+        return jdbcTemplate.update(sql.toString(), args.toArray());
+    }
+
+    // Replaces the rows of students with ids in [fromStudentId, toStudentId] with totals computed from their grades
+    public int rebuildTranscripts(long fromStudentId, long toStudentId) {
+        jdbcTemplate.update("DELETE FROM student_transcripts WHERE student_id BETWEEN ? AND ?", fromStudentId, toStudentId);
+        return jdbcTemplate.update(
+                "INSERT INTO student_transcripts (student_id, exam_grades, gpa_exam_grades, grade_points) "
+                        + "SELECT student_id, COUNT(*), COUNT(grade_points), COALESCE(SUM(grade_points), 0) "
+                        + "FROM grades WHERE student_id BETWEEN ? AND ? GROUP BY student_id",
+                fromStudentId, toStudentId);
+    }
+}
@@ -1,16 +1,30 @@
 package com.aditya.learningManagementApp.service;
 
-import com.aditya.learningManagementApp.entities.Course;
-import com.aditya.learningManagementApp.entities.Student;
+import com.aditya.learningManagementApp.configure.RetryOnConflict;
+import com.aditya.learningManagementApp.configure.ServiceMetrics;
+import com.aditya.learningManagementApp.dto.EnrollmentRequest;
+import com.aditya.learningManagementApp.dto.EnrollmentResult;
 import com.aditya.learningManagementApp.repository.CourseRepository;
+import com.aditya.learningManagementApp.repository.EnrollmentJdbcRepository;
 import com.aditya.learningManagementApp.repository.StudentRepository;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
 @Service
 public class CourseEnrollmentService {
@@ -23,63 +37,232 @@ public class CourseEnrollmentService {
     @Autowired
     private CourseRepository courseRepository;
 
+    @Autowired
+    private EnrollmentJdbcRepository enrollmentJdbcRepository;
+
+    @Autowired
+    private ServiceMetrics serviceMetrics;
+
+    static final int DEFAULT_BULK_CHUNK_SIZE = 500;
+
+    @Value("${lms.enrollment.bulk.chunk-size:" + DEFAULT_BULK_CHUNK_SIZE + "}")
+    private int bulkChunkSize = DEFAULT_BULK_CHUNK_SIZE;
+
+    /**
+     * Enrolls a student with targeted queries against student_courses, so the
+     * cost does not depend on the size of the course roster or the student's
+     * course history. The seat is claimed with a conditional update of the
+     * course's enrolled count, so concurrent enrollments cannot overshoot the
+     * capacity; a full course raises {@link IllegalStateException}. Enrolling
+     * twice is idempotent: a concurrent request that inserted the same row first
+     * is reported as "already enrolled", and lock conflicts on the course row
+     * are retried.
+     */
+    @RetryOnConflict
     @Transactional
     public boolean enrollStudent(Long studentId, Long courseId) {
         logger.info("Attempting to enroll student {} into course {}", studentId, courseId);
 
-        Optional<Student> studentOpt = studentRepository.findById(studentId);
-        Optional<Course> courseOpt = courseRepository.findById(courseId);
-
-        if (studentOpt.isEmpty() || courseOpt.isEmpty()) {
-            logger.warn("Enrollment failed: Student or Course not found (studentId: {}, courseId: {})", studentId, courseId);
-            throw new IllegalArgumentException("Student or Course not found.");
-        }
+        requireStudentAndCourse(studentId, courseId);
 
-        Student student = studentOpt.get();
-        Course course = courseOpt.get();
-
-        if (student.getCourses().contains(course)) {
+        if (enrollmentJdbcRepository.isEnrolled(studentId, courseId)) {
             logger.info("Student {} is already enrolled in course {}", studentId, courseId);
             return false;
         }
 
-        student.getCourses().add(course);
-        course.getStudents().add(student);
-
-        studentRepository.save(student);
-        courseRepository.save(course);
+        if (enrollmentJdbcRepository.claimSeats(courseId, 1) == 0) {
+            logger.warn("Course {} is full, student {} not enrolled", courseId, studentId);
+            throw new IllegalStateException("Course is full.");
+        }
+        // Seat first, then row: both concurrent paths lock the course row before student_courses
+        try {
+            enrollmentJdbcRepository.insertEnrollment(studentId, courseId);
+        } catch (DuplicateKeyException e) {
+            enrollmentJdbcRepository.releaseSeats(courseId, 1);
+            logger.info("Student {} was enrolled in course {} by a concurrent request", studentId, courseId);
+            return false;
+        }
 
         logger.info("Student {} successfully enrolled in course {}", studentId, courseId);
         return true;
     }
 
+    @RetryOnConflict
     @Transactional
     public boolean dropStudent(Long studentId, Long courseId) {
         logger.info("Attempting to unenroll student {} from course {}", studentId, courseId);
 
-        Optional<Student> studentOpt = studentRepository.findById(studentId);
-        Optional<Course> courseOpt = courseRepository.findById(courseId);
+        requireStudentAndCourse(studentId, courseId);
 
-        if (studentOpt.isEmpty() || courseOpt.isEmpty()) {
-            logger.warn("Unenrollment failed: Student or Course not found (studentId: {}, courseId: {})", studentId, courseId);
+        if (!enrollmentJdbcRepository.dropEnrollment(studentId, courseId)) {
+            logger.info("Student {} is not enrolled in course {}", studentId, courseId);
+            return false;
+        }
+
+        logger.info("Student {} successfully unenrolled from course {}", studentId, courseId);
+        return true;
+    }
+
+    private void requireStudentAndCourse(Long studentId, Long courseId) {
+        if (!studentRepository.existsById(studentId) || !courseRepository.existsById(courseId)) {
+            logger.warn("Student or Course not found (studentId: {}, courseId: {})", studentId, courseId);
             throw new IllegalArgumentException("Student or Course not found.");
         }
+    }
 
-        Student student = studentOpt.get();
-        Course course = courseOpt.get();
+    /**
+     * Enrolls the rows chunk by chunk in one transaction. If a concurrent request
+     * inserts one of the same rows first, the whole call is retried and that row
+     * then comes back as ALREADY_ENROLLED. Null rows are reported as INVALID.
+     */
+    @RetryOnConflict
+    @Transactional
+    public List<EnrollmentResult> bulkEnroll(List<EnrollmentRequest> requests) {
+        logger.info("Bulk enrollment of {} rows", requests.size());
 
-        if (!student.getCourses().contains(course)) {
-            logger.info("Student {} is not enrolled in course {}", studentId, courseId);
-            return false;
+        int chunkSize = chunkSize();
+        List<EnrollmentResult> results = new ArrayList<>(requests.size());
+        for (int from = 0; from < requests.size(); from += chunkSize) {
+            // A null element of the posted JSON array is treated like an unparsable CSV line
+            List<EnrollmentRequest> chunk = requests.subList(from, Math.min(from + chunkSize, requests.size())).stream()
+                    .map(request -> request != null ? request : new EnrollmentRequest(null, null))
+                    .toList();
+            results.addAll(enrollChunk(chunk));
         }
 
-        student.getCourses().remove(course);
-        course.getStudents().remove(student);
+        logger.info("Bulk enrollment finished: {} rows processed", results.size());
+        serviceMetrics.recordPayload(CourseEnrollmentService.class, "bulkEnroll", results.size());
+        return results;
+    }
 
-        studentRepository.save(student);
-        courseRepository.save(course);
+    /**
+     * Reads "studentId,courseId" lines and enrolls them chunk by chunk, so the
+     * whole upload never has to be held in memory as requests. A leading header
+     * line and blank lines are skipped; unparsable lines are reported as INVALID.
+     * The stream can only be read once, so conflicts are not retried here.
+     */
+    @Transactional
+    public List<EnrollmentResult> bulkEnrollCsv(Reader reader) throws IOException {
+        logger.info("Bulk enrollment from CSV stream");
 
-        logger.info("Student {} successfully unenrolled from course {}", studentId, courseId);
-        return true;
+        int chunkSize = chunkSize();
+        List<EnrollmentResult> results = new ArrayList<>();
+        List<EnrollmentRequest> chunk = new ArrayList<>(chunkSize);
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        boolean firstLine = true;
+        while ((line = lines.readLine()) != null) {
+            line = line.trim();
+            if (line.isEmpty()) {
+                continue;
+            }
+            EnrollmentRequest request = parseCsvLine(line);
+            if (request == null && firstLine) {
+                firstLine = false;
+                continue; // header
+            }
+            firstLine = false;
+            chunk.add(request == null ? new EnrollmentRequest(null, null) : request);
+            if (chunk.size() == chunkSize) {
+                results.addAll(enrollChunk(chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            results.addAll(enrollChunk(chunk));
+        }
+
+        logger.info("Bulk enrollment finished: {} rows processed", results.size());
+        serviceMetrics.recordPayload(CourseEnrollmentService.class, "bulkEnrollCsv", results.size());
+        return results;
+    }
+
+    private List<EnrollmentResult> enrollChunk(List<EnrollmentRequest> chunk) {
+        Set<Long> studentIds = new HashSet<>();
+        Set<Long> courseIds = new HashSet<>();
+        for (EnrollmentRequest request : chunk) {
+            if (request.studentId() != null && request.courseId() != null) {
+                studentIds.add(request.studentId());
+                courseIds.add(request.courseId());
+            }
+        }
+
+        Set<Long> knownStudents = studentIds.isEmpty() ? Set.of() : studentRepository.findExistingIds(studentIds);
+        Set<Long> knownCourses = courseIds.isEmpty() ? Set.of() : courseRepository.findExistingIds(courseIds);
+        Set<EnrollmentRequest> existing = enrollmentJdbcRepository.findExistingEnrollments(knownStudents, knownCourses);
+
+        EnrollmentResult.Status[] statuses = new EnrollmentResult.Status[chunk.size()];
+        Map<Long, Integer> requestedSeats = new TreeMap<>();  // course id order, so concurrent chunks update course rows in the same order
+        Set<EnrollmentRequest> seen = new HashSet<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            EnrollmentRequest request = chunk.get(i);
+            EnrollmentResult.Status status;
+            if (request.studentId() == null || request.courseId() == null) {
+                status = EnrollmentResult.Status.INVALID;
+            } else if (!knownStudents.contains(request.studentId())) {
+                status = EnrollmentResult.Status.STUDENT_NOT_FOUND;
+            } else if (!knownCourses.contains(request.courseId())) {
+                status = EnrollmentResult.Status.COURSE_NOT_FOUND;
+            } else if (existing.contains(request)) {
+                status = EnrollmentResult.Status.ALREADY_ENROLLED;
+            } else if (!seen.add(request)) {
+                status = EnrollmentResult.Status.DUPLICATE_IN_REQUEST;
+            } else {
+                requestedSeats.merge(request.courseId(), 1, Integer::sum);
+                status = EnrollmentResult.Status.ENROLLED;
+            }
+            statuses[i] = status;
+        }
+
+        Map<Long, Integer> grantedSeats = new HashMap<>();
+        requestedSeats.forEach((courseId, seats) -> grantedSeats.put(courseId, claimSeats(courseId, seats)));
+
+        List<EnrollmentResult> results = new ArrayList<>(chunk.size());
+        List<EnrollmentRequest> toInsert = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            EnrollmentRequest request = chunk.get(i);
+            EnrollmentResult.Status status = statuses[i];
+            if (status == EnrollmentResult.Status.ENROLLED) {
+                if (grantedSeats.merge(request.courseId(), -1, Integer::sum) >= 0) {
+                    toInsert.add(request);
+                } else {
+                    status = EnrollmentResult.Status.COURSE_FULL;
+                }
+            }
+            results.add(EnrollmentResult.of(request, status));
+        }
+
+        enrollmentJdbcRepository.insertEnrollments(toInsert, chunkSize());
+        logger.debug("Enrollment chunk of {} rows: {} inserted", chunk.size(), toInsert.size());
+        return results;
+    }
+
+    // Claims as many of the requested seats as the capacity allows, in at most two conditional UPDATEs
+    private int claimSeats(Long courseId, int requested) {
+        if (enrollmentJdbcRepository.claimSeats(courseId, requested) == 1) {
+            return requested;
+        }
+        // Not enough room for all of them: take what is left under the course row lock
+        int granted = Math.min(requested, enrollmentJdbcRepository.lockRemainingSeats(courseId));
+        if (granted == 0 || enrollmentJdbcRepository.claimSeats(courseId, granted) == 0) {
+            return 0;
+        }
+        return granted;
+    }
+
+    private EnrollmentRequest parseCsvLine(String line) {
+        String[] fields = line.split(",");
+        if (fields.length != 2) {
+            return null;
+        }
+        try {
+            return new EnrollmentRequest(Long.valueOf(fields[0].trim()), Long.valueOf(fields[1].trim()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private int chunkSize() {
+        return bulkChunkSize > 0 ? bulkChunkSize : DEFAULT_BULK_CHUNK_SIZE;
     }
 }
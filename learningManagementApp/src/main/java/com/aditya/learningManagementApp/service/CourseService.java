@@ -1,14 +1,23 @@
 package com.aditya.learningManagementApp.service;
 
+import com.aditya.learningManagementApp.configure.CacheConfig;
+import com.aditya.learningManagementApp.configure.ServiceMetrics;
+import com.aditya.learningManagementApp.dto.CourseEnrollmentCount;
+import com.aditya.learningManagementApp.dto.CourseSummary;
 import com.aditya.learningManagementApp.entities.Course;
 import com.aditya.learningManagementApp.entities.Instructor;
 import com.aditya.learningManagementApp.GlobalExceptionHandler.ResourceNotFoundException;
 import com.aditya.learningManagementApp.repository.CourseRepository;
+import com.aditya.learningManagementApp.repository.EnrollmentJdbcRepository;
 import com.aditya.learningManagementApp.repository.InstructorRepository;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -17,12 +26,22 @@ public class CourseService {
 
     private static final Logger logger = LogManager.getLogger(CourseService.class);
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
     @Autowired
     private CourseRepository courseRepository;
 
     @Autowired
     private InstructorRepository instructorRepository;
 
+    @Autowired
+    private EnrollmentJdbcRepository enrollmentJdbcRepository;
+
+    @Autowired
+    private ServiceMetrics serviceMetrics;
+
+    @Transactional
     public Course addCourse(Course course, Long instructorId) {
         logger.info("Adding course '{}' for instructor with ID {}", course.getTitle(), instructorId);
 
@@ -39,6 +58,13 @@ public class CourseService {
         return savedCourse;
     }
 
+    /**
+     * Replaces the title, description and instructor. The capacity changes
+     * only when the update carries one, and may not drop below the students
+     * already enrolled; an existing capacity cannot be removed here.
+     */
+    @CacheEvict(cacheNames = CacheConfig.COURSES, key = "#id")
+    @Transactional
     public Course updateCourse(Long id, Course updatedCourse) {
         logger.info("Updating course with ID {}", id);
 
@@ -51,6 +77,17 @@ public class CourseService {
         existingCourse.setTitle(updatedCourse.getTitle());
         existingCourse.setDescription(updatedCourse.getDescription());
         existingCourse.setInstructor(updatedCourse.getInstructor());
+        Integer capacity = updatedCourse.getCapacity();
+        if (capacity != null) {
+            // The row lock holds off enrollments until the new capacity is committed
+            int enrolled = enrollmentJdbcRepository.lockEnrolledCount(id);
+            if (capacity < enrolled) {
+                logger.warn("Capacity {} of course {} is below its {} enrolled students", capacity, id, enrolled);
+                throw new IllegalArgumentException(
+                        "Capacity " + capacity + " is below the " + enrolled + " students already enrolled");
+            }
+            existingCourse.setCapacity(capacity);
+        }
 
         Course savedCourse = courseRepository.save(existingCourse);
 
@@ -58,6 +95,8 @@ public class CourseService {
         return savedCourse;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.COURSES, key = "#id")
+    @Transactional
     public void deleteCourse(Long id) {
         logger.info("Deleting course with ID {}", id);
 
@@ -70,14 +109,42 @@ public class CourseService {
         logger.info("Course with ID {} deleted successfully", id);
     }
 
-    public List<Course> getAllCourses() {
-        logger.info("Fetching all courses");
-        return courseRepository.findAll();
+    /**
+     * Returns up to {@code limit} course summaries with an id greater than
+     * {@code afterId}, optionally restricted to one instructor. Callers page by
+     * passing the last id of the previous page as the next {@code afterId}.
+     */
+    @Transactional(readOnly = true)
+    public List<CourseSummary> getCourseSummaries(Long afterId, Long instructorId, int limit) {
+        long cursor = afterId == null ? 0L : afterId;
+        int pageSize = Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        logger.info("Fetching up to {} course summaries after ID {} (instructor: {})", pageSize, cursor, instructorId);
+
+        PageRequest page = PageRequest.ofSize(pageSize);
+        List<CourseSummary> summaries = instructorId != null
+                ? courseRepository.findSummariesByInstructorAfter(instructorId, cursor, page)
+                : courseRepository.findSummariesAfter(cursor, page);
+        serviceMetrics.recordPayload(CourseService.class, "getCourseSummaries", summaries.size());
+        return summaries;
+    }
+
+    // Not cached, and read on the primary even with a replica configured: the count changes with every enrollment
+    @Transactional
+    public CourseEnrollmentCount getEnrollmentCount(Long id) {
+        logger.info("Fetching enrollment count for course ID {}", id);
+        return enrollmentJdbcRepository.findEnrollmentCount(id)
+                .orElseThrow(() -> {
+                    logger.warn("Course not found with ID: {}", id);
+                    return new ResourceNotFoundException("Course not found with id: " + id);
+                });
     }
 
-    public Course getCourseById(Long id) {
+    @Cacheable(cacheNames = CacheConfig.COURSES, key = "#id")
+    @Transactional
+    public CourseSummary getCourseById(Long id) {
         logger.info("Fetching course with ID {}", id);
         return courseRepository.findById(id)
+                .map(CourseSummary::from)
                 .orElseThrow(() -> {
                     logger.warn("Course not found with ID: {}", id);
                     return new ResourceNotFoundException("Course not found with id: " + id);
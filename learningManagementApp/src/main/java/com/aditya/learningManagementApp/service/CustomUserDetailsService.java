@@ -3,6 +3,7 @@ package com.aditya.learningManagementApp.service;
 import com.aditya.learningManagementApp.repository.UserRepository;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -19,6 +20,7 @@ public class CustomUserDetailsService implements UserDetailsService {
         this.userRepository = userRepository;
     }
 
+    // Returns an immutable snapshot rather than the entity, since the principal may be cached by UserAuthCache
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         logger.info("Attempting to load user by email: {}", email);
@@ -26,7 +28,10 @@ public class CustomUserDetailsService implements UserDetailsService {
         return userRepository.findByEmail(email)
                 .map(user -> {
                     logger.info("User found with email: {}", email);
-                    return user;
+                    return User.withUsername(user.getUsername())
+                            .password(user.getPassword())
+                            .authorities(user.getAuthorities())
+                            .build();
                 })
                 .orElseThrow(() -> {
                     logger.warn("User not found with email: {}", email);
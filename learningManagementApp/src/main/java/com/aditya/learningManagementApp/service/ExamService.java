@@ -1,18 +1,27 @@
 package com.aditya.learningManagementApp.service;
 
+import com.aditya.learningManagementApp.configure.RetryOnConflict;
+import com.aditya.learningManagementApp.configure.ServiceMetrics;
+import com.aditya.learningManagementApp.dto.ExamRosterEntry;
+import com.aditya.learningManagementApp.dto.ExamSummary;
+import com.aditya.learningManagementApp.dto.StudentSummary;
 import com.aditya.learningManagementApp.entities.Exam;
 import com.aditya.learningManagementApp.entities.Instructor;
-import com.aditya.learningManagementApp.entities.Student;
+import com.aditya.learningManagementApp.repository.ExamJdbcRepository;
 import com.aditya.learningManagementApp.repository.ExamRepository;
 import com.aditya.learningManagementApp.repository.InstructorRepository;
-import com.aditya.learningManagementApp.repository.StudentRepository;
 import com.aditya.learningManagementApp.GlobalExceptionHandler.ResourceNotFoundException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class ExamService {
@@ -22,12 +31,16 @@ public class ExamService {
     @Autowired
     private ExamRepository examRepository;
 
+    @Autowired
+    private ExamJdbcRepository examJdbcRepository;
+
     @Autowired
     private InstructorRepository instructorRepository;
 
     @Autowired
-    private StudentRepository studentRepository;
+    private ServiceMetrics serviceMetrics;
 
+    @Transactional
     public Exam createExam(Exam exam) {
         Long instructorId = exam.getInstructor().getId();
         logger.info("Creating exam for instructor ID: {}", instructorId);
@@ -45,33 +58,97 @@ public class ExamService {
         return savedExam;
     }
 
-    public List<Exam> getExamsByInstructor(Long instructorId) {
+    @Transactional(readOnly = true)
+    public List<ExamSummary> getExamsByInstructor(Long instructorId, boolean includeStudents) {
         logger.info("Fetching exams for instructor ID: {}", instructorId);
-        return examRepository.findByInstructorId(instructorId);
+        List<ExamSummary> exams = examRepository.findSummariesByInstructorId(instructorId);
+        return includeStudents ? withRosters(exams) : exams;
     }
 
-    public List<Exam> getExamsByStudent(Long studentId) {
+    @Transactional(readOnly = true)
+    public List<ExamSummary> getExamsByStudent(Long studentId, boolean includeStudents) {
         logger.info("Fetching exams for student ID: {}", studentId);
-        return examRepository.findByStudentsId(studentId);
+        List<ExamSummary> exams = examRepository.findSummariesByStudentId(studentId);
+        return includeStudents ? withRosters(exams) : exams;
+    }
+
+    // Loads the rosters of all listed exams with one query and attaches them
+    private List<ExamSummary> withRosters(List<ExamSummary> exams) {
+        if (exams.isEmpty()) {
+            return exams;
+        }
+        Map<Long, List<StudentSummary>> rosters = new HashMap<>();
+        for (ExamSummary exam : exams) {
+            rosters.put(exam.id(), new ArrayList<>());
+        }
+        for (ExamRosterEntry entry : examRepository.findRosterEntries(rosters.keySet())) {
+            rosters.get(entry.examId()).add(new StudentSummary(entry.studentId(), entry.studentName(), entry.studentEmail()));
+        }
+        return exams.stream().map(exam -> exam.withStudents(rosters.get(exam.id()))).toList();
     }
 
+    /**
+     * Adds the given students to the exam's roster with one INSERT ... SELECT
+     * over the posted ids, so neither the roster nor the students are loaded.
+     * Students already on the roster are skipped and ids that match no student
+     * are ignored. Two concurrent calls can race on the same rows, in which
+     * case the loser is retried and skips what the other one added.
+     */
+    @RetryOnConflict
+    @Transactional
     public Exam assignStudentsToExam(Long examId, List<Long> studentIds) {
         logger.info("Assigning students {} to exam ID: {}", studentIds, examId);
 
-        Exam exam = examRepository.findById(examId)
+        Exam exam = findExam(examId);
+        int added = examJdbcRepository.assignStudents(examId, new HashSet<>(studentIds));
+
+        logger.info("Assigned {} new students to exam ID: {}", added, examId);
+        serviceMetrics.recordPayload(ExamService.class, "assignStudentsToExam", added);
+        return exam;
+    }
+
+    // Deletes only the join rows of the given students, without loading the roster
+    @Transactional
+    public Exam removeStudentsFromExam(Long examId, List<Long> studentIds) {
+        logger.info("Removing students {} from exam ID: {}", studentIds, examId);
+
+        Exam exam = findExam(examId);
+        int removed = examJdbcRepository.removeStudents(examId, new HashSet<>(studentIds));
+
+        logger.info("Removed {} of students {} from exam ID: {}", removed, studentIds, examId);
+        return exam;
+    }
+
+    /**
+     * Puts every student enrolled in the exam's course on its roster with one
+     * INSERT ... SELECT from student_courses; students already on the roster
+     * are skipped. Two concurrent calls can race on the same rows, in which
+     * case the loser is retried and then finds nothing left to add.
+     *
+     * @return the number of students added
+     */
+    @RetryOnConflict
+    @Transactional
+    public int assignCourseRosterToExam(Long examId) {
+        logger.info("Assigning the course roster to exam ID: {}", examId);
+
+        Exam exam = findExam(examId);
+        int added = examJdbcRepository.assignCourseRoster(examId, exam.getCourse().getId());
+
+        logger.info("Assigned {} students of course ID: {} to exam ID: {}", added, exam.getCourse().getId(), examId);
+        serviceMetrics.recordPayload(ExamService.class, "assignCourseRosterToExam", added);
+        return added;
+    }
+
+    private Exam findExam(Long examId) {
+        return examRepository.findById(examId)
                 .orElseThrow(() -> {
                     logger.error("Exam not found with ID: {}", examId);
                     return new ResourceNotFoundException("Exam not found with ID: " + examId);
                 });
-
-        List<Student> students = studentRepository.findAllById(studentIds);
-        exam.getStudents().addAll(students);
-        Exam updatedExam = examRepository.save(exam);
-
-        logger.info("Assigned {} students to exam ID: {}", students.size(), examId);
-        return updatedExam;
     }
 
+    @Transactional
     public void deleteExam(Long examId) {
         logger.info("Deleting exam with ID: {}", examId);
         examRepository.deleteById(examId);
@@ -0,0 +1,166 @@
+package com.aditya.learningManagementApp.service;
+
+import com.aditya.learningManagementApp.GlobalExceptionHandler.ResourceNotFoundException;
+import com.aditya.learningManagementApp.configure.ServiceMetrics;
+import com.aditya.learningManagementApp.dto.GradeDistributionSummary;
+import com.aditya.learningManagementApp.entities.GradeDistribution;
+import com.aditya.learningManagementApp.repository.CourseRepository;
+import com.aditya.learningManagementApp.repository.ExamRepository;
+import com.aditya.learningManagementApp.repository.GradeDistributionJdbcRepository;
+import com.aditya.learningManagementApp.repository.GradeDistributionRepository;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Service
+public class GradeAnalyticsService {
+
+    private static final Logger logger = LogManager.getLogger(GradeAnalyticsService.class);
+
+    static final int DEFAULT_REBUILD_PARALLELISM = 4;
+
+    @Autowired
+    private GradeDistributionJdbcRepository gradeDistributionJdbcRepository;
+
+    @Autowired
+    private GradeDistributionRepository gradeDistributionRepository;
+
+    @Autowired
+    private ExamRepository examRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ServiceMetrics serviceMetrics;
+
+    @Value("${lms.analytics.rebuild-parallelism:" + DEFAULT_REBUILD_PARALLELISM + "}")
+    private int rebuildParallelism = DEFAULT_REBUILD_PARALLELISM;
+
+    /**
+     * Merges a change (grades added, or removed with negative counts) into the
+     * statistics of a course and one of its exams, in the caller's
+     * transaction. The course row is always locked before the exam row, here
+     * and in the rebuild.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(Long courseId, Long examId, GradeHistogram change) {
+        merge(GradeDistribution.COURSE, courseId, change);
+        merge(GradeDistribution.EXAM, examId, change);
+    }
+
+    private void merge(String scope, Long scopeId, GradeHistogram change) {
+        GradeHistogram histogram = gradeDistributionJdbcRepository.lockOrCreate(scope, scopeId);
+        gradeDistributionJdbcRepository.update(scope, scopeId, histogram.merge(change));
+    }
+
+    @Transactional(readOnly = true)
+    public GradeDistributionSummary getExamDistribution(Long examId) {
+        logger.info("Fetching grade distribution for Exam ID: {}", examId);
+        if (!examRepository.existsById(examId)) {
+            logger.error("Exam not found with ID: {}", examId);
+            throw new ResourceNotFoundException("Exam not found with id: " + examId);
+        }
+        return summary(GradeDistribution.EXAM, examId);
+    }
+
+    @Transactional(readOnly = true)
+    public GradeDistributionSummary getCourseDistribution(Long courseId) {
+        logger.info("Fetching grade distribution for Course ID: {}", courseId);
+        if (!courseRepository.existsById(courseId)) {
+            logger.error("Course not found with ID: {}", courseId);
+            throw new ResourceNotFoundException("Course not found with id: " + courseId);
+        }
+        return summary(GradeDistribution.COURSE, courseId);
+    }
+
+    private GradeDistributionSummary summary(String scope, Long scopeId) {
+        GradeHistogram histogram = gradeDistributionRepository.findById(new GradeDistribution.Key(scope, scopeId))
+                .map(row -> GradeHistogram.decode(row.getGraded(), row.getScored(), row.getScoreSum(),
+                        row.getScoreSumSquares(), row.getLetterCounts(), row.getScoreBins()))
+                .orElseGet(GradeHistogram::new);
+        return GradeDistributionSummary.from(scope, scopeId, histogram);
+    }
+
+    /**
+     * Recomputes every course's and exam's statistics from the grades table,
+     * courses in parallel, each course in its own transaction. The course row
+     * is locked first, so grading in that course waits for its rebuild rather
+     * than being counted twice or missed.
+     *
+     * @return the number of courses rebuilt
+     */
+    public int rebuildDistributions() {
+        List<Long> courseIds = gradeDistributionJdbcRepository.findCourseIds();
+        logger.info("Rebuilding grade distributions of {} courses, {} at a time", courseIds.size(), rebuildParallelism);
+
+        AtomicInteger threads = new AtomicInteger();
+        List<Future<?>> rebuilds = new ArrayList<>(courseIds.size());
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, rebuildParallelism), runnable ->
+                new Thread(runnable, "grade-distribution-rebuild-" + threads.incrementAndGet()))) {
+            for (Long courseId : courseIds) {
+                rebuilds.add(executor.submit(() -> transactionTemplate.executeWithoutResult(status -> rebuildCourse(courseId))));
+            }
+            for (Future<?> rebuild : rebuilds) {
+                rebuild.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Grade distribution rebuild interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("Grade distribution rebuild failed", e.getCause());
+        }
+
+        logger.info("Rebuilt grade distributions of {} courses", courseIds.size());
+        serviceMetrics.recordPayload(GradeAnalyticsService.class, "rebuildDistributions", courseIds.size());
+        return courseIds.size();
+    }
+
+    private void rebuildCourse(Long courseId) {
+        gradeDistributionJdbcRepository.lockOrCreate(GradeDistribution.COURSE, courseId);
+
+        GradeHistogram course = new GradeHistogram();
+        Map<Long, GradeHistogram> exams = new HashMap<>();
+        gradeDistributionJdbcRepository.forEachGradeOfCourse(courseId, rs -> {
+            GradeHistogram exam = exams.computeIfAbsent(rs.getLong(1), examId -> new GradeHistogram());
+            exam.add(rs.getString(2), rs.getBigDecimal(3));
+        });
+        exams.values().forEach(course::merge);
+
+        gradeDistributionJdbcRepository.update(GradeDistribution.COURSE, courseId, course);
+        gradeDistributionJdbcRepository.deleteExamsOfCourse(courseId);
+        exams.forEach((examId, exam) -> gradeDistributionJdbcRepository.insert(GradeDistribution.EXAM, examId, exam));
+    }
+
+    // Databases migrated to V4 start with grades but no statistics; new grades would otherwise be merged into empty rows
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfMissing() {
+        if (gradeDistributionJdbcRepository.isEmpty() && gradeDistributionJdbcRepository.hasGrades()) {
+            logger.info("No grade distributions yet; building them from the existing grades");
+            rebuildDistributions();
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.aditya.learningManagementApp.service;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Running grade statistics for an exam or a course: counts per letter grade,
+ * count, sum and sum of squares of the scores, and the scores themselves in
+ * one-point bins (0-100). The bins are the quantile sketch: exact to within a
+ * point, a fixed 101 counters however many grades there are, and mergeable by
+ * adding counters, so a course is the sum of its exams and a change is a
+ * histogram with negative counts.
+ */
+public class GradeHistogram {
+
+    public static final String OTHER = "OTHER";
+
+    static final int SCORE_BINS = 101;
+
+    // Letters in scale order, then OTHER for grades off the scale; stored by position, so a scale change needs a rebuild
+    private static final List<String> LETTERS;
+
+    static {
+        List<String> letters = new ArrayList<>(GradeScale.points().keySet());
+        letters.add(OTHER);
+        LETTERS = Collections.unmodifiableList(letters);
+    }
+
+    private final int[] letterCounts = new int[LETTERS.size()];
+    private final int[] scoreBins = new int[SCORE_BINS];
+    private int graded;
+    private int scored;
+    private BigDecimal scoreSum = BigDecimal.ZERO;
+    private BigDecimal scoreSumSquares = BigDecimal.ZERO;
+
+    public void add(String grade, BigDecimal score) {
+        change(grade, score, 1);
+    }
+
+    public void remove(String grade, BigDecimal score) {
+        change(grade, score, -1);
+    }
+
+    private void change(String grade, BigDecimal score, int sign) {
+        graded += sign;
+        letterCounts[letterIndex(grade)] += sign;
+        if (score != null) {
+            scored += sign;
+            scoreBins[Math.min(score.intValue(), SCORE_BINS - 1)] += sign;
+            BigDecimal signed = sign > 0 ? score : score.negate();
+            scoreSum = scoreSum.add(signed);
+            scoreSumSquares = scoreSumSquares.add(signed.multiply(score));
+        }
+    }
+
+    private static int letterIndex(String grade) {
+        int index = grade == null ? -1 : LETTERS.indexOf(grade.trim().toUpperCase(Locale.ROOT));
+        return index >= 0 && index < LETTERS.size() - 1 ? index : LETTERS.size() - 1;
+    }
+
+    public GradeHistogram merge(GradeHistogram other) {
+        for (int i = 0; i < letterCounts.length; i++) {
+            letterCounts[i] += other.letterCounts[i];
+        }
+        for (int i = 0; i < scoreBins.length; i++) {
+            scoreBins[i] += other.scoreBins[i];
+        }
+        graded += other.graded;
+        scored += other.scored;
+        scoreSum = scoreSum.add(other.scoreSum);
+        scoreSumSquares = scoreSumSquares.add(other.scoreSumSquares);
+        return this;
+    }
+
+    public boolean isEmpty() {
+        return graded == 0;
+    }
+
+    public int getGraded() {
+        return graded;
+    }
+
+    public int getScored() {
+        return scored;
+    }
+
+    public BigDecimal getScoreSum() {
+        return scoreSum;
+    }
+
+    public BigDecimal getScoreSumSquares() {
+        return scoreSumSquares;
+    }
+
+    // Null without scores
+    public BigDecimal mean() {
+        return scored == 0 ? null : scoreSum.divide(BigDecimal.valueOf(scored), 2, RoundingMode.HALF_UP);
+    }
+
+    // Population standard deviation of the scores
+    public BigDecimal standardDeviation() {
+        if (scored == 0) {
+            return null;
+        }
+        BigDecimal n = BigDecimal.valueOf(scored);
+        BigDecimal mean = scoreSum.divide(n, MathContext.DECIMAL64);
+        BigDecimal variance = scoreSumSquares.divide(n, MathContext.DECIMAL64).subtract(mean.multiply(mean)).max(BigDecimal.ZERO);
+        return variance.sqrt(MathContext.DECIMAL64).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * The score below which a fraction {@code q} of the scores fall. Within a
+     * bin the scores are taken as evenly spread from the bin's lower edge, so
+     * whole-number scores come back exactly. Null without scores.
+     */
+    public BigDecimal quantile(double q) {
+        if (scored <= 0) {
+            return null;
+        }
+        double rank = q * scored;
+        long below = 0;
+        for (int bin = 0; bin < scoreBins.length; bin++) {
+            int count = scoreBins[bin];
+            if (count > 0 && below + count >= rank) {
+                double value = bin == SCORE_BINS - 1 ? bin : bin + Math.max(0, rank - below - 0.5) / count;
+                return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+            }
+            below += count;
+        }
+        return BigDecimal.valueOf(SCORE_BINS - 1).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    // Letters that occur, in scale order
+    public Map<String, Integer> letterCounts() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (int i = 0; i < LETTERS.size(); i++) {
+            if (letterCounts[i] != 0) {
+                counts.put(LETTERS.get(i), letterCounts[i]);
+            }
+        }
+        return counts;
+    }
+
+    // Scores per ten-point band, 0-9 up to 90-100
+    public List<Integer> scoreBands() {
+        List<Integer> bands = new ArrayList<>(Collections.nCopies(10, 0));
+        for (int bin = 0; bin < scoreBins.length; bin++) {
+            int band = Math.min(bin / 10, 9);
+            bands.set(band, bands.get(band) + scoreBins[bin]);
+        }
+        return bands;
+    }
+
+    // Mean grade points of the letters on the scale; null if there are none
+    public BigDecimal meanGradePoints() {
+        BigDecimal points = BigDecimal.ZERO;
+        int count = 0;
+        for (int i = 0; i < LETTERS.size() - 1; i++) {
+            points = points.add(GradeScale.gradePoints(LETTERS.get(i)).multiply(BigDecimal.valueOf(letterCounts[i])));
+            count += letterCounts[i];
+        }
+        return count == 0 ? null : points.divide(BigDecimal.valueOf(count), 2, RoundingMode.HALF_UP);
+    }
+
+    public byte[] encodeLetterCounts() {
+        return encode(letterCounts);
+    }
+
+    public byte[] encodeScoreBins() {
+        return encode(scoreBins);
+    }
+
+    public static GradeHistogram decode(int graded, int scored, BigDecimal scoreSum, BigDecimal scoreSumSquares,
+                                        byte[] letterCounts, byte[] scoreBins) {
+        GradeHistogram histogram = new GradeHistogram();
+        histogram.graded = graded;
+        histogram.scored = scored;
+        histogram.scoreSum = scoreSum;
+        histogram.scoreSumSquares = scoreSumSquares;
+        decode(letterCounts, histogram.letterCounts);
+        decode(scoreBins, histogram.scoreBins);
+        return histogram;
+    }
+
+    private static byte[] encode(int[] counts) {
+        ByteBuffer buffer = ByteBuffer.allocate(counts.length * Integer.BYTES);
+        for (int count : counts) {
+            buffer.putInt(count);
+        }
+        return buffer.array();
+    }
+
+    private static void decode(byte[] bytes, int[] counts) {
+        if (bytes == null) {
+            return;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        for (int i = 0; i < counts.length && buffer.remaining() >= Integer.BYTES; i++) {
+            counts[i] = buffer.getInt();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.aditya.learningManagementApp.service;
+
+import com.aditya.learningManagementApp.entities.Grade;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The 4.0 letter-grade scale. Grade points belong to the letter grade; a
+ * numeric score (0-100) is optional, and stands in for the letter when none
+ * is given. Free-text grades outside the scale ("Pass", "Incomplete") carry
+ * no grade points and do not count towards the GPA.
+ */
+public final class GradeScale {
+
+    public static final BigDecimal MAX_SCORE = BigDecimal.valueOf(100);
+
+    // Letter -> grade points, best first; also the order scores are banded in
+    private static final Map<String, BigDecimal> POINTS = new LinkedHashMap<>();
+    private static final Map<String, BigDecimal> MIN_SCORES = new LinkedHashMap<>();
+
+    static {
+        band("A+", "4.00", 97);
+        band("A", "4.00", 93);
+        band("A-", "3.70", 90);
+        band("B+", "3.30", 87);
+        band("B", "3.00", 83);
+        band("B-", "2.70", 80);
+        band("C+", "2.30", 77);
+        band("C", "2.00", 73);
+        band("C-", "1.70", 70);
+        band("D+", "1.30", 67);
+        band("D", "1.00", 63);
+        band("D-", "0.70", 60);
+        band("F", "0.00", 0);
+    }
+
+    private GradeScale() {
+    }
+
+    private static void band(String letter, String points, int minScore) {
+        POINTS.put(letter, new BigDecimal(points));
+        MIN_SCORES.put(letter, BigDecimal.valueOf(minScore));
+    }
+
+    public static Map<String, BigDecimal> points() {
+        return Collections.unmodifiableMap(POINTS);
+    }
+
+    // Null for grades outside the scale
+    public static BigDecimal gradePoints(String grade) {
+        return grade == null ? null : POINTS.get(grade.trim().toUpperCase(Locale.ROOT));
+    }
+
+    public static String letterFor(BigDecimal score) {
+        for (Map.Entry<String, BigDecimal> band : MIN_SCORES.entrySet()) {
+            if (score.compareTo(band.getValue()) >= 0) {
+                return band.getKey();
+            }
+        }
+        return "F";
+    }
+
+    /**
+     * Validates the score, derives the letter from it when the grade is blank,
+     * and sets the grade points of the resulting letter.
+     */
+    public static void apply(Grade grade) {
+        BigDecimal score = grade.getScore();
+        if (score != null && (score.signum() < 0 || score.compareTo(MAX_SCORE) > 0)) {
+            throw new IllegalArgumentException("Score must be between 0 and 100");
+        }
+        if ((grade.getGrade() == null || grade.getGrade().isBlank()) && score != null) {
+            grade.setGrade(letterFor(score));
+        }
+        grade.setGradePoints(gradePoints(grade.getGrade()));
+    }
+}
@@ -1,26 +1,55 @@
 package com.aditya.learningManagementApp.service;
 
+import com.aditya.learningManagementApp.configure.RetryOnConflict;
+import com.aditya.learningManagementApp.configure.ServiceMetrics;
+import com.aditya.learningManagementApp.dto.ExportFormat;
+import com.aditya.learningManagementApp.dto.GradeBatchResult;
+import com.aditya.learningManagementApp.dto.GradeEntry;
+import com.aditya.learningManagementApp.dto.GradeRow;
+import com.aditya.learningManagementApp.dto.GradeSummary;
+import com.aditya.learningManagementApp.dto.GradeUpdate;
 import com.aditya.learningManagementApp.entities.Grade;
-import com.aditya.learningManagementApp.entities.Student;
-import com.aditya.learningManagementApp.entities.Course;
 import com.aditya.learningManagementApp.entities.Exam;
 import com.aditya.learningManagementApp.GlobalExceptionHandler.ResourceNotFoundException;
+import com.aditya.learningManagementApp.repository.EnrollmentJdbcRepository;
+import com.aditya.learningManagementApp.repository.GradeJdbcRepository;
 import com.aditya.learningManagementApp.repository.GradeRepository;
 import com.aditya.learningManagementApp.repository.StudentRepository;
 import com.aditya.learningManagementApp.repository.CourseRepository;
 import com.aditya.learningManagementApp.repository.ExamRepository;
+import com.aditya.learningManagementApp.repository.TranscriptJdbcRepository;
+import com.aditya.learningManagementApp.repository.TranscriptJdbcRepository.Delta;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
 public class GradeService {
 
     private static final Logger logger = LogManager.getLogger(GradeService.class);
 
+    static final int BATCH_CHUNK_SIZE = 500;
+
     @Autowired
     private GradeRepository gradeRepository;
 
@@ -33,25 +62,61 @@ public class GradeService {
     @Autowired
     private ExamRepository examRepository;
 
+    @Autowired
+    private EnrollmentJdbcRepository enrollmentJdbcRepository;
+
+    @Autowired
+    private GradeJdbcRepository gradeJdbcRepository;
+
+    @Autowired
+    private TranscriptJdbcRepository transcriptJdbcRepository;
+
+    @Autowired
+    private GradeAnalyticsService gradeAnalyticsService;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ServiceMetrics serviceMetrics;
+
+    /**
+     * Assigns a grade and adds it to the student's transcript totals and the
+     * course and exam grade statistics in the same transaction. The score, if
+     * given, must be within 0-100; a blank grade is derived from it. A
+     * student gets one grade per course. The grade is flushed before the
+     * totals are touched, so a concurrent duplicate, for any exam of the
+     * course, trips the grades unique key here; the attempt is retried and
+     * then sees the grade as already assigned. The posted grade is only read, so a
+     * retry never sees the id a failed attempt assigned.
+     */
+    @RetryOnConflict
     @Transactional
     public Grade assignGrade(Grade grade) {
+        Grade newGrade = new Grade();
+        newGrade.setGrade(grade.getGrade());
+        newGrade.setScore(grade.getScore());
+        GradeScale.apply(newGrade);
         Long studentId = grade.getStudent().getId();
         Long courseId = grade.getCourse().getId();
         Long examId = grade.getExam().getId();
 
         logger.info("Assigning grade for Student ID: {}, Course ID: {}, Exam ID: {}", studentId, courseId, examId);
 
-        Student student = studentRepository.findById(studentId)
+        // Existence checks go through the cached lookups; the entities themselves are only referenced
+        studentService.getStudentById(studentId)
                 .orElseThrow(() -> {
                     logger.error("Student not found with ID: {}", studentId);
                     return new ResourceNotFoundException("Student not found with id: " + studentId);
                 });
 
-        Course course = courseRepository.findById(courseId)
-                .orElseThrow(() -> {
-                    logger.error("Course not found with ID: {}", courseId);
-                    return new ResourceNotFoundException("Course not found with id: " + courseId);
-                });
+        courseService.getCourseById(courseId);
 
         Exam exam = examRepository.findById(examId)
                 .orElseThrow(() -> {
@@ -59,7 +124,13 @@ public class GradeService {
                     return new ResourceNotFoundException("Exam not found with id: " + examId);
                 });
 
-        if (!student.getCourses().contains(course)) {
+        // The exam's statistics are recorded under this course, so the two must match
+        if (!exam.getCourse().getId().equals(courseId)) {
+            logger.warn("Exam ID: {} belongs to Course ID: {}, not Course ID: {}", examId, exam.getCourse().getId(), courseId);
+            throw new IllegalArgumentException("Exam " + examId + " does not belong to course " + courseId);
+        }
+
+        if (!enrollmentJdbcRepository.isEnrolled(studentId, courseId)) {
             logger.warn("Student ID: {} is not enrolled in Course ID: {}", studentId, courseId);
             throw new IllegalStateException("Student is not enrolled in this course!");
         }
@@ -69,23 +140,246 @@ public class GradeService {
             throw new IllegalStateException("Grade already assigned for this student and course!");
         }
 
-        grade.setStudent(student);
-        grade.setCourse(course);
-        grade.setExam(exam);
+        newGrade.setStudent(studentRepository.getReferenceById(studentId));
+        newGrade.setCourse(courseRepository.getReferenceById(courseId));
+        newGrade.setExam(exam);
 
-        Grade savedGrade = gradeRepository.save(grade);
+        Grade savedGrade = gradeRepository.save(newGrade);
+        flushNewGrades();
+        transcriptJdbcRepository.applyDeltas(List.of(added(studentId, savedGrade)));
+        GradeHistogram change = new GradeHistogram();
+        change.add(savedGrade.getGrade(), savedGrade.getScore());
+        gradeAnalyticsService.record(courseId, examId, change);
         logger.info("Grade assigned successfully with ID: {}", savedGrade.getId());
 
         return savedGrade;
     }
 
-    public List<Grade> getGradesByStudent(Long studentId) {
+    /**
+     * Grades a whole exam in one transaction. Enrollment and duplicate checks
+     * are done per chunk with set-based queries and accepted rows are written
+     * through Hibernate's JDBC insert batching; rejected rows are reported, not
+     * thrown. Transcript totals and the exam's statistics are updated per
+     * chunk. If a concurrent request grades one of the students first, the
+     * whole call is retried and that row then comes back as ALREADY_GRADED.
+     */
+    @RetryOnConflict
+    @Transactional
+    public List<GradeBatchResult> assignGradesForExam(Long examId, List<GradeEntry> entries) {
+        logger.info("Assigning {} grades for Exam ID: {}", entries.size(), examId);
+
+        Exam exam = examRepository.findById(examId)
+                .orElseThrow(() -> {
+                    logger.error("Exam not found with ID: {}", examId);
+                    return new ResourceNotFoundException("Exam not found with id: " + examId);
+                });
+        Long courseId = exam.getCourse().getId();
+
+        List<GradeBatchResult> results = new ArrayList<>(entries.size());
+        Set<Long> seen = new HashSet<>();
+        for (int from = 0; from < entries.size(); from += BATCH_CHUNK_SIZE) {
+            List<GradeEntry> chunk = entries.subList(from, Math.min(from + BATCH_CHUNK_SIZE, entries.size()));
+            results.addAll(assignGradeChunk(exam, chunk, seen));
+        }
+
+        logger.info("Batch grading finished for Exam ID: {} ({} rows)", examId, results.size());
+        serviceMetrics.recordPayload(GradeService.class, "assignGradesForExam", results.size());
+        return results;
+    }
+
+    private List<GradeBatchResult> assignGradeChunk(Exam exam, List<GradeEntry> chunk, Set<Long> seen) {
+        Long courseId = exam.getCourse().getId();
+        Set<Long> studentIds = new HashSet<>();
+        for (GradeEntry entry : chunk) {
+            if (entry.studentId() != null) {
+                studentIds.add(entry.studentId());
+            }
+        }
+
+        Set<Long> knownStudents = studentIds.isEmpty() ? Set.of() : studentRepository.findExistingIds(studentIds);
+        Set<Long> enrolled = enrollmentJdbcRepository.findEnrolledStudentIds(courseId, knownStudents);
+        Set<Long> graded = gradeJdbcRepository.findGradedStudentIds(courseId, enrolled);
+
+        List<GradeBatchResult> results = new ArrayList<>(chunk.size());
+        List<Grade> toInsert = new ArrayList<>();
+        List<Delta> deltas = new ArrayList<>();
+        GradeHistogram change = new GradeHistogram();
+        for (GradeEntry entry : chunk) {
+            GradeBatchResult.Status status;
+            if (entry.studentId() == null || !isValid(entry)) {
+                status = GradeBatchResult.Status.INVALID;
+            } else if (!knownStudents.contains(entry.studentId())) {
+                status = GradeBatchResult.Status.STUDENT_NOT_FOUND;
+            } else if (!enrolled.contains(entry.studentId())) {
+                status = GradeBatchResult.Status.NOT_ENROLLED;
+            } else if (graded.contains(entry.studentId())) {
+                status = GradeBatchResult.Status.ALREADY_GRADED;
+            } else if (!seen.add(entry.studentId())) {
+                status = GradeBatchResult.Status.DUPLICATE_IN_REQUEST;
+            } else {
+                Grade grade = new Grade();
+                grade.setGrade(entry.grade());
+                grade.setScore(entry.score());
+                GradeScale.apply(grade);
+                grade.setStudent(studentRepository.getReferenceById(entry.studentId()));
+                grade.setCourse(exam.getCourse());
+                grade.setExam(exam);
+                toInsert.add(grade);
+                deltas.add(added(entry.studentId(), grade));
+                change.add(grade.getGrade(), grade.getScore());
+                status = GradeBatchResult.Status.ASSIGNED;
+            }
+            results.add(new GradeBatchResult(entry.studentId(), status));
+        }
+
+        gradeRepository.saveAll(toInsert);
+        flushNewGrades();
+        transcriptJdbcRepository.applyDeltas(deltas);
+        if (!toInsert.isEmpty()) {
+            gradeAnalyticsService.record(courseId, exam.getId(), change);
+        }
+        return results;
+    }
+
+    // Inserts pending grades now rather than at commit, so losing a race on the student-course key surfaces as a
+    // DuplicateKeyException that @RetryOnConflict re-runs; Hibernate reports it as a plain integrity violation
+    private void flushNewGrades() {
+        try {
+            gradeRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            if (violates(e, Grade.STUDENT_COURSE_KEY)) {
+                throw new DuplicateKeyException("Grade assigned concurrently for the same student and course", e);
+            }
+            throw e;
+        }
+    }
+
+    // MySQL and H2 both name the violated key in the driver's message
+    private static boolean violates(Throwable e, String key) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().toLowerCase(Locale.ROOT).contains(key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Needs a grade or a score, and a score within the scale
+    private static boolean isValid(GradeEntry entry) {
+        boolean hasGrade = entry.grade() != null && !entry.grade().isBlank();
+        if (entry.score() == null) {
+            return hasGrade;
+        }
+        return entry.score().signum() >= 0 && entry.score().compareTo(GradeScale.MAX_SCORE) <= 0;
+    }
+
+    /**
+     * Changes the letter grade and/or score of an existing grade; the one left
+     * out keeps its value, except that a new score without a letter replaces
+     * the letter with the score's. Moves the student's transcript totals by
+     * the difference in grade points; the old grade leaves the course and exam
+     * statistics and the new one joins them.
+     */
+    @RetryOnConflict
+    @Transactional
+    public Grade changeGrade(Long gradeId, GradeUpdate update) {
+        logger.info("Changing grade ID: {}", gradeId);
+
+        Grade grade = gradeRepository.findById(gradeId)
+                .orElseThrow(() -> {
+                    logger.error("Grade not found with ID: {}", gradeId);
+                    return new ResourceNotFoundException("Grade not found with id: " + gradeId);
+                });
+        if ((update.grade() == null || update.grade().isBlank()) && update.score() == null) {
+            throw new IllegalArgumentException("A grade or a score is required");
+        }
+
+        BigDecimal oldPoints = grade.getGradePoints();
+        GradeHistogram change = new GradeHistogram();
+        change.remove(grade.getGrade(), grade.getScore());
+        // A field left out keeps its value; a new score without a letter re-derives the letter
+        if (update.score() != null) {
+            grade.setScore(update.score());
+        }
+        grade.setGrade(update.grade());
+        GradeScale.apply(grade);
+        BigDecimal newPoints = grade.getGradePoints();
+
+        transcriptJdbcRepository.applyDeltas(List.of(new Delta(grade.getStudent().getId(), 0,
+                (newPoints != null ? 1 : 0) - (oldPoints != null ? 1 : 0),
+                orZero(newPoints).subtract(orZero(oldPoints)))));
+        change.add(grade.getGrade(), grade.getScore());
+        gradeAnalyticsService.record(grade.getCourse().getId(), grade.getExam().getId(), change);
+
+        logger.info("Grade ID: {} changed to {}", gradeId, grade.getGrade());
+        return grade;
+    }
+
+    private static Delta added(Long studentId, Grade grade) {
+        BigDecimal points = grade.getGradePoints();
+        return new Delta(studentId, 1, points != null ? 1 : 0, orZero(points));
+    }
+
+    private static BigDecimal orZero(BigDecimal value) {
+        return value != null ? value : BigDecimal.ZERO;
+    }
+
+    // Listings are single-query projections; no student, course or exam entity is loaded
+    @Transactional(readOnly = true)
+    public List<GradeSummary> getGradesByStudent(Long studentId) {
         logger.info("Fetching grades for Student ID: {}", studentId);
-        return gradeRepository.findByStudentId(studentId);
+        return gradeRepository.findSummariesByStudentId(studentId);
     }
 
-    public List<Grade> getGradesByCourse(Long courseId) {
+    @Transactional(readOnly = true)
+    public List<GradeSummary> getGradesByCourse(Long courseId) {
         logger.info("Fetching grades for Course ID: {}", courseId);
-        return gradeRepository.findByCourseId(courseId);
+        return gradeRepository.findSummariesByCourseId(courseId);
+    }
+
+    /**
+     * Streams every grade of a course to {@code out} as flat rows, one line per
+     * grade. Rows are read through a fetch-size bounded cursor and written as
+     * they arrive, so memory use does not grow with the number of grades.
+     *
+     * @return the number of rows written
+     */
+    @Transactional(readOnly = true)
+    public long exportGradesByCourse(Long courseId, ExportFormat format, OutputStream out) throws IOException {
+        logger.info("Exporting grades for Course ID: {} as {}", courseId, format);
+
+        long count = 0;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write("studentId,examId,grade\n");
+        }
+        try (Stream<GradeRow> rows = gradeRepository.streamRowsByCourseId(courseId)) {
+            Iterator<GradeRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                GradeRow row = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writer.write(row.studentId() + "," + row.examId() + "," + csvField(row.grade()) + "\n");
+                } else {
+                    writer.write(objectMapper.writeValueAsString(row));
+                    writer.write('\n');
+                }
+                count++;
+            }
+        }
+        writer.flush();
+
+        logger.info("Exported {} grades for Course ID: {}", count, courseId);
+        serviceMetrics.recordPayload(GradeService.class, "exportGradesByCourse", count);
+        return count;
+    }
+
+    private static String csvField(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
     }
 }
@@ -1,13 +1,19 @@
 package com.aditya.learningManagementApp.service;
 
+import com.aditya.learningManagementApp.configure.CacheConfig;
+import com.aditya.learningManagementApp.dto.InstructorSummary;
 import com.aditya.learningManagementApp.entities.Instructor;
 import com.aditya.learningManagementApp.GlobalExceptionHandler.ResourceNotFoundException;
 import com.aditya.learningManagementApp.repository.InstructorRepository;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -22,6 +28,7 @@ public class InstructorService {
     @Autowired
     private BCryptPasswordEncoder passwordEncoder;
 
+    @Transactional
     public Instructor registerInstructor(Instructor instructor) {
         logger.info("Registering new instructor with email: {}", instructor.getEmail());
 
@@ -32,11 +39,19 @@ public class InstructorService {
         return savedInstructor;
     }
 
-    public Optional<Instructor> getInstructorById(Long id) {
+    @Cacheable(cacheNames = CacheConfig.INSTRUCTORS, key = "#id", unless = "#result == null")
+    @Transactional
+    public Optional<InstructorSummary> getInstructorById(Long id) {
         logger.info("Fetching instructor with ID: {}", id);
-        return instructorRepository.findById(id);
+        return instructorRepository.findById(id).map(InstructorSummary::from);
     }
 
+    // Course summaries embed the instructor name, so they are dropped as well
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.INSTRUCTORS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true)
+    })
+    @Transactional
     public Instructor updateInstructorDetails(Long id, Instructor updatedInstructor) {
         logger.info("Updating instructor with ID: {}", id);
         Instructor instructor = instructorRepository.findById(id)
@@ -59,6 +74,11 @@ public class InstructorService {
         return updated;
     }
 
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CacheConfig.INSTRUCTORS, key = "#id"),
+            @CacheEvict(cacheNames = CacheConfig.COURSES, allEntries = true)
+    })
+    @Transactional
     public void deleteInstructor(Long id) {
         logger.info("Attempting to delete instructor with ID: {}", id);
 
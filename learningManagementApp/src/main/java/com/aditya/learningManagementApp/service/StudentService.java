@@ -1,14 +1,21 @@
 package com.aditya.learningManagementApp.service;
 
+import com.aditya.learningManagementApp.configure.CacheConfig;
+import com.aditya.learningManagementApp.dto.StudentSummary;
 import com.aditya.learningManagementApp.entities.Student;
 import com.aditya.learningManagementApp.GlobalExceptionHandler.ResourceNotFoundException;
+import com.aditya.learningManagementApp.repository.EnrollmentJdbcRepository;
 import com.aditya.learningManagementApp.repository.StudentRepository;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -19,9 +26,13 @@ public class StudentService {
     @Autowired
     private StudentRepository studentRepository;
 
+    @Autowired
+    private EnrollmentJdbcRepository enrollmentJdbcRepository;
+
     @Autowired
     private BCryptPasswordEncoder passwordEncoder;
 
+    @Transactional
     public Student registerStudent(Student student) {
         logger.info("Registering new student with email: {}", student.getEmail());
 
@@ -32,11 +43,15 @@ public class StudentService {
         return savedStudent;
     }
 
-    public Optional<Student> getStudentById(Long id) {
+    @Cacheable(cacheNames = CacheConfig.STUDENTS, key = "#id", unless = "#result == null")
+    @Transactional
+    public Optional<StudentSummary> getStudentById(Long id) {
         logger.info("Fetching student with ID: {}", id);
-        return studentRepository.findById(id);
+        return studentRepository.findById(id).map(StudentSummary::from);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.STUDENTS, key = "#id")
+    @Transactional
     public Student updateStudentDetails(Long id, Student updatedStudent) {
         logger.info("Updating student with ID: {}", id);
         Student student = studentRepository.findById(id)
@@ -58,6 +73,8 @@ public class StudentService {
         return updated;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.STUDENTS, key = "#id")
+    @Transactional
     public void deleteStudent(Long id) {
         logger.info("Attempting to delete student with ID: {}", id);
 
@@ -66,7 +83,11 @@ public class StudentService {
             throw new ResourceNotFoundException("Student not found with ID: " + id);
         }
 
+        // Enrollments are dropped like dropStudent does, course by course in id order
+        List<Long> courseIds = enrollmentJdbcRepository.findCourseIdsOfStudent(id);
+        courseIds.forEach(courseId -> enrollmentJdbcRepository.dropEnrollment(id, courseId));
+
         studentRepository.deleteById(id);
-        logger.info("Student deleted successfully with ID: {}", id);
+        logger.info("Student deleted successfully with ID: {}, released seats in {} courses", id, courseIds.size());
     }
 }
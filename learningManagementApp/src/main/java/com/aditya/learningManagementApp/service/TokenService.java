@@ -0,0 +1,110 @@
+package com.aditya.learningManagementApp.service;
+
+import com.aditya.learningManagementApp.configure.TokenConfig;
+import com.aditya.learningManagementApp.dto.TokenResponse;
+import com.aditya.learningManagementApp.entities.User;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+@Service
+public class TokenService {
+
+    private static final Logger logger = LogManager.getLogger(TokenService.class);
+
+    private final JwtEncoder jwtEncoder;
+    private final JwtDecoder refreshTokenDecoder;
+    private final UserService userService;
+    private final Duration accessTokenTtl;
+    private final Duration refreshTokenTtl;
+
+    public TokenService(JwtEncoder jwtEncoder, SecretKey tokenSigningKey, UserService userService,
+                        @Value("${lms.auth.token.access-ttl:PT15M}") Duration accessTokenTtl,
+                        @Value("${lms.auth.token.refresh-ttl:P7D}") Duration refreshTokenTtl) {
+        this.jwtEncoder = jwtEncoder;
+        this.refreshTokenDecoder = TokenConfig.decoderFor(tokenSigningKey, TokenConfig.REFRESH_TOKEN);
+        this.userService = userService;
+        this.accessTokenTtl = accessTokenTtl;
+        this.refreshTokenTtl = refreshTokenTtl;
+    }
+
+    public TokenResponse issueTokens(User user) {
+        logger.info("Issuing tokens for user ID: {}", user.getId());
+        Instant now = Instant.now();
+        List<String> roles = user.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
+
+        JwtClaimsSet access = JwtClaimsSet.builder()
+                .subject(user.getEmail())
+                .issuedAt(now)
+                .expiresAt(now.plus(accessTokenTtl))
+                .claim(TokenConfig.CLAIM_USER_ID, user.getId())
+                .claim(TokenConfig.CLAIM_ROLES, roles)
+                .claim(TokenConfig.CLAIM_TOKEN_TYPE, TokenConfig.ACCESS_TOKEN)
+                .build();
+        JwtClaimsSet refresh = JwtClaimsSet.builder()
+                .subject(user.getEmail())
+                .issuedAt(now)
+                .expiresAt(now.plus(refreshTokenTtl))
+                .claim(TokenConfig.CLAIM_USER_ID, user.getId())
+                .claim(TokenConfig.CLAIM_TOKEN_TYPE, TokenConfig.REFRESH_TOKEN)
+                .claim(TokenConfig.CLAIM_TOKEN_VERSION, user.getTokenVersion())
+                .build();
+
+        return new TokenResponse(encode(access), encode(refresh), "Bearer", accessTokenTtl.toSeconds());
+    }
+
+    /**
+     * Exchanges a valid refresh token for a new token pair. The user is re-read
+     * so that role changes take effect at refresh time, and the token is
+     * refused once the user is deleted (also when the email is registered
+     * again) or has changed password since it was issued.
+     */
+    public TokenResponse refresh(String refreshToken) {
+        Jwt jwt;
+        try {
+            jwt = refreshTokenDecoder.decode(refreshToken);
+        } catch (JwtException e) {
+            logger.warn("Rejected refresh token: {}", e.getMessage());
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+
+        String email = jwt.getSubject();
+        User user = userService.findByEmail(email)
+                .orElseThrow(() -> {
+                    logger.warn("Refresh token presented for unknown user: {}", email);
+                    return new BadCredentialsException("Invalid refresh token");
+                });
+        if (!user.getId().equals(longClaim(jwt, TokenConfig.CLAIM_USER_ID))
+                || !Long.valueOf(user.getTokenVersion()).equals(longClaim(jwt, TokenConfig.CLAIM_TOKEN_VERSION))) {
+            logger.warn("Revoked refresh token presented for user: {}", email);
+            throw new BadCredentialsException("Invalid refresh token");
+        }
+        return issueTokens(user);
+    }
+
+    private static Long longClaim(Jwt jwt, String name) {
+        Object value = jwt.getClaim(name);
+        return value instanceof Number number ? number.longValue() : null;
+    }
+
+    private String encode(JwtClaimsSet claims) {
+        JwsHeader header = JwsHeader.with(MacAlgorithm.HS256).build();
+        return jwtEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+    }
+}
@@ -0,0 +1,100 @@
+package com.aditya.learningManagementApp.service;
+
+import com.aditya.learningManagementApp.GlobalExceptionHandler.ResourceNotFoundException;
+import com.aditya.learningManagementApp.configure.ServiceMetrics;
+import com.aditya.learningManagementApp.dto.Transcript;
+import com.aditya.learningManagementApp.repository.GradeRepository;
+import com.aditya.learningManagementApp.repository.StudentRepository;
+import com.aditya.learningManagementApp.repository.StudentTranscriptRepository;
+import com.aditya.learningManagementApp.repository.TranscriptJdbcRepository;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+public class TranscriptService {
+
+    private static final Logger logger = LogManager.getLogger(TranscriptService.class);
+
+    static final int DEFAULT_REBUILD_CHUNK_SIZE = 10_000;
+
+    @Autowired
+    private StudentTranscriptRepository studentTranscriptRepository;
+
+    @Autowired
+    private TranscriptJdbcRepository transcriptJdbcRepository;
+
+    @Autowired
+    private GradeRepository gradeRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ServiceMetrics serviceMetrics;
+
+    @Value("${lms.transcripts.rebuild-chunk-size:" + DEFAULT_REBUILD_CHUNK_SIZE + "}")
+    private int rebuildChunkSize = DEFAULT_REBUILD_CHUNK_SIZE;
+
+    /**
+     * The totals and GPA come from the student's student_transcripts row, the
+     * exam grades from one projection over grades; neither depends on aggregating
+     * the student's grades at read time. Only a student without a row is
+     * looked up, to tell an empty transcript from an unknown student.
+     */
+    @Transactional(readOnly = true)
+    public Transcript getTranscript(Long studentId) {
+        logger.info("Fetching transcript for Student ID: {}", studentId);
+
+        return studentTranscriptRepository.findById(studentId)
+                .map(totals -> Transcript.from(totals, gradeRepository.findTranscriptEntries(studentId)))
+                .orElseGet(() -> {
+                    if (!studentRepository.existsById(studentId)) {
+                        logger.error("Student not found with ID: {}", studentId);
+                        throw new ResourceNotFoundException("Student not found with id: " + studentId);
+                    }
+                    return Transcript.empty(studentId);
+                });
+    }
+
+    /**
+     * Recomputes grade points from the letter grades and every transcript row
+     * from the grades table, for backfills and after changes to the grade
+     * scale. Works through id ranges, each in its own short transaction, so
+     * locks are never held across the whole table; grading running at the same
+     * time is only briefly blocked on the range being rebuilt.
+     *
+     * @return the number of transcript rows written
+     */
+    public long rebuildTranscripts() {
+        logger.info("Rebuilding transcripts in chunks of {}", rebuildChunkSize);
+
+        long[] grades = transcriptJdbcRepository.findGradeIdRange();
+        long gradesUpdated = 0;
+        for (long from = grades[0]; from <= grades[1]; from += rebuildChunkSize) {
+            long to = from + rebuildChunkSize - 1;
+            long start = from;
+            gradesUpdated += transactionTemplate.execute(status ->
+                    transcriptJdbcRepository.updateGradePoints(GradeScale.points(), start, to));
+        }
+
+        long[] students = transcriptJdbcRepository.findStudentIdRange();
+        long rows = 0;
+        for (long from = students[0]; from <= students[1]; from += rebuildChunkSize) {
+            long to = from + rebuildChunkSize - 1;
+            long start = from;
+            rows += transactionTemplate.execute(status -> transcriptJdbcRepository.rebuildTranscripts(start, to));
+        }
+
+        logger.info("Rebuilt {} transcripts from {} grades", rows, gradesUpdated);
+        serviceMetrics.recordPayload(TranscriptService.class, "rebuildTranscripts", rows);
+        return rows;
+    }
+}
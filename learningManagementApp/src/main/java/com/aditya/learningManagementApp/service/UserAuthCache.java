@@ -0,0 +1,141 @@
+package com.aditya.learningManagementApp.service;
+
+import com.aditya.learningManagementApp.configure.CacheConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserCache;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Short-lived caches for authentication: loaded principals (plugged into the
+ * DaoAuthenticationProvider as its {@link UserCache}) and credentials that
+ * already passed a BCrypt check. Keys are HMACs under a per-process random
+ * secret, so neither usernames nor raw passwords are kept in the caches.
+ * Disabled with {@code lms.cache.auth.enabled=false}.
+ * <p>
+ * Principals are cached as snapshots and handed out as fresh {@link User}
+ * copies: the provider returns the cached object as the authenticated
+ * principal, and the ProviderManager then erases its password, which would
+ * make the next cache hit fail its password check and fall back to the
+ * database.
+ */
+@Service
+public class UserAuthCache implements UserCache {
+
+    private static final Logger logger = LogManager.getLogger(UserAuthCache.class);
+
+    // Not a CredentialsContainer, so nothing can erase the password of a cached entry
+    private record CachedUser(String username, String password, List<GrantedAuthority> authorities,
+                              boolean enabled, boolean accountNonExpired, boolean credentialsNonExpired,
+                              boolean accountNonLocked) {
+
+        static CachedUser of(UserDetails user) {
+            return new CachedUser(user.getUsername(), user.getPassword(), List.copyOf(user.getAuthorities()),
+                    user.isEnabled(), user.isAccountNonExpired(), user.isCredentialsNonExpired(), user.isAccountNonLocked());
+        }
+
+        UserDetails toUserDetails() {
+            return new User(username, password, enabled, accountNonExpired, credentialsNonExpired, accountNonLocked,
+                    authorities);
+        }
+    }
+
+    private final Cache userDetailsCache;
+    private final Cache verifiedCredentialsCache;
+    private final boolean enabled;
+    private final SecretKeySpec keySpec;
+
+    public UserAuthCache(CacheManager cacheManager, @Value("${lms.cache.auth.enabled:true}") boolean enabled) {
+        this.userDetailsCache = cacheManager.getCache(CacheConfig.USER_DETAILS);
+        this.verifiedCredentialsCache = cacheManager.getCache(CacheConfig.VERIFIED_CREDENTIALS);
+        this.enabled = enabled;
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.keySpec = new SecretKeySpec(secret, "HmacSHA256");
+        logger.info("Authentication caches {}", enabled ? "enabled" : "disabled");
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public UserDetails getUserFromCache(String username) {
+        if (!enabled) {
+            return null;
+        }
+        CachedUser cached = userDetailsCache.get(hash(username), CachedUser.class);
+        return cached == null ? null : cached.toUserDetails();
+    }
+
+    @Override
+    public void putUserInCache(UserDetails user) {
+        if (enabled) {
+            userDetailsCache.put(hash(user.getUsername()), CachedUser.of(user));
+        }
+    }
+
+    // Immediate, even where the cache manager holds evictions back until commit
+    @Override
+    public void removeUserFromCache(String username) {
+        userDetailsCache.evictIfPresent(hash(username));
+    }
+
+    /**
+     * Evicts the principal now and, inside a transaction, again once it has
+     * committed. A login in between would otherwise load the old row and cache
+     * it for the whole TTL.
+     */
+    public void evictAfterCommit(String username) {
+        removeUserFromCache(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeUserFromCache(username);
+                }
+            });
+        }
+    }
+
+    // The stored hash is part of the key, so a password change can never match an old entry
+    public boolean isVerified(CharSequence rawPassword, String encodedPassword) {
+        return enabled && verifiedCredentialsCache.get(credentialKey(rawPassword, encodedPassword)) != null;
+    }
+
+    public void markVerified(CharSequence rawPassword, String encodedPassword) {
+        if (enabled) {
+            verifiedCredentialsCache.put(credentialKey(rawPassword, encodedPassword), Boolean.TRUE);
+        }
+    }
+
+    private String credentialKey(CharSequence rawPassword, String encodedPassword) {
+        return hash(encodedPassword + '\u0000' + rawPassword);
+    }
+
+    private String hash(String value) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(keySpec);
+            return Base64.getEncoder().encodeToString(mac.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HmacSHA256 not available", e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.aditya.learningManagementApp.service;
 
+import com.aditya.learningManagementApp.GlobalExceptionHandler.ResourceNotFoundException;
 import com.aditya.learningManagementApp.entities.Role;
 import com.aditya.learningManagementApp.entities.User;
 import com.aditya.learningManagementApp.repository.RoleRepository;
@@ -9,8 +10,11 @@ import org.apache.logging.log4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -27,6 +31,10 @@ public class UserService {
     @Autowired
     private BCryptPasswordEncoder passwordEncoder;
 
+    @Autowired
+    private UserAuthCache userAuthCache;
+
+    @Transactional
     public User registerUser(User user, String roleName) {
         logger.info("Registering user with email: {}", user.getEmail());
 
@@ -48,10 +56,64 @@ public class UserService {
         user.setRoles(Collections.singletonList(role));
 
         User savedUser = userRepository.save(user);
+        userAuthCache.evictAfterCommit(savedUser.getEmail());
         logger.info("User registered successfully with ID: {}", savedUser.getId());
         return savedUser;
     }
 
+    @Transactional
+    public User changePassword(String email, String newPassword) {
+        logger.info("Changing password for user with email: {}", email);
+
+        User user = getExistingUser(email);
+        user.setPassword(passwordEncoder.encode(newPassword));
+        user.setTokenVersion(user.getTokenVersion() + 1);
+        User savedUser = userRepository.save(user);
+
+        userAuthCache.evictAfterCommit(email);
+        logger.info("Password changed for user with ID: {}", savedUser.getId());
+        return savedUser;
+    }
+
+    @Transactional
+    public User updateRoles(String email, List<String> roleNames) {
+        logger.info("Updating roles {} for user with email: {}", roleNames, email);
+
+        User user = getExistingUser(email);
+        List<Role> roles = roleNames.stream()
+                .map(roleName -> roleRepository.findByName(roleName)
+                        .orElseThrow(() -> {
+                            logger.error("Role not found: {}", roleName);
+                            return new IllegalStateException("Role not found: " + roleName);
+                        }))
+                .toList();
+        user.setRoles(new ArrayList<>(roles));
+        User savedUser = userRepository.save(user);
+
+        userAuthCache.evictAfterCommit(email);
+        logger.info("Roles updated for user with ID: {}", savedUser.getId());
+        return savedUser;
+    }
+
+    @Transactional
+    public void deleteUser(String email) {
+        logger.info("Deleting user with email: {}", email);
+
+        User user = getExistingUser(email);
+        userRepository.delete(user);
+
+        userAuthCache.evictAfterCommit(email);
+        logger.info("User with ID {} deleted", user.getId());
+    }
+
+    private User getExistingUser(String email) {
+        return userRepository.findByEmail(email)
+                .orElseThrow(() -> {
+                    logger.warn("User not found with email: {}", email);
+                    return new ResourceNotFoundException("User not found with email: " + email);
+                });
+    }
+
     public Optional<User> findByEmail(String email) {
         logger.info("Searching for user with email: {}", email);
         return userRepository.findByEmail(email);
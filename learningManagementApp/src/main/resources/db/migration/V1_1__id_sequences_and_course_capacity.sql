@@ -0,0 +1,20 @@
+-- Schema changes made while the application still ran ddl-auto=update, for databases baselined at V1.
+-- Ids come from pooled sequences (allocationSize 50), which MySQL emulates with one <table>_seq table each.
+create table instructors_seq (next_val bigint);
+insert into instructors_seq values (1);
+create table courses_seq (next_val bigint);
+insert into courses_seq values (1);
+create table students_seq (next_val bigint);
+insert into students_seq values (1);
+create table exams_seq (next_val bigint);
+insert into exams_seq values (1);
+create table grades_seq (next_val bigint);
+insert into grades_seq values (1);
+create table roles_seq (next_val bigint);
+insert into roles_seq values (1);
+create table users_seq (next_val bigint);
+insert into users_seq values (1);
+
+-- Seat counter (claimed and released with conditional updates) and the optional cap on it
+alter table courses add column capacity integer;
+alter table courses add column enrolled_count integer not null default 0;
@@ -0,0 +1,18 @@
+-- Databases created by the original application already hold identity ids, while the *_seq tables from V1_1 start
+-- at 1. Hibernate's pooled optimizer hands out the block (next_val - 49) .. next_val, so next_val is moved to the end
+-- of the first whole block of 50 above max(id): the first new id is max(id) rounded up to a multiple of 50, plus 1.
+-- Empty tables keep 1, and a sequence that is already further along is left alone.
+update instructors_seq set next_val = greatest(next_val, (select ceil(max(id) / 50.0) * 50 + 50 from instructors))
+where exists (select 1 from instructors);
+update courses_seq set next_val = greatest(next_val, (select ceil(max(id) / 50.0) * 50 + 50 from courses))
+where exists (select 1 from courses);
+update students_seq set next_val = greatest(next_val, (select ceil(max(id) / 50.0) * 50 + 50 from students))
+where exists (select 1 from students);
+update exams_seq set next_val = greatest(next_val, (select ceil(max(id) / 50.0) * 50 + 50 from exams))
+where exists (select 1 from exams);
+update grades_seq set next_val = greatest(next_val, (select ceil(max(id) / 50.0) * 50 + 50 from grades))
+where exists (select 1 from grades);
+update roles_seq set next_val = greatest(next_val, (select ceil(max(id) / 50.0) * 50 + 50 from roles))
+where exists (select 1 from roles);
+update users_seq set next_val = greatest(next_val, (select ceil(max(id) / 50.0) * 50 + 50 from users))
+where exists (select 1 from users);
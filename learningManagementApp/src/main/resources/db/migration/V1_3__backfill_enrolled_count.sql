@@ -0,0 +1,2 @@
+-- enrolled_count started at 0 for every course when it was added; count the enrollments that already existed
+update courses set enrolled_count = (select count(*) from student_courses sc where sc.course_id = courses.id);
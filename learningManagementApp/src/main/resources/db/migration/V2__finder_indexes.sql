@@ -0,0 +1,35 @@
+-- Composite indexes for the repository finders. The foreign keys already give every *_id column a
+-- single-column index (which InnoDB extends with the primary key, so instructor_id + id keyset pages
+-- on courses and exams are covered); these add the multi-column and index-only lookups on top.
+
+-- grades: at most one grade per student and course, the rule assignGrade and assignGradesForExam check.
+-- Existing duplicates are moved, not deleted: the newest row of each student and course stays in grades and
+-- the older ones go to grades_v2_duplicates, to be reviewed (and dropped) by hand.
+create table grades_v2_duplicates (
+    course_id bigint not null,
+    exam_id bigint not null,
+    id bigint not null,
+    student_id bigint not null,
+    grade varchar(255),
+    primary key (id)
+);
+insert into grades_v2_duplicates (course_id, exam_id, id, student_id, grade)
+select course_id, exam_id, id, student_id, grade from grades
+where id not in (select id from (select max(id) as id from grades group by student_id, course_id) as newest);
+delete from grades where id in (select id from grades_v2_duplicates);
+
+-- Leading student_id serves findByStudentId and findByStudentIdAndCourseId
+alter table grades add constraint uk_grades_student_course unique (student_id, course_id);
+
+-- findByCourseId, the course export stream and the bulk-grading check (course_id = ? and student_id in (...))
+create index idx_grades_course_student on grades (course_id, student_id);
+
+-- exam_students: a student's exams (findSummariesByStudentId) and exam rosters (findRosterEntries), index-only
+create index idx_exam_students_student_exam on exam_students (student_id, exam_id);
+create index idx_exam_students_exam_student on exam_students (exam_id, student_id);
+
+-- student_courses: the primary key (course_id, student_id) serves course-side lookups; this serves a student's courses
+create index idx_student_courses_student_course on student_courses (student_id, course_id);
+
+-- user_roles: loaded eagerly with every principal
+create index idx_user_roles_user_role on user_roles (user_id, role_id);
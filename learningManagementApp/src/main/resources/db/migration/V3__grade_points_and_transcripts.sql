@@ -0,0 +1,30 @@
+-- Numeric scores and grade points on grades, and a per-student transcript row kept in step by
+-- GradeService, so a transcript is read with a primary key lookup instead of an aggregate over grades.
+
+-- score is optional (0-100); grade_points is derived from the letter grade by GradeScale, null off the scale
+alter table grades add column score decimal(5,2);
+alter table grades add column grade_points decimal(3,2);
+
+update grades set grade_points = case upper(trim(grade))
+    when 'A+' then 4.00 when 'A' then 4.00 when 'A-' then 3.70
+    when 'B+' then 3.30 when 'B' then 3.00 when 'B-' then 2.70
+    when 'C+' then 2.30 when 'C' then 2.00 when 'C-' then 1.70
+    when 'D+' then 1.30 when 'D' then 1.00 when 'D-' then 0.70
+    when 'F' then 0.00
+    else null end;
+
+-- Grades are unique per (student, course), so the exam grades counted here are also graded courses;
+-- gpa_exam_grades counts the ones with grade points and the GPA is grade_points / gpa_exam_grades
+create table student_transcripts (
+    student_id bigint not null,
+    exam_grades integer not null,
+    gpa_exam_grades integer not null,
+    grade_points decimal(10,2) not null,
+    primary key (student_id),
+    constraint fk_student_transcripts_student foreign key (student_id) references students (id)
+);
+
+insert into student_transcripts (student_id, exam_grades, gpa_exam_grades, grade_points)
+select student_id, count(*), count(grade_points), coalesce(sum(grade_points), 0)
+from grades
+group by student_id;
@@ -0,0 +1,14 @@
+-- Running grade statistics per exam and per course, kept in step by GradeService (GradeAnalyticsService), so
+-- dashboards read one row instead of scanning the grades. letter_counts and score_bins are arrays of 4-byte
+-- big-endian counters (GradeHistogram); the rows are built from the existing grades on first startup.
+create table grade_distributions (
+    scope varchar(6) not null,
+    scope_id bigint not null,
+    graded integer not null,
+    scored integer not null,
+    score_sum decimal(12,2) not null,
+    score_sum_squares decimal(16,4) not null,
+    letter_counts varbinary(64) not null,
+    score_bins varbinary(512) not null,
+    primary key (scope, scope_id)
+);
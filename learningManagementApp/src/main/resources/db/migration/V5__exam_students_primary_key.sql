@@ -0,0 +1,11 @@
+-- exam_students becomes a set (Exam.students): one row per exam and student, enforced by a primary key, so
+-- roster changes insert and delete single rows. Keeps one row of any existing duplicates.
+create table exam_students_distinct as select distinct exam_id, student_id from exam_students;
+delete from exam_students;
+insert into exam_students (exam_id, student_id) select exam_id, student_id from exam_students_distinct;
+drop table exam_students_distinct;
+
+alter table exam_students add primary key (exam_id, student_id);
+
+-- The primary key serves exam rosters now
+drop index idx_exam_students_exam_student on exam_students;
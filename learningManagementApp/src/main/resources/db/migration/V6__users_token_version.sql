@@ -0,0 +1,2 @@
+-- Refresh tokens carry the user's token version; changing the password bumps it, which revokes the tokens issued before
+alter table users add column token_version integer not null default 0;
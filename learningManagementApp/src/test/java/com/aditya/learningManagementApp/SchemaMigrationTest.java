@@ -0,0 +1,193 @@
+package com.aditya.learningManagementApp;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.MigrateResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the Flyway migrations on H2 in MySQL mode, with the MySQL dialect so the
+ * sequences are the same *_seq tables, and lets Hibernate validate the entity
+ * mapping against the result.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:lms-migrations;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("h2")
+class SchemaMigrationTest {
+
+    private static final Set<String> FINDER_INDEXES = Set.of(
+            "uk_grades_student_course",
+            "idx_grades_course_student",
+            "idx_exam_students_student_exam",
+            "idx_student_courses_student_course",
+            "idx_user_roles_user_role");
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void migratedSchema_HasFinderIndexes() {
+        assertFinderIndexes(dataSource);
+    }
+
+    @Test
+    void secondGradeForSameCourse_IsRejected() {
+        jdbcTemplate.update("INSERT INTO instructors (id, email, name, password) VALUES (1, 'i@lms.test', 'I', 'x')");
+        jdbcTemplate.update("INSERT INTO courses (id, enrolled_count, instructor_id, description, title) VALUES (1, 0, 1, 'd', 't')");
+        jdbcTemplate.update("INSERT INTO exams (id, course_id, instructor_id, name) VALUES (1, 1, 1, 'e')");
+        jdbcTemplate.update("INSERT INTO exams (id, course_id, instructor_id, name) VALUES (3, 1, 1, 'e2')");
+        jdbcTemplate.update("INSERT INTO students (id, email, name, password) VALUES (1, 's@lms.test', 'S', 'x')");
+        jdbcTemplate.update("INSERT INTO grades (id, course_id, exam_id, student_id, grade) VALUES (1, 1, 1, 1, 'A')");
+
+        // One grade per student and course, whichever exam it is for
+        assertThrows(DataIntegrityViolationException.class, () ->
+                jdbcTemplate.update("INSERT INTO grades (id, course_id, exam_id, student_id, grade) VALUES (2, 1, 3, 1, 'B')"));
+    }
+
+    @Test
+    void studentAssignedTwiceToSameExam_IsRejected() {
+        jdbcTemplate.update("INSERT INTO instructors (id, email, name, password) VALUES (2, 'i2@lms.test', 'I', 'x')");
+        jdbcTemplate.update("INSERT INTO courses (id, enrolled_count, instructor_id, description, title) VALUES (2, 0, 2, 'd', 't')");
+        jdbcTemplate.update("INSERT INTO exams (id, course_id, instructor_id, name) VALUES (2, 2, 2, 'e')");
+        jdbcTemplate.update("INSERT INTO students (id, email, name, password) VALUES (2, 's2@lms.test', 'S', 'x')");
+        jdbcTemplate.update("INSERT INTO exam_students (exam_id, student_id) VALUES (2, 2)");
+
+        assertThrows(DataIntegrityViolationException.class, () ->
+                jdbcTemplate.update("INSERT INTO exam_students (exam_id, student_id) VALUES (2, 2)"));
+    }
+
+    @Test
+    void legacySchema_IsBaselinedAndIndexed() throws SQLException {
+        DataSource legacy = legacyDatabase("lms-legacy");
+        // Duplicates the old schema allowed: a grade recorded twice for the same exam and a student assigned twice
+        JdbcTemplate jdbc = new JdbcTemplate(legacy);
+        jdbc.update("INSERT INTO instructors (email, name, password) VALUES ('i@lms.test', 'I', 'x')");
+        jdbc.update("INSERT INTO courses (instructor_id, description, title) VALUES (1, 'd', 't')");
+        jdbc.update("INSERT INTO exams (course_id, instructor_id, name) VALUES (1, 1, 'e')");
+        jdbc.update("INSERT INTO students (email, name, password) VALUES ('s@lms.test', 'S', 'x')");
+        jdbc.update("INSERT INTO grades (course_id, exam_id, student_id, grade) VALUES (1, 1, 1, 'A')");
+        jdbc.update("INSERT INTO grades (course_id, exam_id, student_id, grade) VALUES (1, 1, 1, 'B')");
+        jdbc.update("INSERT INTO exam_students (exam_id, student_id) VALUES (1, 1)");
+        jdbc.update("INSERT INTO exam_students (exam_id, student_id) VALUES (1, 1)");
+        jdbc.update("INSERT INTO student_courses (course_id, student_id) VALUES (1, 1)");
+
+        MigrateResult result = migrateLegacy(legacy);
+
+        assertEquals("6", result.targetSchemaVersion);
+        assertEquals("B", jdbc.queryForObject("SELECT grade FROM grades", String.class));
+        assertEquals("A", jdbc.queryForObject("SELECT grade FROM grades_v2_duplicates", String.class));
+        assertEquals(0, new BigDecimal("3.00").compareTo(jdbc.queryForObject("SELECT grade_points FROM grades", BigDecimal.class)));
+        assertEquals(1, jdbc.queryForObject("SELECT gpa_exam_grades FROM student_transcripts WHERE student_id = 1", Integer.class));
+        assertEquals(1, jdbc.queryForObject("SELECT COUNT(*) FROM exam_students", Integer.class));
+        assertEquals(1, jdbc.queryForObject("SELECT enrolled_count FROM courses", Integer.class));
+        assertFinderIndexes(legacy);
+    }
+
+    @Test
+    void legacyIds_AreNotHandedOutAgain() throws SQLException {
+        DataSource legacy = legacyDatabase("lms-legacy-ids");
+        JdbcTemplate jdbc = new JdbcTemplate(legacy);
+        for (int i = 0; i < 150; i++) {
+            jdbc.update("INSERT INTO students (email, name, password) VALUES (?, 'S', 'x')", "s" + i + "@lms.test");
+        }
+
+        migrateLegacy(legacy);
+
+        // The first pooled block is next_val - 49 .. next_val: 151 .. 200
+        assertEquals(200, jdbc.queryForObject("SELECT next_val FROM students_seq", Long.class));
+        assertEquals(1, jdbc.queryForObject("SELECT next_val FROM grades_seq", Long.class));
+    }
+
+    // A baselined database never runs V1, so it must end up with exactly the schema a new one gets
+    @Test
+    void legacySchema_EndsUpLikeNewSchema() throws SQLException {
+        DataSource legacy = legacyDatabase("lms-legacy-shape");
+
+        migrateLegacy(legacy);
+
+        assertEquals(columns(dataSource), columns(legacy));
+        assertEquals(indexNames(dataSource), indexNames(legacy));
+    }
+
+    private static DataSource legacyDatabase(String name) throws SQLException {
+        DataSource legacy = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        try (Connection connection = legacy.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ClassPathResource("db/legacy/original_schema.sql"));
+        }
+        return legacy;
+    }
+
+    private static MigrateResult migrateLegacy(DataSource legacy) {
+        return Flyway.configure()
+                .dataSource(legacy)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load()
+                .migrate();
+    }
+
+    // table.column type nullability, for every application table
+    private static Set<String> columns(DataSource dataSource) {
+        Set<String> columns = new TreeSet<>();
+        try (Connection connection = dataSource.getConnection();
+             ResultSet rs = connection.getMetaData().getColumns(null, "public", null, null)) {
+            while (rs.next()) {
+                String table = rs.getString("TABLE_NAME").toLowerCase();
+                if (!table.equals("flyway_schema_history")) {
+                    columns.add(table + "." + rs.getString("COLUMN_NAME").toLowerCase() + " "
+                            + rs.getString("TYPE_NAME") + " " + rs.getString("IS_NULLABLE"));
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return columns;
+    }
+
+    // H2 names the index behind a unique constraint after the constraint, with a suffix
+    private static void assertFinderIndexes(DataSource dataSource) {
+        Set<String> names = indexNames(dataSource);
+        for (String expected : FINDER_INDEXES) {
+            assertTrue(names.stream().anyMatch(name -> name.startsWith(expected)), () -> expected + " missing from " + names);
+        }
+    }
+
+    private static Set<String> indexNames(DataSource dataSource) {
+        Set<String> names = new HashSet<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String table : new String[]{"grades", "exam_students", "student_courses", "user_roles"}) {
+                try (ResultSet indexes = metaData.getIndexInfo(null, null, table, false, false)) {
+                    while (indexes.next()) {
+                        names.add(indexes.getString("INDEX_NAME").toLowerCase());
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+        return names;
+    }
+}
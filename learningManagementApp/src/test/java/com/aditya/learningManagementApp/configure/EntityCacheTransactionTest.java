@@ -0,0 +1,52 @@
+package com.aditya.learningManagementApp.configure;
+
+import com.aditya.learningManagementApp.dto.StudentSummary;
+import com.aditya.learningManagementApp.entities.Student;
+import com.aditya.learningManagementApp.repository.StudentRepository;
+import com.aditya.learningManagementApp.service.StudentService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * A @CacheEvict inside a transaction takes effect at commit, so a read from
+ * another request while the update is still open cannot leave the old row in
+ * the cache.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class EntityCacheTransactionTest {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void readBeforeCommit_DoesNotOutliveTheUpdate() {
+        String email = "cache-tx-" + System.nanoTime() + "@lms.test";
+        Long id = studentRepository.save(new Student("Before", email, "secret")).getId();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            studentService.updateStudentDetails(id, new Student("After", email, null));
+
+            // Another request still sees the committed row and caches it
+            String seen = CompletableFuture.supplyAsync(() -> studentService.getStudentById(id))
+                    .join().map(StudentSummary::name).orElseThrow();
+            assertEquals("Before", seen);
+        });
+
+        assertEquals("After", studentService.getStudentById(id).map(StudentSummary::name).orElseThrow());
+    }
+}
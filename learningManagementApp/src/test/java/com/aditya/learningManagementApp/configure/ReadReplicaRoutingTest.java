@@ -0,0 +1,144 @@
+package com.aditya.learningManagementApp.configure;
+
+import com.aditya.learningManagementApp.entities.Course;
+import com.aditya.learningManagementApp.entities.Instructor;
+import com.aditya.learningManagementApp.entities.Student;
+import com.aditya.learningManagementApp.repository.CourseRepository;
+import com.aditya.learningManagementApp.repository.InstructorRepository;
+import com.aditya.learningManagementApp.repository.StudentRepository;
+import com.aditya.learningManagementApp.service.GradeAnalyticsService;
+import com.aditya.learningManagementApp.service.StudentService;
+import com.aditya.learningManagementApp.service.TranscriptService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Two pools on the same in-memory database stand in for a primary and a
+ * replica: which pool has a connection checked out shows where a transaction
+ * was routed.
+ */
+@SpringBootTest(properties = {
+        "lms.datasource.replica.url=jdbc:h2:mem:lms-test;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "lms.datasource.replica.lag-query=",
+        "lms.datasource.replica.check-interval=PT1H"
+})
+@ActiveProfiles("h2")
+class ReadReplicaRoutingTest {
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private HikariDataSource primary;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private HikariDataSource replica;
+
+    @Autowired
+    private ReplicaLagMonitor monitor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private TranscriptService transcriptService;
+
+    @Autowired
+    private GradeAnalyticsService gradeAnalyticsService;
+
+    @Autowired
+    private InstructorRepository instructorRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        monitor.check();
+    }
+
+    @Test
+    void readOnlyTransaction_RunsOnReplica() {
+        assertEquals("replica", routedTo(true));
+    }
+
+    @Test
+    void readWriteTransaction_RunsOnPrimary() {
+        assertEquals("primary", routedTo(false));
+    }
+
+    @Test
+    void unusableReplica_ReadOnlyTransactionRunsOnPrimary() {
+        monitor.markUnavailable(new IllegalStateException("replica down"));
+
+        assertEquals("primary", routedTo(true));
+    }
+
+    @Test
+    void cachedLookup_RunsOnPrimary() {
+        Long id = studentRepository.save(new Student("Cached", "cached-" + System.nanoTime() + "@lms.test", "x")).getId();
+        long replicaBefore = connectionsUsed(replica);
+        long primaryBefore = connectionsUsed(primary);
+
+        assertTrue(studentService.getStudentById(id).isPresent());
+
+        assertEquals(replicaBefore, connectionsUsed(replica));
+        assertEquals(primaryBefore + 1, connectionsUsed(primary));
+    }
+
+    @Test
+    void existenceCheckInReadOnlyTransaction_StaysOnReplicaAndOutOfCache() {
+        Long studentId = studentRepository.save(new Student("Ungraded", "ungraded-" + System.nanoTime() + "@lms.test", "x")).getId();
+        Instructor instructor = new Instructor();
+        instructor.setName("Routing Instructor");
+        instructor.setEmail("routing-" + System.nanoTime() + "@lms.test");
+        instructor.setPassword("secret");
+        Long courseId = courseRepository.save(new Course("Routing", "Replica", instructorRepository.save(instructor))).getId();
+        long primaryBefore = connectionsUsed(primary);
+
+        assertEquals(0, transcriptService.getTranscript(studentId).examGrades());
+        assertEquals(0, gradeAnalyticsService.getCourseDistribution(courseId).graded());
+
+        assertEquals(primaryBefore, connectionsUsed(primary));
+        assertNull(cacheManager.getCache(CacheConfig.STUDENTS).get(studentId));
+        assertNull(cacheManager.getCache(CacheConfig.COURSES).get(courseId));
+    }
+
+    private String routedTo(boolean readOnly) {
+        TransactionTemplate transactions = new TransactionTemplate(transactionManager);
+        transactions.setReadOnly(readOnly);
+        return transactions.execute(status -> {
+            studentRepository.count();
+            int onPrimary = primary.getHikariPoolMXBean().getActiveConnections();
+            int onReplica = replica.getHikariPoolMXBean().getActiveConnections();
+            assertEquals(1, onPrimary + onReplica);
+            return onReplica == 1 ? "replica" : "primary";
+        });
+    }
+
+    private long connectionsUsed(HikariDataSource pool) {
+        return meterRegistry.get("hikaricp.connections.usage").tag("pool", pool.getPoolName()).timer().count();
+    }
+}
@@ -0,0 +1,110 @@
+package com.aditya.learningManagementApp.configure;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaFallbackDataSourceTest {
+
+    private final DataSource primary = database("fallback-primary");
+    private final DataSource replica = database("fallback-replica");
+
+    @Test
+    void readsStayOnPrimaryUntilFirstCheck() throws SQLException {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, "", Duration.ofSeconds(5));
+
+        assertEquals("fallback-primary", servedBy(new ReplicaFallbackDataSource(replica, primary, monitor)));
+    }
+
+    @Test
+    void replicaWithinMaxLag_ServesReads() throws SQLException {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, "SELECT 2 AS Seconds_Behind_Source", Duration.ofSeconds(5));
+        monitor.check();
+
+        assertTrue(monitor.isUsable());
+        assertEquals(2, monitor.getLagSeconds());
+        assertEquals("fallback-replica", servedBy(new ReplicaFallbackDataSource(replica, primary, monitor)));
+    }
+
+    @Test
+    void laggingReplica_FallsBackToPrimary() throws SQLException {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, "SELECT 30 AS Seconds_Behind_Source", Duration.ofSeconds(5));
+        monitor.check();
+
+        assertFalse(monitor.isUsable());
+        assertEquals("fallback-primary", servedBy(new ReplicaFallbackDataSource(replica, primary, monitor)));
+    }
+
+    @Test
+    void stoppedReplication_FallsBackToPrimary() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, "SELECT CAST(NULL AS BIGINT) AS Seconds_Behind_Master", Duration.ofSeconds(5));
+        monitor.check();
+
+        assertFalse(monitor.isUsable());
+        assertEquals(-1, monitor.getLagSeconds());
+    }
+
+    @Test
+    void standaloneInstance_CountsAsCurrent() {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, "SELECT 1 WHERE 1 = 0", Duration.ofSeconds(5));
+        monitor.check();
+
+        assertTrue(monitor.isUsable());
+    }
+
+    @Test
+    void failingReplica_FallsBackToPrimaryAndIsMarkedUnusable() throws SQLException {
+        DataSource broken = mock(DataSource.class);
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, "", Duration.ofSeconds(5));
+        monitor.check();
+        when(broken.getConnection()).thenThrow(new SQLException("Connection refused"));
+
+        assertEquals("fallback-primary", servedBy(new ReplicaFallbackDataSource(broken, primary, monitor)));
+        assertFalse(monitor.isUsable());
+    }
+
+    @Test
+    void explicitCredentials_ArePassedToReplica() throws SQLException {
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, "", Duration.ofSeconds(5));
+        monitor.check();
+
+        try (Connection connection = new ReplicaFallbackDataSource(replica, primary, monitor).getConnection("sa", "")) {
+            assertEquals("fallback-replica", connection.getCatalog().toLowerCase());
+        }
+    }
+
+    @Test
+    void explicitCredentials_FailingReplica_FallsBackToPrimary() throws SQLException {
+        DataSource broken = mock(DataSource.class);
+        DataSource primaryWithCredentials = mock(DataSource.class);
+        Connection primaryConnection = mock(Connection.class);
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(replica, "", Duration.ofSeconds(5));
+        monitor.check();
+        when(broken.getConnection("reporting", "secret")).thenThrow(new SQLException("Connection refused"));
+        when(primaryWithCredentials.getConnection("reporting", "secret")).thenReturn(primaryConnection);
+
+        assertSame(primaryConnection, new ReplicaFallbackDataSource(broken, primaryWithCredentials, monitor).getConnection("reporting", "secret"));
+        assertFalse(monitor.isUsable());
+    }
+
+    private static String servedBy(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getCatalog().toLowerCase();
+        }
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        new JdbcTemplate(dataSource).execute("SELECT 1");
+        return dataSource;
+    }
+}
@@ -0,0 +1,121 @@
+package com.aditya.learningManagementApp.configure;
+
+import com.aditya.learningManagementApp.entities.Course;
+import com.aditya.learningManagementApp.entities.Instructor;
+import com.aditya.learningManagementApp.entities.Role;
+import com.aditya.learningManagementApp.repository.CourseRepository;
+import com.aditya.learningManagementApp.repository.EnrollmentJdbcRepository;
+import com.aditya.learningManagementApp.repository.InstructorRepository;
+import com.aditya.learningManagementApp.repository.RoleRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Each lookup runs in its own transaction, so a second one can only be
+ * answered without SQL if the first left its result in the second-level cache.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactions;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private InstructorRepository instructorRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private EnrollmentJdbcRepository enrollmentJdbcRepository;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void instructorById_ServedFromCache() {
+        Long id = saveInstructor("cached@lms.test").getId();
+        statistics.clear();
+
+        transactions.executeWithoutResult(status -> instructorRepository.findById(id).orElseThrow());
+        transactions.executeWithoutResult(status -> instructorRepository.findById(id).orElseThrow());
+
+        assertEquals(2, statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.INSTRUCTORS).getHitCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void roleByName_ServedFromQueryCache() {
+        transactions.executeWithoutResult(status -> roleRepository.save(new Role("ROLE_CACHED")));
+        statistics.clear();
+
+        transactions.executeWithoutResult(status -> roleRepository.findByName("ROLE_CACHED").orElseThrow());
+        transactions.executeWithoutResult(status -> roleRepository.findByName("ROLE_CACHED").orElseThrow());
+
+        assertEquals(1, statistics.getQueryRegionStatistics(SecondLevelCacheConfig.ROLE_QUERIES).getMissCount());
+        assertEquals(1, statistics.getQueryRegionStatistics(SecondLevelCacheConfig.ROLE_QUERIES).getHitCount());
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void seatClaim_KeepsCourseAndCourseListCached() {
+        Instructor instructor = saveInstructor("seats@lms.test");
+        Long courseId = transactions.execute(status ->
+                courseRepository.save(new Course("Cached", "Seat counts", instructor)).getId());
+        transactions.executeWithoutResult(status -> courseRepository.findById(courseId).orElseThrow());
+        assertEquals(1, courseCount(instructor.getId()));
+
+        transactions.executeWithoutResult(status -> enrollmentJdbcRepository.claimSeats(courseId, 1));
+        statistics.clear();
+
+        transactions.executeWithoutResult(status -> courseRepository.findById(courseId).orElseThrow());
+        assertEquals(1, courseCount(instructor.getId()));
+
+        assertEquals(0, statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.COURSES).getMissCount());
+        assertEquals(0, statistics.getDomainDataRegionStatistics(SecondLevelCacheConfig.INSTRUCTOR_COURSES).getMissCount());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, enrollmentJdbcRepository.findEnrollmentCount(courseId).orElseThrow().enrolledCount());
+    }
+
+    @Test
+    void newCourse_EvictsCachedCourseList() {
+        Instructor instructor = saveInstructor("courses@lms.test");
+        assertEquals(0, courseCount(instructor.getId()));
+
+        transactions.executeWithoutResult(status -> courseRepository.save(new Course("New", "Evicts", instructor)));
+
+        assertEquals(1, courseCount(instructor.getId()));
+    }
+
+    private Instructor saveInstructor(String email) {
+        Instructor instructor = new Instructor();
+        instructor.setName("Cached Instructor");
+        instructor.setEmail(email);
+        instructor.setPassword("secret");
+        return transactions.execute(status -> instructorRepository.save(instructor));
+    }
+
+    private int courseCount(Long instructorId) {
+        return transactions.execute(status -> instructorRepository.findById(instructorId).orElseThrow().getCourses().size());
+    }
+}
@@ -1,5 +1,6 @@
 package com.aditya.learningManagementApp.controllers;
 
+import com.aditya.learningManagementApp.dto.CourseSummary;
 import com.aditya.learningManagementApp.entities.Course;
 import com.aditya.learningManagementApp.entities.Instructor;
 import com.aditya.learningManagementApp.GlobalExceptionHandler.ResourceNotFoundException;
@@ -10,8 +11,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
-import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Arrays;
@@ -31,10 +32,10 @@ class CourseControllerTest {
     @Autowired
     private MockMvc mockMvc;
 
-    @MockBean
+    @MockitoBean
     private CourseService courseService;
 
-    @MockBean
+    @MockitoBean
     private CustomUserDetailsService customUserDetailsService;
 
     @Autowired
@@ -71,7 +72,7 @@ class CourseControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id", is(3)))
                 .andExpect(jsonPath("$.title", is("New Course")))
-                .andExpect(jsonPath("$.instructor.id", is(1)));
+                .andExpect(jsonPath("$.instructorId", is(1)));
 
         verify(courseService).addCourse(any(Course.class), eq(1L));
     }
@@ -176,17 +177,37 @@ class CourseControllerTest {
 
     @Test
     void getAllCourses_Success() throws Exception {
-        List<Course> courses = Arrays.asList(course1, course2);
-        when(courseService.getAllCourses()).thenReturn(courses);
+        List<CourseSummary> courses = Arrays.asList(
+                new CourseSummary(1L, "Java Basics", "Intro to Java", 1L, "Test Instructor"),
+                new CourseSummary(2L, "Spring Boot", "Web dev with Spring", 1L, "Test Instructor"));
+        when(courseService.getCourseSummaries(null, null, CourseService.DEFAULT_PAGE_SIZE)).thenReturn(courses);
 
         mockMvc.perform(get("/course/all")
                         .with(user("admin").roles("ADMIN")))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$", hasSize(2)))
                 .andExpect(jsonPath("$[0].id", is(1)))
-                .andExpect(jsonPath("$[1].id", is(2)));
+                .andExpect(jsonPath("$[1].id", is(2)))
+                .andExpect(jsonPath("$[0].students").doesNotExist())
+                .andExpect(header().string("X-Next-After-Id", "2"));
 
-        verify(courseService).getAllCourses();
+        verify(courseService).getCourseSummaries(null, null, CourseService.DEFAULT_PAGE_SIZE);
+    }
+
+    @Test
+    void getAllCourses_WithCursorAndInstructorFilter() throws Exception {
+        when(courseService.getCourseSummaries(2L, 1L, 10)).thenReturn(List.of());
+
+        mockMvc.perform(get("/course/all")
+                        .param("afterId", "2")
+                        .param("instructorId", "1")
+                        .param("limit", "10")
+                        .with(user("admin").roles("ADMIN")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)))
+                .andExpect(header().doesNotExist("X-Next-After-Id"));
+
+        verify(courseService).getCourseSummaries(2L, 1L, 10);
     }
 
     @Test
@@ -195,7 +216,7 @@ class CourseControllerTest {
                         .with(user("student").roles("STUDENT")))
                 .andExpect(status().isForbidden());
 
-        verify(courseService, never()).getAllCourses();
+        verify(courseService, never()).getCourseSummaries(any(), any(), anyInt());
     }
 
     @Test
@@ -203,12 +224,12 @@ class CourseControllerTest {
         mockMvc.perform(get("/course/all"))
                 .andExpect(status().isUnauthorized());
 
-        verify(courseService, never()).getAllCourses();
+        verify(courseService, never()).getCourseSummaries(any(), any(), anyInt());
     }
 
     @Test
     void getCourseById_Success() throws Exception {
-        when(courseService.getCourseById(1L)).thenReturn(course1);
+        when(courseService.getCourseById(1L)).thenReturn(CourseSummary.from(course1));
 
         mockMvc.perform(get("/course/{id}", 1L)
                         .with(user("admin").roles("ADMIN")))
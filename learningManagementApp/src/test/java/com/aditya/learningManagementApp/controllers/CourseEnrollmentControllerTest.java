@@ -5,14 +5,18 @@
      import org.junit.jupiter.api.Test;
      import org.springframework.beans.factory.annotation.Autowired;
      import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
-     import org.springframework.boot.test.mock.mockito.MockBean;
+     import org.springframework.dao.DataAccessResourceFailureException;
+     import org.springframework.test.context.bean.override.mockito.MockitoBean;
      import org.springframework.test.web.servlet.MockMvc;
+     import org.springframework.transaction.CannotCreateTransactionException;
 
      import static org.mockito.Mockito.*;
+     import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
      import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
      import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
      import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
      import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+     import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
      import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
      @WebMvcTest(CourseEnrollmentController.class)
@@ -21,10 +25,10 @@
          @Autowired
          private MockMvc mockMvc;
 
-         @MockBean
+         @MockitoBean
          private CourseEnrollmentService enrollmentService;
 
-         @MockBean
+         @MockitoBean
          private CustomUserDetailsService customUserDetailsService; // For security context
 
          @Test
@@ -127,4 +131,32 @@
 
              verify(enrollmentService).dropStudent(99L, 999L);
          }
+
+         @Test
+         void enroll_PoolTimeout_IsServiceUnavailable() throws Exception {
+             when(enrollmentService.enrollStudent(1L, 10L))
+                     .thenThrow(new CannotCreateTransactionException("Connection is not available"));
+
+             mockMvc.perform(post("/course/enrollment/enroll")
+                             .param("studentId", "1")
+                             .param("courseId", "10")
+                             .with(user("student").roles("STUDENT", "ADMIN"))
+                             .with(csrf()))
+                     .andExpect(status().isServiceUnavailable())
+                     .andExpect(header().string("Retry-After", "1"));
+         }
+
+         @Test
+         void unenroll_PoolTimeout_IsServiceUnavailable() throws Exception {
+             when(enrollmentService.dropStudent(1L, 10L))
+                     .thenThrow(new DataAccessResourceFailureException("Connection is not available"));
+
+             mockMvc.perform(delete("/course/enrollment/unenroll")
+                             .param("studentId", "1")
+                             .param("courseId", "10")
+                             .with(user("student").roles("STUDENT", "ADMIN"))
+                             .with(csrf()))
+                     .andExpect(status().isServiceUnavailable())
+                     .andExpect(header().string("Retry-After", "1"));
+         }
      }
@@ -1,5 +1,6 @@
  package com.aditya.learningManagementApp.controllers;
 
+     import com.aditya.learningManagementApp.dto.ExamSummary;
      import com.aditya.learningManagementApp.entities.Course;
      import com.aditya.learningManagementApp.entities.Exam;
      import com.aditya.learningManagementApp.entities.Instructor;
@@ -11,11 +12,12 @@
      import org.junit.jupiter.api.Test;
      import org.springframework.beans.factory.annotation.Autowired;
      import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
-     import org.springframework.boot.test.mock.mockito.MockBean;
      import org.springframework.http.MediaType;
+     import org.springframework.test.context.bean.override.mockito.MockitoBean;
      import org.springframework.test.web.servlet.MockMvc;
 
      import java.util.ArrayList;
+     import java.util.HashSet;
      import java.util.Arrays;
      import java.util.List;
 
@@ -34,10 +36,10 @@
          @Autowired
          private MockMvc mockMvc;
 
-         @MockBean
+         @MockitoBean
          private ExamService examService;
 
-         @MockBean
+         @MockitoBean
          private CustomUserDetailsService customUserDetailsService; // Security context
 
          @Autowired
@@ -61,14 +63,14 @@
              exam1.setName("Midterm");
              exam1.setInstructor(instructor);
              exam1.setCourse(course);
-             exam1.setStudents(new ArrayList<>());
+             exam1.setStudents(new HashSet<>());
 
              exam2 = new Exam();
              exam2.setId(2L);
              exam2.setName("Final");
              exam2.setInstructor(instructor);
              exam2.setCourse(course);
-             exam2.setStudents(new ArrayList<>());
+             exam2.setStudents(new HashSet<>());
          }
 
          @Test
@@ -100,17 +102,18 @@
 
          @Test
          void getExamsByInstructor_Success() throws Exception {
-             List<Exam> exams = Arrays.asList(exam1, exam2);
-             when(examService.getExamsByInstructor(1L)).thenReturn(exams);
+             List<ExamSummary> exams = Arrays.asList(summaryOf(exam1), summaryOf(exam2));
+             when(examService.getExamsByInstructor(1L, false)).thenReturn(exams);
 
              mockMvc.perform(get("/exam/instructor/{instructorId}", 1L)
                              .with(user("instructor").roles("INSTRUCTOR", "ADMIN"))) // Instructor/Admin can view their exams
                      .andExpect(status().isOk())
                      .andExpect(jsonPath("$", hasSize(2)))
                      .andExpect(jsonPath("$[0].id", is(1)))
-                     .andExpect(jsonPath("$[1].id", is(2)));
+                     .andExpect(jsonPath("$[1].id", is(2)))
+                     .andExpect(jsonPath("$[0].students").doesNotExist());
 
-             verify(examService).getExamsByInstructor(1L);
+             verify(examService).getExamsByInstructor(1L, false);
          }
 
           @Test
@@ -119,14 +122,14 @@
                              .with(user("student").roles("STUDENT"))) // Student cannot view instructor exams
                      .andExpect(status().isForbidden());
 
-             verify(examService, never()).getExamsByInstructor(anyLong());
+             verify(examService, never()).getExamsByInstructor(anyLong(), anyBoolean());
          }
 
 
          @Test
          void getExamsByStudent_Success() throws Exception {
-             List<Exam> exams = List.of(exam1); // Assume student 5 is assigned exam1
-             when(examService.getExamsByStudent(5L)).thenReturn(exams);
+             List<ExamSummary> exams = List.of(summaryOf(exam1)); // Assume student 5 is assigned exam1
+             when(examService.getExamsByStudent(5L, false)).thenReturn(exams);
 
              mockMvc.perform(get("/exam/student/{studentId}", 5L)
                              .with(user("student").roles("STUDENT", "ADMIN"))) // Student/Admin can view student exams
@@ -134,7 +137,12 @@
                      .andExpect(jsonPath("$", hasSize(1)))
                      .andExpect(jsonPath("$[0].id", is(1)));
 
-             verify(examService).getExamsByStudent(5L);
+             verify(examService).getExamsByStudent(5L, false);
+         }
+
+         private static ExamSummary summaryOf(Exam exam) {
+             return new ExamSummary(exam.getId(), exam.getName(), exam.getCourse().getId(), exam.getCourse().getTitle(),
+                     exam.getInstructor().getId(), exam.getInstructor().getName());
          }
 
          @Test
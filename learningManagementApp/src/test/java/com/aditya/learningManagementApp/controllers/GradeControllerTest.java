@@ -1,18 +1,24 @@
 package com.aditya.learningManagementApp.controllers;
 
+     import com.aditya.learningManagementApp.dto.GradeSummary;
+     import com.aditya.learningManagementApp.dto.Transcript;
+     import com.aditya.learningManagementApp.dto.TranscriptEntry;
      import com.aditya.learningManagementApp.entities.*;
      import com.aditya.learningManagementApp.GlobalExceptionHandler.ResourceNotFoundException;
      import com.aditya.learningManagementApp.service.CustomUserDetailsService;
+     import com.aditya.learningManagementApp.service.GradeAnalyticsService;
      import com.aditya.learningManagementApp.service.GradeService;
+     import com.aditya.learningManagementApp.service.TranscriptService;
      import com.fasterxml.jackson.databind.ObjectMapper;
      import org.junit.jupiter.api.BeforeEach;
      import org.junit.jupiter.api.Test;
      import org.springframework.beans.factory.annotation.Autowired;
      import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
-     import org.springframework.boot.test.mock.mockito.MockBean;
      import org.springframework.http.MediaType;
+     import org.springframework.test.context.bean.override.mockito.MockitoBean;
      import org.springframework.test.web.servlet.MockMvc;
 
+     import java.math.BigDecimal;
      import java.util.Arrays;
      import java.util.Collections;
      import java.util.HashSet;
@@ -34,10 +40,16 @@ package com.aditya.learningManagementApp.controllers;
          @Autowired
          private MockMvc mockMvc;
 
-         @MockBean
+         @MockitoBean
          private GradeService gradeService;
 
-         @MockBean
+         @MockitoBean
+         private TranscriptService transcriptService;
+
+         @MockitoBean
+         private GradeAnalyticsService gradeAnalyticsService;
+
+         @MockitoBean
          private CustomUserDetailsService customUserDetailsService; // Security context
 
          @Autowired
@@ -93,9 +105,10 @@ package com.aditya.learningManagementApp.controllers;
                      .andExpect(status().isOk())
                      .andExpect(jsonPath("$.id", is(1)))
                      .andExpect(jsonPath("$.grade", is("A")))
-                     .andExpect(jsonPath("$.student.id", is(1)))
-                     .andExpect(jsonPath("$.course.id", is(1)))
-                     .andExpect(jsonPath("$.exam.id", is(1)));
+                     .andExpect(jsonPath("$.studentId", is(1)))
+                     .andExpect(jsonPath("$.courseId", is(1)))
+                     .andExpect(jsonPath("$.examId", is(1)))
+                     .andExpect(jsonPath("$.student").doesNotExist());
 
              verify(gradeService).assignGrade(any(Grade.class));
          }
@@ -137,7 +150,7 @@ package com.aditya.learningManagementApp.controllers;
 
          @Test
          void getGradesByStudent_Success() throws Exception {
-             List<Grade> grades = Arrays.asList(grade1, grade2);
+             List<GradeSummary> grades = Arrays.asList(GradeSummary.from(grade1), GradeSummary.from(grade2));
              when(gradeService.getGradesByStudent(1L)).thenReturn(grades);
 
              mockMvc.perform(get("/grade/student/{studentId}", 1L)
@@ -150,6 +163,22 @@ package com.aditya.learningManagementApp.controllers;
              verify(gradeService).getGradesByStudent(1L);
          }
 
+         @Test
+         void getTranscript_Success() throws Exception {
+             Transcript transcript = new Transcript(1L, 1, 1, new BigDecimal("3.70"), new BigDecimal("3.70"),
+                     List.of(new TranscriptEntry(1L, "Test Course", 1L, "A-", null, new BigDecimal("3.70"))));
+             when(transcriptService.getTranscript(1L)).thenReturn(transcript);
+
+             mockMvc.perform(get("/grade/student/{studentId}/transcript", 1L)
+                             .with(user("student").roles("STUDENT")))
+                     .andExpect(status().isOk())
+                     .andExpect(jsonPath("$.gpa", is(3.70)))
+                     .andExpect(jsonPath("$.grades", hasSize(1)))
+                     .andExpect(jsonPath("$.grades[0].courseTitle", is("Test Course")));
+
+             verify(transcriptService).getTranscript(1L);
+         }
+
           @Test
          void getGradesByStudent_NoContent() throws Exception {
              when(gradeService.getGradesByStudent(1L)).thenReturn(Collections.emptyList());
@@ -163,14 +192,15 @@ package com.aditya.learningManagementApp.controllers;
 
          @Test
          void getGradesByCourse_Success() throws Exception {
-             List<Grade> grades = List.of(grade1); // Assume only grade1 is for course 1
+             List<GradeSummary> grades = List.of(GradeSummary.from(grade1)); // Assume only grade1 is for course 1
              when(gradeService.getGradesByCourse(1L)).thenReturn(grades);
 
              mockMvc.perform(get("/grade/course/{courseId}", 1L)
                              .with(user("instructor").roles("INSTRUCTOR", "ADMIN"))) // Instructor/Admin views course grades
                      .andExpect(status().isOk())
                      .andExpect(jsonPath("$", hasSize(1)))
-                     .andExpect(jsonPath("$[0].id", is(1)));
+                     .andExpect(jsonPath("$[0].id", is(1)))
+                     .andExpect(jsonPath("$[0].studentId", is(1)));
 
              verify(gradeService).getGradesByCourse(1L);
          }
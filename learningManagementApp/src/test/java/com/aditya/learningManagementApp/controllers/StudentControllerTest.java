@@ -1,5 +1,6 @@
 package com.aditya.learningManagementApp.controllers;
 
+     import com.aditya.learningManagementApp.dto.StudentSummary;
      import com.aditya.learningManagementApp.entities.Student;
      import com.aditya.learningManagementApp.GlobalExceptionHandler.ResourceNotFoundException;
      import com.aditya.learningManagementApp.service.CustomUserDetailsService;
@@ -9,8 +10,8 @@ package com.aditya.learningManagementApp.controllers;
      import org.junit.jupiter.api.Test;
      import org.springframework.beans.factory.annotation.Autowired;
      import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
-     import org.springframework.boot.test.mock.mockito.MockBean;
      import org.springframework.http.MediaType;
+     import org.springframework.test.context.bean.override.mockito.MockitoBean;
      import org.springframework.test.web.servlet.MockMvc;
 
      import java.util.HashSet;
@@ -30,10 +31,10 @@ package com.aditya.learningManagementApp.controllers;
          @Autowired
          private MockMvc mockMvc;
 
-         @MockBean
+         @MockitoBean
          private StudentService studentService;
 
-         @MockBean
+         @MockitoBean
          private CustomUserDetailsService customUserDetailsService; // Security context
 
          @Autowired
@@ -68,7 +69,7 @@ package com.aditya.learningManagementApp.controllers;
 
          @Test
          void getStudent_Success() throws Exception {
-             when(studentService.getStudentById(1L)).thenReturn(Optional.of(student1));
+             when(studentService.getStudentById(1L)).thenReturn(Optional.of(StudentSummary.from(student1)));
 
              mockMvc.perform(get("/student/{id}", 1L)
                              .with(user("student").roles("STUDENT","ADMIN"))) // Student or Admin can view
@@ -0,0 +1,82 @@
+package com.aditya.learningManagementApp.controllers;
+
+import com.aditya.learningManagementApp.service.CustomUserDetailsService;
+import com.aditya.learningManagementApp.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(UserAccountController.class)
+class UserAccountControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private UserService userService;
+
+    @MockitoBean
+    private CustomUserDetailsService customUserDetailsService; // For security context
+
+    @Test
+    void changePassword_ChangesTheCallersOwnPassword() throws Exception {
+        mockMvc.perform(put("/users/me/password")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"password\": \"newSecret\"}")
+                        .with(user("student@lms.test").roles("STUDENT"))
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(content().string("Password changed for student@lms.test"));
+
+        verify(userService).changePassword("student@lms.test", "newSecret");
+    }
+
+    @Test
+    void changePassword_MissingPassword() throws Exception {
+        mockMvc.perform(put("/users/me/password")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}")
+                        .with(user("student@lms.test").roles("STUDENT"))
+                        .with(csrf()))
+                .andExpect(status().isBadRequest());
+
+        verify(userService, never()).changePassword(anyString(), anyString());
+    }
+
+    @Test
+    void updateRoles_Success() throws Exception {
+        mockMvc.perform(put("/users/student@lms.test/roles")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"ROLE_INSTRUCTOR\"]")
+                        .with(user("admin").roles("ADMIN"))
+                        .with(csrf()))
+                .andExpect(status().isOk());
+
+        verify(userService).updateRoles("student@lms.test", List.of("ROLE_INSTRUCTOR"));
+    }
+
+    @Test
+    void deleteUser_Success() throws Exception {
+        mockMvc.perform(delete("/users/student@lms.test")
+                        .with(user("admin").roles("ADMIN"))
+                        .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(content().string("User student@lms.test deleted successfully."));
+
+        verify(userService).deleteUser("student@lms.test");
+    }
+}
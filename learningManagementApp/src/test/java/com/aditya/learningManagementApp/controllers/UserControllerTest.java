@@ -3,19 +3,20 @@
      import com.aditya.learningManagementApp.entities.Role;
      import com.aditya.learningManagementApp.entities.User;
      import com.aditya.learningManagementApp.service.CustomUserDetailsService;
+     import com.aditya.learningManagementApp.service.TokenService;
      import com.aditya.learningManagementApp.service.UserService;
      import com.fasterxml.jackson.databind.ObjectMapper;
      import org.junit.jupiter.api.BeforeEach;
      import org.junit.jupiter.api.Test;
      import org.springframework.beans.factory.annotation.Autowired;
      import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
-     import org.springframework.boot.test.mock.mockito.MockBean;
      import org.springframework.http.MediaType;
      import org.springframework.security.authentication.AuthenticationManager;
      import org.springframework.security.authentication.BadCredentialsException;
      import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
      import org.springframework.security.core.Authentication;
      import org.springframework.security.core.authority.SimpleGrantedAuthority;
+     import org.springframework.test.context.bean.override.mockito.MockitoBean;
      import org.springframework.test.web.servlet.MockMvc;
 
      import java.util.Collections;
@@ -41,13 +42,16 @@ import static org.mockito.Mockito.verify;
          @Autowired
          private MockMvc mockMvc;
 
-         @MockBean
+         @MockitoBean
          private UserService userService;
 
-         @MockBean
+         @MockitoBean
          private AuthenticationManager authenticationManager;
 
-         @MockBean
+         @MockitoBean
+         private TokenService tokenService;
+
+         @MockitoBean
          private CustomUserDetailsService customUserDetailsService; // Still needed by security context
 
          @Autowired
@@ -0,0 +1,216 @@
+package com.aditya.learningManagementApp.loadtest;
+
+import com.aditya.learningManagementApp.entities.Role;
+import com.aditya.learningManagementApp.entities.User;
+import com.aditya.learningManagementApp.repository.RoleRepository;
+import com.aditya.learningManagementApp.repository.UserRepository;
+import com.aditya.learningManagementApp.service.TokenService;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Term-start enrollment storm against the real controllers, security filter
+ * chain included, on an in-memory H2 database in MySQL mode. Run with
+ * {@code mvn test -Ploadtest}; sizes and rates come from {@link LoadProfile}.
+ * Per-endpoint latency percentiles and throughput are logged and written to
+ * {@code target/loadtest-report.csv}. Add {@code -Dspring.threads.virtual.enabled=true}
+ * to serve the requests on virtual threads instead of the Tomcat worker pool.
+ */
+@Tag("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("h2")
+class EnrollmentStormLoadTest {
+
+    private static final Logger logger = LogManager.getLogger(EnrollmentStormLoadTest.class);
+
+    private static final Path REPORT = Path.of("target", "loadtest-report.csv");
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    void enrollmentStorm() throws Exception {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        SeededData data = new SyntheticDataGenerator(context).seed(profile);
+        String authorization = "Bearer " + adminToken();
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        RateDriver driver = new RateDriver(client);
+        Requests requests = new Requests(profile, data, authorization);
+
+        driver.run(requests.targets(profile, name -> null), profile.warmup());
+
+        List<LatencyRecorder> recorders = new ArrayList<>();
+        long start = System.nanoTime();
+        driver.run(requests.targets(profile, name -> {
+            LatencyRecorder recorder = new LatencyRecorder(name);
+            recorders.add(recorder);
+            return recorder;
+        }), profile.duration());
+        long elapsed = System.nanoTime() - start;
+
+        List<LatencyRecorder.Snapshot> snapshots = recorders.stream().map(r -> r.snapshot(elapsed)).toList();
+        report(threadMode(), snapshots);
+        for (LatencyRecorder.Snapshot snapshot : snapshots) {
+            assertTrue(snapshot.requests() > snapshot.errors(), "No successful requests for " + snapshot.endpoint());
+        }
+    }
+
+    private String adminToken() {
+        Role admin = context.getBean(RoleRepository.class).save(new Role("ROLE_ADMIN"));
+        User user = context.getBean(UserRepository.class).save(new User("admin@load.test", "unused", List.of(admin)));
+        return context.getBean(TokenService.class).issueTokens(user).accessToken();
+    }
+
+    private String threadMode() {
+        return context.getEnvironment().getProperty("spring.threads.virtual.enabled", Boolean.class, false)
+                ? "virtual" : "platform";
+    }
+
+    private void report(String threadMode, List<LatencyRecorder.Snapshot> snapshots) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("threads,endpoint,requests,errors,throughput_rps,p50_ms,p99_ms,p999_ms,max_ms");
+        for (LatencyRecorder.Snapshot s : snapshots) {
+            logger.info("[{}] {} requests={} errors={} throughput={}/s p50={}ms p99={}ms p999={}ms max={}ms",
+                    threadMode, s.endpoint(), s.requests(), s.errors(), rounded(s.throughput(), 10),
+                    rounded(millis(s.p50Nanos()), 100), rounded(millis(s.p99Nanos()), 100),
+                    rounded(millis(s.p999Nanos()), 100), rounded(millis(s.maxNanos()), 100));
+            lines.add(String.format("%s,%s,%d,%d,%.1f,%.3f,%.3f,%.3f,%.3f",
+                    threadMode, s.endpoint(), s.requests(), s.errors(), s.throughput(),
+                    millis(s.p50Nanos()), millis(s.p99Nanos()), millis(s.p999Nanos()), millis(s.maxNanos())));
+        }
+        Files.createDirectories(REPORT.getParent());
+        Files.write(REPORT, lines);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    // e.g. scale 100 keeps two decimals
+    private static double rounded(double value, int scale) {
+        return Math.round(value * scale) / (double) scale;
+    }
+
+    @TestConfiguration
+    static class DatabaseLatency {
+
+        @Bean
+        static BeanPostProcessor networkLatencyDataSource() {
+            Duration latency = LoadProfile.fromSystemProperties().dbLatency();
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !latency.isZero()
+                            ? new NetworkLatencyDataSource(dataSource, latency) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * Request factories for the four endpoints. Enrollments and grades walk
+     * the (student, slot) pairs that {@link SyntheticDataGenerator} left free,
+     * across warm-up and measurement, so every write is a first-time write.
+     */
+    private final class Requests {
+
+        private final LoadProfile profile;
+        private final SeededData data;
+        private final String authorization;
+        private final AtomicLong nextEnrollment = new AtomicLong();
+        private final AtomicLong nextGrade = new AtomicLong();
+
+        Requests(LoadProfile profile, SeededData data, String authorization) {
+            this.profile = profile;
+            this.data = data;
+            this.authorization = authorization;
+        }
+
+        List<RateDriver.Target> targets(LoadProfile profile, Function<String, LatencyRecorder> recorders) {
+            return List.of(
+                    target("POST /course/enrollment/enroll", profile.enrollRate(), this::enroll, recorders),
+                    target("POST /grade/assign", profile.gradeRate(), this::assignGrade, recorders),
+                    target("GET /exam/student/{id}", profile.examRate(), this::examsByStudent, recorders),
+                    target("GET /course/all", profile.courseRate(), this::courses, recorders));
+        }
+
+        private RateDriver.Target target(String name, int rate, Supplier<HttpRequest> requests,
+                                         Function<String, LatencyRecorder> recorders) {
+            return new RateDriver.Target(name, rate, requests, recorders.apply(name));
+        }
+
+        private HttpRequest enroll() {
+            long n = nextEnrollment.getAndIncrement();
+            int student = (int) (n % profile.students());
+            int slot = profile.enrollmentsPerStudent() + (int) (n / profile.students());
+            Long courseId = data.courseIds().get(data.courseIndex(student, slot));
+            return request("/course/enrollment/enroll?studentId=" + data.studentIds().get(student) + "&courseId=" + courseId)
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+        }
+
+        private HttpRequest assignGrade() {
+            long n = nextGrade.getAndIncrement();
+            int student = (int) (n % profile.students());
+            int slot = profile.gradesPerStudent() + (int) (n / profile.students());
+            int courseIndex = data.courseIndex(student, slot);
+            String body = String.format("{\"grade\":\"A\",\"student\":{\"id\":%d},\"course\":{\"id\":%d},\"exam\":{\"id\":%d}}",
+                    data.studentIds().get(student), data.courseIds().get(courseIndex), data.examIds().get(courseIndex));
+            return request("/grade/assign")
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        }
+
+        private HttpRequest examsByStudent() {
+            Long studentId = data.studentIds().get(ThreadLocalRandom.current().nextInt(data.studentIds().size()));
+            return request("/exam/student/" + studentId).GET().build();
+        }
+
+        private HttpRequest courses() {
+            Long afterId = data.courseIds().get(ThreadLocalRandom.current().nextInt(data.courseIds().size()));
+            return request("/course/all?afterId=" + afterId).GET().build();
+        }
+
+        private HttpRequest.Builder request(String path) {
+            return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                    .header("Authorization", authorization)
+                    .timeout(Duration.ofSeconds(30));
+        }
+    }
+}
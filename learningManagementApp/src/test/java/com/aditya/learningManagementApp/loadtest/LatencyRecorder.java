@@ -0,0 +1,57 @@
+package com.aditya.learningManagementApp.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Collects per-request latencies for one endpoint. Samples are kept in full
+ * and sorted once for the report, which is fine at load-test volumes.
+ */
+class LatencyRecorder {
+
+    private final String endpoint;
+    private long[] samples = new long[1024];
+    private int count;
+    private int errors;
+
+    LatencyRecorder(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    String endpoint() {
+        return endpoint;
+    }
+
+    synchronized void record(long latencyNanos, boolean success) {
+        if (!success) {
+            errors++;
+        }
+        if (count == samples.length) {
+            samples = Arrays.copyOf(samples, count * 2);
+        }
+        samples[count++] = latencyNanos;
+    }
+
+    synchronized Snapshot snapshot(long elapsedNanos) {
+        long[] sorted = Arrays.copyOf(samples, count);
+        Arrays.sort(sorted);
+        return new Snapshot(endpoint, count, errors, (count - errors) / (elapsedNanos / 1e9),
+                percentile(sorted, 0.50), percentile(sorted, 0.99), percentile(sorted, 0.999),
+                count == 0 ? 0 : sorted[count - 1]);
+    }
+
+    // Nearest-rank percentile
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(p * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+
+    /**
+     * @param throughput successful responses per second over the measured window
+     */
+    record Snapshot(String endpoint, int requests, int errors, double throughput,
+                    long p50Nanos, long p99Nanos, long p999Nanos, long maxNanos) {
+    }
+}
@@ -0,0 +1,53 @@
+package com.aditya.learningManagementApp.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Data volume and request rates for a load-test run. Every value can be
+ * overridden with a {@code -Dlms.loadtest.<name>=...} system property.
+ *
+ * @param enrollmentsPerStudent courses each seeded student is enrolled in
+ * @param gradesPerStudent      of those, how many already carry a grade
+ * @param dbLatency             simulated network round trip per SQL statement, see {@link NetworkLatencyDataSource}
+ */
+record LoadProfile(int instructors,
+                   int courses,
+                   int students,
+                   int enrollmentsPerStudent,
+                   int gradesPerStudent,
+                   Duration warmup,
+                   Duration duration,
+                   int enrollRate,
+                   int gradeRate,
+                   int examRate,
+                   int courseRate,
+                   Duration dbLatency) {
+
+    private static final String PREFIX = "lms.loadtest.";
+
+    LoadProfile {
+        if (gradesPerStudent > enrollmentsPerStudent || enrollmentsPerStudent > courses) {
+            throw new IllegalArgumentException("Need gradesPerStudent <= enrollmentsPerStudent <= courses");
+        }
+    }
+
+    static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                intProperty("instructors", 50),
+                intProperty("courses", 500),
+                intProperty("students", 10_000),
+                intProperty("enrollments-per-student", 4),
+                intProperty("grades-per-student", 2),
+                Duration.ofSeconds(intProperty("warmup-seconds", 10)),
+                Duration.ofSeconds(intProperty("duration-seconds", 30)),
+                intProperty("rate.enroll", 200),
+                intProperty("rate.grade", 50),
+                intProperty("rate.exam", 200),
+                intProperty("rate.course", 100),
+                Duration.ofMillis(intProperty("db-latency-ms", 0)));
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.getInteger(PREFIX + name, defaultValue);
+    }
+}
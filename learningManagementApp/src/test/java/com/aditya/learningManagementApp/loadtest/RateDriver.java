@@ -0,0 +1,99 @@
+package com.aditya.learningManagementApp.loadtest;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+/**
+ * Open-loop request driver: fires requests at a fixed rate regardless of how
+ * fast responses come back, and measures each latency from the moment the
+ * request was scheduled, so a stalled server shows up as queueing delay
+ * rather than as fewer, faster samples.
+ */
+class RateDriver {
+
+    private static final Logger logger = LogManager.getLogger(RateDriver.class);
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+
+    RateDriver(HttpClient client) {
+        this.client = client;
+    }
+
+    /**
+     * An endpoint to drive: its requests-per-second and a factory for the next
+     * request. {@code recorder} is null during warm-up.
+     */
+    record Target(String name, int rate, Supplier<HttpRequest> requests, LatencyRecorder recorder) {
+    }
+
+    /**
+     * Drives every target concurrently, each on its own pacing thread, for
+     * {@code duration}, then waits for in-flight requests to finish.
+     */
+    void run(List<Target> targets, Duration duration) throws InterruptedException {
+        List<Thread> pacers = new ArrayList<>(targets.size());
+        List<CompletableFuture<?>> inFlight = new ArrayList<>();
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+
+        for (Target target : targets) {
+            if (target.rate() <= 0) {
+                continue;
+            }
+            pacers.add(Thread.ofPlatform().name("load-" + target.name()).start(
+                    () -> pace(target, start, end, inFlight)));
+        }
+        for (Thread pacer : pacers) {
+            pacer.join();
+        }
+
+        List<CompletableFuture<?>> pending;
+        synchronized (inFlight) {
+            pending = new ArrayList<>(inFlight);
+        }
+        try {
+            CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new))
+                    .get(DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            logger.warn("Not all in-flight requests finished within {}", DRAIN_TIMEOUT);
+        }
+    }
+
+    private void pace(Target target, long start, long end, List<CompletableFuture<?>> inFlight) {
+        long periodNanos = TimeUnit.SECONDS.toNanos(1) / target.rate();
+        for (long n = 0; ; n++) {
+            long intended = start + n * periodNanos;
+            if (intended >= end) {
+                return;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            CompletableFuture<?> future = client.sendAsync(target.requests().get(), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (target.recorder() != null) {
+                            boolean success = error == null && response.statusCode() < 400;
+                            target.recorder().record(System.nanoTime() - intended, success);
+                        }
+                    });
+            synchronized (inFlight) {
+                inFlight.add(future);
+            }
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.aditya.learningManagementApp.loadtest;
+
+import java.util.List;
+
+/**
+ * Ids written by {@link SyntheticDataGenerator}. {@code examIds} is parallel
+ * to {@code courseIds}: one exam per course.
+ */
+record SeededData(List<Long> courseIds, List<Long> examIds, List<Long> studentIds) {
+
+    /**
+     * Index of the {@code slot}-th course of student {@code studentIndex}.
+     * Slots below {@code enrollmentsPerStudent} are seeded enrollments, and
+     * below {@code gradesPerStudent} also seeded grades; higher slots are free
+     * for the load test to enroll into.
+     */
+    int courseIndex(int studentIndex, int slot) {
+        return (studentIndex + slot) % courseIds.size();
+    }
+}
@@ -0,0 +1,128 @@
+package com.aditya.learningManagementApp.loadtest;
+
+import com.aditya.learningManagementApp.dto.EnrollmentRequest;
+import com.aditya.learningManagementApp.entities.Course;
+import com.aditya.learningManagementApp.entities.Exam;
+import com.aditya.learningManagementApp.entities.Grade;
+import com.aditya.learningManagementApp.entities.Instructor;
+import com.aditya.learningManagementApp.entities.Student;
+import com.aditya.learningManagementApp.repository.CourseRepository;
+import com.aditya.learningManagementApp.repository.EnrollmentJdbcRepository;
+import com.aditya.learningManagementApp.repository.ExamRepository;
+import com.aditya.learningManagementApp.repository.GradeRepository;
+import com.aditya.learningManagementApp.repository.InstructorRepository;
+import com.aditya.learningManagementApp.repository.StudentRepository;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Seeds instructors, courses (one exam each), students, enrollments and
+ * grades in the volumes given by a {@link LoadProfile}. Enrollments and
+ * grades follow {@link SeededData#courseIndex}, so the load test can tell
+ * which (student, course) pairs are still free.
+ */
+class SyntheticDataGenerator {
+
+    private static final Logger logger = LogManager.getLogger(SyntheticDataGenerator.class);
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    private final ApplicationContext context;
+    private final TransactionTemplate transactions;
+
+    SyntheticDataGenerator(ApplicationContext context) {
+        this.context = context;
+        this.transactions = context.getBean(TransactionTemplate.class);
+    }
+
+    SeededData seed(LoadProfile profile) {
+        logger.info("Seeding {}", profile);
+        long start = System.nanoTime();
+
+        List<Instructor> instructors = new ArrayList<>(profile.instructors());
+        for (int i = 0; i < profile.instructors(); i++) {
+            Instructor instructor = new Instructor();
+            instructor.setName("Instructor " + i);
+            instructor.setEmail("instructor" + i + "@load.test");
+            instructor.setPassword("secret");
+            instructors.add(instructor);
+        }
+        List<Instructor> savedInstructors = context.getBean(InstructorRepository.class).saveAll(instructors);
+
+        List<Course> courses = new ArrayList<>(profile.courses());
+        for (int i = 0; i < profile.courses(); i++) {
+            courses.add(new Course("Course " + i, "Synthetic course " + i, savedInstructors.get(i % savedInstructors.size())));
+        }
+        List<Course> savedCourses = context.getBean(CourseRepository.class).saveAll(courses);
+
+        List<Exam> exams = new ArrayList<>(savedCourses.size());
+        for (Course course : savedCourses) {
+            Exam exam = new Exam();
+            exam.setName(course.getTitle() + " final");
+            exam.setCourse(course);
+            exam.setInstructor(course.getInstructor());
+            exams.add(exam);
+        }
+        List<Long> examIds = context.getBean(ExamRepository.class).saveAll(exams).stream().map(Exam::getId).toList();
+        List<Long> courseIds = savedCourses.stream().map(Course::getId).toList();
+
+        List<Long> studentIds = new ArrayList<>(profile.students());
+        StudentRepository studentRepository = context.getBean(StudentRepository.class);
+        for (int from = 0; from < profile.students(); from += CHUNK_SIZE) {
+            List<Student> chunk = new ArrayList<>(CHUNK_SIZE);
+            for (int i = from; i < Math.min(from + CHUNK_SIZE, profile.students()); i++) {
+                chunk.add(new Student("Student " + i, "student" + i + "@load.test", "secret"));
+            }
+            studentRepository.saveAll(chunk).forEach(student -> studentIds.add(student.getId()));
+        }
+
+        SeededData data = new SeededData(courseIds, examIds, studentIds);
+        seedEnrollments(profile, data);
+        seedGrades(profile, data);
+
+        logger.info("Seeding finished in {} ms", (System.nanoTime() - start) / 1_000_000);
+        return data;
+    }
+
+    private void seedEnrollments(LoadProfile profile, SeededData data) {
+        List<EnrollmentRequest> enrollments = new ArrayList<>(profile.students() * profile.enrollmentsPerStudent());
+        for (int s = 0; s < profile.students(); s++) {
+            for (int slot = 0; slot < profile.enrollmentsPerStudent(); slot++) {
+                enrollments.add(new EnrollmentRequest(data.studentIds().get(s), data.courseIds().get(data.courseIndex(s, slot))));
+            }
+        }
+        context.getBean(EnrollmentJdbcRepository.class).insertEnrollments(enrollments, CHUNK_SIZE);
+    }
+
+    private void seedGrades(LoadProfile profile, SeededData data) {
+        StudentRepository studentRepository = context.getBean(StudentRepository.class);
+        CourseRepository courseRepository = context.getBean(CourseRepository.class);
+        ExamRepository examRepository = context.getBean(ExamRepository.class);
+        GradeRepository gradeRepository = context.getBean(GradeRepository.class);
+
+        for (int from = 0; from < profile.students(); from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, profile.students());
+            int chunkStart = from;
+            transactions.executeWithoutResult(status -> {
+                List<Grade> grades = new ArrayList<>();
+                for (int s = chunkStart; s < to; s++) {
+                    for (int slot = 0; slot < profile.gradesPerStudent(); slot++) {
+                        int courseIndex = data.courseIndex(s, slot);
+                        Grade grade = new Grade();
+                        grade.setGrade("B");
+                        grade.setStudent(studentRepository.getReferenceById(data.studentIds().get(s)));
+                        grade.setCourse(courseRepository.getReferenceById(data.courseIds().get(courseIndex)));
+                        grade.setExam(examRepository.getReferenceById(data.examIds().get(courseIndex)));
+                        grades.add(grade);
+                    }
+                }
+                gradeRepository.saveAll(grades);
+            });
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.aditya.learningManagementApp.service;
+
+import com.aditya.learningManagementApp.entities.Role;
+import com.aditya.learningManagementApp.entities.User;
+import com.aditya.learningManagementApp.repository.RoleRepository;
+import com.aditya.learningManagementApp.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Logins through the real AuthenticationManager, which erases the credentials
+ * of the returned principal: the second login must still be answered from
+ * the principal cache.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class AuthenticationCacheTest {
+
+    @Autowired
+    private AuthenticationManager authenticationManager;
+
+    @Autowired
+    private RoleRepository roleRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @MockitoSpyBean
+    private UserRepository userRepository;
+
+    @Test
+    void secondLogin_IsServedFromPrincipalCache() {
+        Role role = roleRepository.save(new Role("ROLE_STUDENT"));
+        userRepository.save(new User("cached-login@lms.test", passwordEncoder.encode("secret"), List.of(role)));
+
+        Authentication first = authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken("cached-login@lms.test", "secret"));
+        Authentication second = authenticationManager.authenticate(
+                new UsernamePasswordAuthenticationToken("cached-login@lms.test", "secret"));
+
+        assertTrue(first.isAuthenticated());
+        assertTrue(second.isAuthenticated());
+        verify(userRepository, times(1)).findByEmail("cached-login@lms.test");
+    }
+}
@@ -0,0 +1,212 @@
+package com.aditya.learningManagementApp.service;
+
+import com.aditya.learningManagementApp.dto.EnrollmentRequest;
+import com.aditya.learningManagementApp.entities.Course;
+import com.aditya.learningManagementApp.entities.Instructor;
+import com.aditya.learningManagementApp.entities.Student;
+import com.aditya.learningManagementApp.repository.CourseRepository;
+import com.aditya.learningManagementApp.repository.InstructorRepository;
+import com.aditya.learningManagementApp.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Hundreds of threads enrolling into the same course at once, against a real
+ * (H2, MySQL mode) database. Whatever the interleaving, the enrolled count must
+ * equal the student_courses rows, never exceed the capacity, and every request
+ * must end as enrolled, already enrolled or course full - never as an error.
+ * Tagged loadtest (mvn test -Ploadtest); CourseEnrollmentSeatTest checks the
+ * same invariants one request at a time in every build.
+ */
+@Tag("loadtest")
+@SpringBootTest(properties = "lms.retry.conflict.max-attempts=10")
+@ActiveProfiles("h2")
+class CourseEnrollmentConcurrencyTest {
+
+    private static final int THREADS = 200;
+    private static final int STUDENTS = 300;
+    private static final int CAPACITY = 120;
+
+    @Autowired
+    private CourseEnrollmentService courseEnrollmentService;
+
+    @Autowired
+    private InstructorRepository instructorRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Instructor instructor;
+
+    @BeforeEach
+    void setUp() {
+        Instructor newInstructor = new Instructor();
+        newInstructor.setName("Stress Instructor");
+        newInstructor.setEmail("stress-" + System.nanoTime() + "@concurrency.test");
+        newInstructor.setPassword("secret");
+        instructor = instructorRepository.save(newInstructor);
+    }
+
+    @Test
+    void parallelEnrollments_NeverOvershootCapacity() throws Exception {
+        Course course = newCourse(CAPACITY);
+        List<Long> studentIds = newStudents(STUDENTS);
+
+        // Every student asks twice, so duplicate requests race each other as well as the capacity
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int round = 0; round < 2; round++) {
+            for (Long studentId : studentIds) {
+                tasks.add(() -> courseEnrollmentService.enrollStudent(studentId, course.getId()));
+            }
+        }
+        Outcomes outcomes = runConcurrently(tasks);
+
+        assertTrue(outcomes.errors.isEmpty(), outcomes.errors::toString);
+        assertEquals(CAPACITY, outcomes.succeeded.get());
+        assertEquals(CAPACITY, enrolledRows(course.getId()));
+        assertEquals(CAPACITY, enrolledCount(course.getId()));
+        // Every other request was turned away as already enrolled or course full
+        assertEquals(2 * STUDENTS - CAPACITY, outcomes.refused.get() + outcomes.full.get());
+    }
+
+    @Test
+    void parallelEnrollmentsOfSameStudent_EnrollOnce() throws Exception {
+        Course course = newCourse(null);
+        Long studentId = newStudents(1).get(0);
+
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(() -> courseEnrollmentService.enrollStudent(studentId, course.getId()));
+        }
+        Outcomes outcomes = runConcurrently(tasks);
+
+        assertTrue(outcomes.errors.isEmpty(), outcomes.errors::toString);
+        assertEquals(1, outcomes.succeeded.get());
+        assertEquals(THREADS - 1, outcomes.refused.get());
+        assertEquals(1, enrolledRows(course.getId()));
+        assertEquals(1, enrolledCount(course.getId()));
+    }
+
+    @Test
+    void parallelEnrollAndDrop_KeepCountInSync() throws Exception {
+        Course course = newCourse(null);
+        List<Long> studentIds = newStudents(STUDENTS);
+
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (Long studentId : studentIds) {
+            tasks.add(() -> courseEnrollmentService.enrollStudent(studentId, course.getId()));
+            tasks.add(() -> courseEnrollmentService.dropStudent(studentId, course.getId()));
+        }
+        Outcomes outcomes = runConcurrently(tasks);
+
+        assertTrue(outcomes.errors.isEmpty(), outcomes.errors::toString);
+        assertEquals(enrolledRows(course.getId()), enrolledCount(course.getId()));
+    }
+
+    @Test
+    void parallelBulkEnrollments_FillExactlyToCapacity() throws Exception {
+        Course course = newCourse(CAPACITY);
+        List<Long> studentIds = newStudents(STUDENTS);
+
+        // Batches of 50 cannot all fit, so the later ones take whatever is left of the capacity
+        List<Callable<Boolean>> tasks = new ArrayList<>();
+        for (int from = 0; from < STUDENTS; from += 50) {
+            List<EnrollmentRequest> batch = studentIds.subList(from, from + 50).stream()
+                    .map(studentId -> new EnrollmentRequest(studentId, course.getId()))
+                    .toList();
+            tasks.add(() -> !courseEnrollmentService.bulkEnroll(batch).isEmpty());
+        }
+        Outcomes outcomes = runConcurrently(tasks);
+
+        assertTrue(outcomes.errors.isEmpty(), outcomes.errors::toString);
+        assertEquals(CAPACITY, enrolledRows(course.getId()));
+        assertEquals(CAPACITY, enrolledCount(course.getId()));
+    }
+
+    private Course newCourse(Integer capacity) {
+        Course course = new Course("Stress " + System.nanoTime(), "Concurrent enrollment target", instructor);
+        course.setCapacity(capacity);
+        return courseRepository.save(course);
+    }
+
+    private List<Long> newStudents(int count) {
+        long tag = System.nanoTime();
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            students.add(new Student("Student " + i, "student" + i + "-" + tag + "@concurrency.test", "secret"));
+        }
+        return studentRepository.saveAll(students).stream().map(Student::getId).toList();
+    }
+
+    private Outcomes runConcurrently(List<Callable<Boolean>> tasks) throws Exception {
+        Outcomes outcomes = new Outcomes();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>(tasks.size());
+            for (Callable<Boolean> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        if (task.call()) {
+                            outcomes.succeeded.incrementAndGet();
+                        } else {
+                            outcomes.refused.incrementAndGet();
+                        }
+                    } catch (IllegalStateException e) {
+                        outcomes.full.incrementAndGet();
+                    } catch (Exception e) {
+                        outcomes.errors.add(e.toString());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return outcomes;
+    }
+
+    private int enrolledRows(Long courseId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM student_courses WHERE course_id = ?", Integer.class, courseId);
+    }
+
+    private int enrolledCount(Long courseId) {
+        return jdbcTemplate.queryForObject("SELECT enrolled_count FROM courses WHERE id = ?", Integer.class, courseId);
+    }
+
+    private static class Outcomes {
+        final AtomicInteger succeeded = new AtomicInteger();
+        final AtomicInteger refused = new AtomicInteger();
+        final AtomicInteger full = new AtomicInteger();
+        final ConcurrentLinkedQueue<String> errors = new ConcurrentLinkedQueue<>();
+    }
+}
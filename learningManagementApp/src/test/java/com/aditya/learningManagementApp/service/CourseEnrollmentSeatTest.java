@@ -0,0 +1,140 @@
+package com.aditya.learningManagementApp.service;
+
+import com.aditya.learningManagementApp.entities.Course;
+import com.aditya.learningManagementApp.entities.Instructor;
+import com.aditya.learningManagementApp.entities.Student;
+import com.aditya.learningManagementApp.repository.CourseRepository;
+import com.aditya.learningManagementApp.repository.InstructorRepository;
+import com.aditya.learningManagementApp.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The seat counter one request at a time: after every enroll and drop, the
+ * enrolled count equals the student_courses rows and never exceeds the
+ * capacity, which cannot be lowered below the students already enrolled.
+ * CourseEnrollmentConcurrencyTest checks the same under parallel load.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class CourseEnrollmentSeatTest {
+
+    @Autowired
+    private CourseEnrollmentService courseEnrollmentService;
+
+    @Autowired
+    private CourseService courseService;
+
+    @Autowired
+    private InstructorRepository instructorRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Instructor instructor;
+
+    @BeforeEach
+    void setUp() {
+        Instructor newInstructor = new Instructor();
+        newInstructor.setName("Seat Instructor");
+        newInstructor.setEmail("seats-" + System.nanoTime() + "@lms.test");
+        newInstructor.setPassword("secret");
+        instructor = instructorRepository.save(newInstructor);
+    }
+
+    @Test
+    void dropOfStudentNotEnrolled_PutsTheSeatBack() {
+        Course course = newCourse(null);
+        List<Long> studentIds = newStudents(2);
+        courseEnrollmentService.enrollStudent(studentIds.get(0), course.getId());
+
+        assertFalse(courseEnrollmentService.dropStudent(studentIds.get(1), course.getId()));
+
+        assertEquals(1, enrolledRows(course.getId()));
+        assertEquals(1, enrolledCount(course.getId()));
+    }
+
+    @Test
+    void secondEnrollment_TakesNoSeat() {
+        Course course = newCourse(null);
+        Long studentId = newStudents(1).get(0);
+
+        assertTrue(courseEnrollmentService.enrollStudent(studentId, course.getId()));
+        assertFalse(courseEnrollmentService.enrollStudent(studentId, course.getId()));
+
+        assertEquals(1, enrolledRows(course.getId()));
+        assertEquals(1, enrolledCount(course.getId()));
+    }
+
+    @Test
+    void fullCourse_RejectsUntilASeatIsDropped() {
+        Course course = newCourse(1);
+        List<Long> studentIds = newStudents(2);
+        courseEnrollmentService.enrollStudent(studentIds.get(0), course.getId());
+
+        assertThrows(IllegalStateException.class,
+                () -> courseEnrollmentService.enrollStudent(studentIds.get(1), course.getId()));
+        assertEquals(1, enrolledCount(course.getId()));
+
+        assertTrue(courseEnrollmentService.dropStudent(studentIds.get(0), course.getId()));
+        assertTrue(courseEnrollmentService.enrollStudent(studentIds.get(1), course.getId()));
+
+        assertEquals(1, enrolledRows(course.getId()));
+        assertEquals(1, enrolledCount(course.getId()));
+    }
+
+    @Test
+    void capacityBelowEnrolled_IsRejected() {
+        Course course = newCourse(3);
+        newStudents(2).forEach(studentId -> courseEnrollmentService.enrollStudent(studentId, course.getId()));
+        Course lowered = new Course(course.getTitle(), course.getDescription(), instructor);
+
+        lowered.setCapacity(1);
+        assertThrows(IllegalArgumentException.class, () -> courseService.updateCourse(course.getId(), lowered));
+        assertEquals(3, courseRepository.findById(course.getId()).orElseThrow().getCapacity());
+
+        lowered.setCapacity(2);
+        courseService.updateCourse(course.getId(), lowered);
+        assertThrows(IllegalStateException.class,
+                () -> courseEnrollmentService.enrollStudent(newStudents(1).get(0), course.getId()));
+        assertEquals(2, enrolledCount(course.getId()));
+    }
+
+    private Course newCourse(Integer capacity) {
+        Course course = new Course("Seats " + System.nanoTime(), "Seat counter", instructor);
+        course.setCapacity(capacity);
+        return courseRepository.save(course);
+    }
+
+    private List<Long> newStudents(int count) {
+        long tag = System.nanoTime();
+        List<Student> students = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            students.add(new Student("Student " + i, "student" + i + "-" + tag + "@seats.test", "secret"));
+        }
+        return studentRepository.saveAll(students).stream().map(Student::getId).toList();
+    }
+
+    private int enrolledRows(Long courseId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM student_courses WHERE course_id = ?", Integer.class, courseId);
+    }
+
+    private int enrolledCount(Long courseId) {
+        return jdbcTemplate.queryForObject("SELECT enrolled_count FROM courses WHERE id = ?", Integer.class, courseId);
+    }
+}
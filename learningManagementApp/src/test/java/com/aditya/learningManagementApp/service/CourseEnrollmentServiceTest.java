@@ -1,22 +1,27 @@
 package com.aditya.learningManagementApp.service;
 
- import com.aditya.learningManagementApp.entities.Course;
- import com.aditya.learningManagementApp.entities.Student;
+ import com.aditya.learningManagementApp.configure.ServiceMetrics;
+ import com.aditya.learningManagementApp.dto.EnrollmentRequest;
+ import com.aditya.learningManagementApp.dto.EnrollmentResult;
  import com.aditya.learningManagementApp.repository.CourseRepository;
+ import com.aditya.learningManagementApp.repository.EnrollmentJdbcRepository;
  import com.aditya.learningManagementApp.repository.StudentRepository;
- import org.junit.jupiter.api.BeforeEach;
  import org.junit.jupiter.api.Test;
  import org.junit.jupiter.api.extension.ExtendWith;
  import org.mockito.InjectMocks;
  import org.mockito.Mock;
  import org.mockito.junit.jupiter.MockitoExtension;
+ import org.springframework.dao.DuplicateKeyException;
 
- import java.util.HashSet;
- import java.util.Optional;
+ import java.io.StringReader;
+ import java.util.Arrays;
+ import java.util.List;
  import java.util.Set;
 
  import static org.junit.jupiter.api.Assertions.*;
  import static org.mockito.ArgumentMatchers.any;
+ import static org.mockito.ArgumentMatchers.anyInt;
+ import static org.mockito.ArgumentMatchers.anyList;
  import static org.mockito.Mockito.*;
 
  @ExtendWith(MockitoExtension.class)
@@ -28,145 +33,230 @@ package com.aditya.learningManagementApp.service;
      @Mock
      private CourseRepository courseRepository;
 
+     @Mock
+     private EnrollmentJdbcRepository enrollmentJdbcRepository;
+
+     @Mock
+     private ServiceMetrics serviceMetrics;
+
      @InjectMocks
      private CourseEnrollmentService courseEnrollmentService;
 
-     private Student student;
-     private Course course;
-     private Course otherCourse;
+     @Test
+     void enrollStudent_Success() {
+         when(studentRepository.existsById(1L)).thenReturn(true);
+         when(courseRepository.existsById(1L)).thenReturn(true);
+         when(enrollmentJdbcRepository.isEnrolled(1L, 1L)).thenReturn(false);
+         when(enrollmentJdbcRepository.claimSeats(1L, 1)).thenReturn(1);
+
+         boolean result = courseEnrollmentService.enrollStudent(1L, 1L);
 
-     @BeforeEach
-     void setUp() {
-         student = new Student(1L, "Test Student", "student@test.com", "password", new HashSet<>());
-         course = new Course("Test Course", "Desc", null); // Instructor not needed for this test
-         course.setId(1L);
-         course.setStudents(new HashSet<>());
+         assertTrue(result);
+         verify(enrollmentJdbcRepository).insertEnrollment(1L, 1L);
+         verify(studentRepository, never()).findById(anyLong());
+         verify(courseRepository, never()).findById(anyLong());
+     }
 
-         otherCourse = new Course("Other Course", "Desc", null);
-         otherCourse.setId(2L);
-         otherCourse.setStudents(new HashSet<>());
+     @Test
+     void enrollStudent_CourseFull() {
+         when(studentRepository.existsById(1L)).thenReturn(true);
+         when(courseRepository.existsById(1L)).thenReturn(true);
+         when(enrollmentJdbcRepository.isEnrolled(1L, 1L)).thenReturn(false);
+         when(enrollmentJdbcRepository.claimSeats(1L, 1)).thenReturn(0);
+
+         IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
+             courseEnrollmentService.enrollStudent(1L, 1L);
+         });
 
-         student.getCourses().add(otherCourse); // Student initially enrolled in otherCourse
-         otherCourse.getStudents().add(student);
+         assertEquals("Course is full.", exception.getMessage());
+         verify(enrollmentJdbcRepository, never()).insertEnrollment(anyLong(), anyLong());
      }
 
      @Test
-     void enrollStudent_Success() {
-         when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
-         when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
-         when(studentRepository.save(any(Student.class))).thenReturn(student);
-         when(courseRepository.save(any(Course.class))).thenReturn(course);
+     void enrollStudent_ConcurrentDuplicateReleasesSeat() {
+         when(studentRepository.existsById(1L)).thenReturn(true);
+         when(courseRepository.existsById(1L)).thenReturn(true);
+         when(enrollmentJdbcRepository.isEnrolled(1L, 1L)).thenReturn(false);
+         when(enrollmentJdbcRepository.claimSeats(1L, 1)).thenReturn(1);
+         when(enrollmentJdbcRepository.insertEnrollment(1L, 1L)).thenThrow(new DuplicateKeyException("student_courses"));
 
          boolean result = courseEnrollmentService.enrollStudent(1L, 1L);
 
-         assertTrue(result);
-         assertTrue(student.getCourses().contains(course));
-         assertTrue(course.getStudents().contains(student));
-         verify(studentRepository).save(student);
-         verify(courseRepository).save(course);
+         assertFalse(result);
+         verify(enrollmentJdbcRepository).releaseSeats(1L, 1);
      }
 
      @Test
      void enrollStudent_AlreadyEnrolled() {
-         student.getCourses().add(course); // Pre-enroll student
-         course.getStudents().add(student);
-
-         when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
-         when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
+         when(studentRepository.existsById(1L)).thenReturn(true);
+         when(courseRepository.existsById(1L)).thenReturn(true);
+         when(enrollmentJdbcRepository.isEnrolled(1L, 1L)).thenReturn(true);
 
          boolean result = courseEnrollmentService.enrollStudent(1L, 1L);
 
          assertFalse(result);
-         verify(studentRepository, never()).save(any());
-         verify(courseRepository, never()).save(any());
+         verify(enrollmentJdbcRepository, never()).insertEnrollment(anyLong(), anyLong());
      }
 
      @Test
      void enrollStudent_StudentNotFound() {
-         when(studentRepository.findById(99L)).thenReturn(Optional.empty());
-         when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
+         when(studentRepository.existsById(99L)).thenReturn(false);
 
          IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
              courseEnrollmentService.enrollStudent(99L, 1L);
          });
 
          assertEquals("Student or Course not found.", exception.getMessage());
-         verify(studentRepository, never()).save(any());
-         verify(courseRepository, never()).save(any());
+         verify(enrollmentJdbcRepository, never()).insertEnrollment(anyLong(), anyLong());
      }
 
      @Test
      void enrollStudent_CourseNotFound() {
-         when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
-         when(courseRepository.findById(99L)).thenReturn(Optional.empty());
+         when(studentRepository.existsById(1L)).thenReturn(true);
+         when(courseRepository.existsById(99L)).thenReturn(false);
 
          IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
              courseEnrollmentService.enrollStudent(1L, 99L);
          });
 
          assertEquals("Student or Course not found.", exception.getMessage());
-         verify(studentRepository, never()).save(any());
-         verify(courseRepository, never()).save(any());
+         verify(enrollmentJdbcRepository, never()).insertEnrollment(anyLong(), anyLong());
      }
 
      @Test
      void dropStudent_Success() {
-         // Enroll student first (for dropping)
-         student.getCourses().add(course);
-         course.getStudents().add(student);
-
-         when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
-         when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
-         when(studentRepository.save(any(Student.class))).thenReturn(student);
-         when(courseRepository.save(any(Course.class))).thenReturn(course);
+         when(studentRepository.existsById(1L)).thenReturn(true);
+         when(courseRepository.existsById(1L)).thenReturn(true);
+         when(enrollmentJdbcRepository.dropEnrollment(1L, 1L)).thenReturn(true);
 
          boolean result = courseEnrollmentService.dropStudent(1L, 1L);
 
          assertTrue(result);
-         assertFalse(student.getCourses().contains(course));
-         assertFalse(course.getStudents().contains(student));
-         verify(studentRepository).save(student);
-         verify(courseRepository).save(course);
+         verify(enrollmentJdbcRepository).dropEnrollment(1L, 1L);
      }
 
      @Test
      void dropStudent_NotEnrolled() {
-         // Ensure student is NOT enrolled in 'course'
-         when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
-         when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
+         when(studentRepository.existsById(1L)).thenReturn(true);
+         when(courseRepository.existsById(1L)).thenReturn(true);
+         when(enrollmentJdbcRepository.dropEnrollment(1L, 1L)).thenReturn(false);
 
          boolean result = courseEnrollmentService.dropStudent(1L, 1L);
 
          assertFalse(result);
-         verify(studentRepository, never()).save(any());
-         verify(courseRepository, never()).save(any());
      }
 
      @Test
      void dropStudent_StudentNotFound() {
-         when(studentRepository.findById(99L)).thenReturn(Optional.empty());
-         when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
+         when(studentRepository.existsById(99L)).thenReturn(false);
 
          IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
              courseEnrollmentService.dropStudent(99L, 1L);
          });
 
          assertEquals("Student or Course not found.", exception.getMessage());
-         verify(studentRepository, never()).save(any());
-         verify(courseRepository, never()).save(any());
+         verify(enrollmentJdbcRepository, never()).dropEnrollment(anyLong(), anyLong());
      }
 
      @Test
      void dropStudent_CourseNotFound() {
-         when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
-         when(courseRepository.findById(99L)).thenReturn(Optional.empty());
+         when(studentRepository.existsById(1L)).thenReturn(true);
+         when(courseRepository.existsById(99L)).thenReturn(false);
 
          IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
              courseEnrollmentService.dropStudent(1L, 99L);
          });
 
          assertEquals("Student or Course not found.", exception.getMessage());
-         verify(studentRepository, never()).save(any());
-         verify(courseRepository, never()).save(any());
+         verify(enrollmentJdbcRepository, never()).dropEnrollment(anyLong(), anyLong());
+     }
+
+     @Test
+     void bulkEnroll_ReportsPerRowResults() {
+         List<EnrollmentRequest> requests = List.of(
+                 new EnrollmentRequest(1L, 1L),   // new enrollment
+                 new EnrollmentRequest(1L, 2L),   // already enrolled
+                 new EnrollmentRequest(99L, 1L),  // unknown student
+                 new EnrollmentRequest(1L, 99L),  // unknown course
+                 new EnrollmentRequest(1L, 1L));  // repeated in request
+
+         when(studentRepository.findExistingIds(any())).thenReturn(Set.of(1L));
+         when(courseRepository.findExistingIds(any())).thenReturn(Set.of(1L, 2L));
+         when(enrollmentJdbcRepository.findExistingEnrollments(any(), any()))
+                 .thenReturn(Set.of(new EnrollmentRequest(1L, 2L)));
+         when(enrollmentJdbcRepository.claimSeats(1L, 1)).thenReturn(1);
+
+         List<EnrollmentResult> results = courseEnrollmentService.bulkEnroll(requests);
+
+         assertEquals(List.of(
+                 EnrollmentResult.Status.ENROLLED,
+                 EnrollmentResult.Status.ALREADY_ENROLLED,
+                 EnrollmentResult.Status.STUDENT_NOT_FOUND,
+                 EnrollmentResult.Status.COURSE_NOT_FOUND,
+                 EnrollmentResult.Status.DUPLICATE_IN_REQUEST),
+                 results.stream().map(EnrollmentResult::status).toList());
+         verify(enrollmentJdbcRepository).insertEnrollments(eq(List.of(new EnrollmentRequest(1L, 1L))), anyInt());
+         verify(serviceMetrics).recordPayload(CourseEnrollmentService.class, "bulkEnroll", 5);
+         verify(studentRepository, never()).findById(anyLong());
+         verify(courseRepository, never()).findById(anyLong());
+     }
+
+     @Test
+     void bulkEnroll_MarksRowsBeyondCapacityAsCourseFull() {
+         List<EnrollmentRequest> requests = List.of(
+                 new EnrollmentRequest(1L, 1L),
+                 new EnrollmentRequest(2L, 1L),
+                 new EnrollmentRequest(3L, 1L));
+
+         when(studentRepository.findExistingIds(any())).thenReturn(Set.of(1L, 2L, 3L));
+         when(courseRepository.findExistingIds(any())).thenReturn(Set.of(1L));
+         when(enrollmentJdbcRepository.findExistingEnrollments(any(), any())).thenReturn(Set.of());
+         when(enrollmentJdbcRepository.claimSeats(1L, 3)).thenReturn(0);
+         when(enrollmentJdbcRepository.lockRemainingSeats(1L)).thenReturn(2);
+         when(enrollmentJdbcRepository.claimSeats(1L, 2)).thenReturn(1);
+
+         List<EnrollmentResult> results = courseEnrollmentService.bulkEnroll(requests);
+
+         assertEquals(List.of(
+                 EnrollmentResult.Status.ENROLLED,
+                 EnrollmentResult.Status.ENROLLED,
+                 EnrollmentResult.Status.COURSE_FULL),
+                 results.stream().map(EnrollmentResult::status).toList());
+         verify(enrollmentJdbcRepository).insertEnrollments(
+                 eq(List.of(new EnrollmentRequest(1L, 1L), new EnrollmentRequest(2L, 1L))), anyInt());
+         verify(enrollmentJdbcRepository, never()).claimSeats(1L, 1);
+     }
+
+     @Test
+     void bulkEnroll_FlagsNullRowsAsInvalid() {
+         List<EnrollmentRequest> requests = Arrays.asList(new EnrollmentRequest(1L, 1L), null);
+
+         when(studentRepository.findExistingIds(any())).thenReturn(Set.of(1L));
+         when(courseRepository.findExistingIds(any())).thenReturn(Set.of(1L));
+         when(enrollmentJdbcRepository.findExistingEnrollments(any(), any())).thenReturn(Set.of());
+         when(enrollmentJdbcRepository.claimSeats(1L, 1)).thenReturn(1);
+
+         List<EnrollmentResult> results = courseEnrollmentService.bulkEnroll(requests);
+
+         assertEquals(List.of(EnrollmentResult.Status.ENROLLED, EnrollmentResult.Status.INVALID),
+                 results.stream().map(EnrollmentResult::status).toList());
+         verify(enrollmentJdbcRepository).insertEnrollments(eq(List.of(new EnrollmentRequest(1L, 1L))), anyInt());
+     }
+
+     @Test
+     void bulkEnrollCsv_SkipsHeaderAndFlagsInvalidLines() throws Exception {
+         String csv = "studentId,courseId\n1,1\n\nnot-a-row\n";
+
+         when(studentRepository.findExistingIds(any())).thenReturn(Set.of(1L));
+         when(courseRepository.findExistingIds(any())).thenReturn(Set.of(1L));
+         when(enrollmentJdbcRepository.findExistingEnrollments(any(), any())).thenReturn(Set.of());
+         when(enrollmentJdbcRepository.claimSeats(1L, 1)).thenReturn(1);
+
+         List<EnrollmentResult> results = courseEnrollmentService.bulkEnrollCsv(new StringReader(csv));
+
+         assertEquals(2, results.size());
+         assertEquals(EnrollmentResult.Status.ENROLLED, results.get(0).status());
+         assertEquals(EnrollmentResult.Status.INVALID, results.get(1).status());
+         verify(enrollmentJdbcRepository).insertEnrollments(anyList(), anyInt());
      }
- }
\ No newline at end of file
+ }
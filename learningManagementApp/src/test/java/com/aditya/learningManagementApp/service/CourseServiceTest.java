@@ -1,9 +1,13 @@
 package com.aditya.learningManagementApp.service;
 
+     import com.aditya.learningManagementApp.configure.ServiceMetrics;
+     import com.aditya.learningManagementApp.dto.CourseEnrollmentCount;
+     import com.aditya.learningManagementApp.dto.CourseSummary;
      import com.aditya.learningManagementApp.entities.Course;
      import com.aditya.learningManagementApp.entities.Instructor;
      import com.aditya.learningManagementApp.GlobalExceptionHandler.ResourceNotFoundException;
      import com.aditya.learningManagementApp.repository.CourseRepository;
+     import com.aditya.learningManagementApp.repository.EnrollmentJdbcRepository;
      import com.aditya.learningManagementApp.repository.InstructorRepository;
      import org.junit.jupiter.api.BeforeEach;
      import org.junit.jupiter.api.Test;
@@ -11,13 +15,15 @@ package com.aditya.learningManagementApp.service;
      import org.mockito.InjectMocks;
      import org.mockito.Mock;
      import org.mockito.junit.jupiter.MockitoExtension;
+     import org.springframework.data.domain.PageRequest;
+     import org.springframework.data.domain.Pageable;
 
-     import java.util.Arrays;
      import java.util.List;
      import java.util.Optional;
 
      import static org.junit.jupiter.api.Assertions.*;
      import static org.mockito.ArgumentMatchers.any;
+     import static org.mockito.ArgumentMatchers.eq;
      import static org.mockito.Mockito.*;
 
      @ExtendWith(MockitoExtension.class)
@@ -29,10 +35,16 @@ package com.aditya.learningManagementApp.service;
          @Mock
          private InstructorRepository instructorRepository;
 
+         @Mock
+         private EnrollmentJdbcRepository enrollmentJdbcRepository;
+
+         @Mock
+         private ServiceMetrics serviceMetrics;
+
          @InjectMocks
          private CourseService courseService;
 
-         private Course course1, course2;
+         private Course course1;
          private Instructor instructor;
 
          @BeforeEach
@@ -43,8 +55,6 @@ package com.aditya.learningManagementApp.service;
 
              course1 = new Course("Java Basics", "Intro to Java", instructor);
              course1.setId(1L);
-             course2 = new Course("Spring Boot", "Web dev with Spring", instructor);
-             course2.setId(2L);
          }
 
          @Test
@@ -97,6 +107,45 @@ package com.aditya.learningManagementApp.service;
              verify(courseRepository).save(course1); // Verify existing object was updated and saved
          }
 
+         @Test
+         void updateCourse_WithoutCapacityKeepsIt() {
+             course1.setCapacity(30);
+             when(courseRepository.findById(1L)).thenReturn(Optional.of(course1));
+             when(courseRepository.save(any(Course.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+             Course result = courseService.updateCourse(1L, new Course("Java Advanced", "Advanced Java Topics", instructor));
+
+             assertEquals(30, result.getCapacity());
+             verify(enrollmentJdbcRepository, never()).lockEnrolledCount(anyLong());
+         }
+
+         @Test
+         void updateCourse_CapacityBelowEnrolledIsRejected() {
+             course1.setCapacity(30);
+             Course updatedDetails = new Course("Java Basics", "Intro to Java", instructor);
+             updatedDetails.setCapacity(10);
+             when(courseRepository.findById(1L)).thenReturn(Optional.of(course1));
+             when(enrollmentJdbcRepository.lockEnrolledCount(1L)).thenReturn(12);
+
+             IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                     courseService.updateCourse(1L, updatedDetails));
+
+             assertEquals("Capacity 10 is below the 12 students already enrolled", exception.getMessage());
+             assertEquals(30, course1.getCapacity());
+             verify(courseRepository, never()).save(any());
+         }
+
+         @Test
+         void updateCourse_CapacityAtEnrolledIsAccepted() {
+             Course updatedDetails = new Course("Java Basics", "Intro to Java", instructor);
+             updatedDetails.setCapacity(12);
+             when(courseRepository.findById(1L)).thenReturn(Optional.of(course1));
+             when(enrollmentJdbcRepository.lockEnrolledCount(1L)).thenReturn(12);
+             when(courseRepository.save(any(Course.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+             assertEquals(12, courseService.updateCourse(1L, updatedDetails).getCapacity());
+         }
+
          @Test
          void updateCourse_NotFound() {
              Course updatedDetails = new Course("Java Advanced", "Advanced Java Topics", instructor);
@@ -136,26 +185,34 @@ package com.aditya.learningManagementApp.service;
          }
 
          @Test
-         void getAllCourses() {
-             List<Course> courses = Arrays.asList(course1, course2);
-             when(courseRepository.findAll()).thenReturn(courses);
+         void getCourseSummaries_UsesKeysetCursor() {
+             List<CourseSummary> page = List.of(new CourseSummary(3L, "Java Basics", "Intro to Java", 1L, "Test Instructor"));
+             when(courseRepository.findSummariesAfter(eq(2L), any(Pageable.class))).thenReturn(page);
+
+             List<CourseSummary> result = courseService.getCourseSummaries(2L, null, 10);
+
+             assertEquals(page, result);
+             verify(courseRepository).findSummariesAfter(2L, PageRequest.ofSize(10));
+             verify(courseRepository, never()).findAll();
+         }
+
+         @Test
+         void getCourseSummaries_FiltersByInstructorAndClampsLimit() {
+             when(courseRepository.findSummariesByInstructorAfter(eq(1L), eq(0L), any(Pageable.class))).thenReturn(List.of());
 
-             List<Course> result = courseService.getAllCourses();
+             courseService.getCourseSummaries(null, 1L, 100_000);
 
-             assertEquals(2, result.size());
-             assertEquals(course1, result.get(0));
-             assertEquals(course2, result.get(1));
-             verify(courseRepository).findAll();
+             verify(courseRepository).findSummariesByInstructorAfter(1L, 0L, PageRequest.ofSize(CourseService.MAX_PAGE_SIZE));
          }
 
          @Test
          void getCourseById_Success() {
              when(courseRepository.findById(1L)).thenReturn(Optional.of(course1));
 
-             Course result = courseService.getCourseById(1L);
+             CourseSummary result = courseService.getCourseById(1L);
 
              assertNotNull(result);
-             assertEquals(course1, result);
+             assertEquals(new CourseSummary(1L, "Java Basics", "Intro to Java", 1L, "Test Instructor"), result);
              verify(courseRepository).findById(1L);
          }
 
@@ -170,4 +227,23 @@ package com.aditya.learningManagementApp.service;
              assertEquals("Course not found with id: 99", exception.getMessage());
              verify(courseRepository).findById(99L);
          }
-     }
\ No newline at end of file
+     
+         @Test
+         void getEnrollmentCount_Success() {
+             CourseEnrollmentCount count = new CourseEnrollmentCount(1L, 12, 30);
+             when(enrollmentJdbcRepository.findEnrollmentCount(1L)).thenReturn(Optional.of(count));
+
+             assertEquals(count, courseService.getEnrollmentCount(1L));
+         }
+
+         @Test
+         void getEnrollmentCount_NotFound() {
+             when(enrollmentJdbcRepository.findEnrollmentCount(99L)).thenReturn(Optional.empty());
+
+             ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () -> {
+                 courseService.getEnrollmentCount(99L);
+             });
+
+             assertEquals("Course not found with id: 99", exception.getMessage());
+         }
+     }
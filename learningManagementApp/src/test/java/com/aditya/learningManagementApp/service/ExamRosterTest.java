@@ -0,0 +1,118 @@
+package com.aditya.learningManagementApp.service;
+
+import com.aditya.learningManagementApp.entities.Course;
+import com.aditya.learningManagementApp.entities.Exam;
+import com.aditya.learningManagementApp.entities.Instructor;
+import com.aditya.learningManagementApp.entities.Student;
+import com.aditya.learningManagementApp.repository.CourseRepository;
+import com.aditya.learningManagementApp.repository.ExamRepository;
+import com.aditya.learningManagementApp.repository.InstructorRepository;
+import com.aditya.learningManagementApp.repository.StudentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Roster changes against a real (H2, MySQL mode) database: every path writes
+ * with set-based statements, skips unknown ids and never assigns a student twice.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class ExamRosterTest {
+
+    @Autowired
+    private ExamService examService;
+
+    @Autowired
+    private InstructorRepository instructorRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private ExamRepository examRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Course course;
+    private Exam exam;
+
+    @BeforeEach
+    void setUp() {
+        Instructor instructor = new Instructor();
+        instructor.setName("Roster Instructor");
+        instructor.setEmail("roster-" + System.nanoTime() + "@lms.test");
+        instructor.setPassword("secret");
+        instructor = instructorRepository.save(instructor);
+
+        course = courseRepository.save(new Course("Rosters", "Exam rosters", instructor));
+
+        Exam newExam = new Exam();
+        newExam.setName("Midterm");
+        newExam.setCourse(course);
+        newExam.setInstructor(instructor);
+        exam = examRepository.save(newExam);
+    }
+
+    @Test
+    void courseRoster_AddsEnrolledStudentsOnce() {
+        List<Long> enrolled = newStudents(5);
+        enrolled.forEach(this::enroll);
+        Long notEnrolled = newStudents(1).get(0);
+        examService.assignStudentsToExam(exam.getId(), List.of(enrolled.get(0)));
+
+        assertEquals(4, examService.assignCourseRosterToExam(exam.getId()));
+        assertEquals(0, examService.assignCourseRosterToExam(exam.getId()));
+
+        assertEquals(5, rosterSize());
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM exam_students WHERE exam_id = ? AND student_id = ?", Integer.class, exam.getId(), notEnrolled));
+    }
+
+    @Test
+    void assignAndRemove_TouchOnlyTheGivenStudents() {
+        List<Long> studentIds = newStudents(3);
+        List<Long> withUnknown = new ArrayList<>(studentIds);
+        withUnknown.add(Long.MAX_VALUE);
+        examService.assignStudentsToExam(exam.getId(), withUnknown);
+        examService.assignStudentsToExam(exam.getId(), studentIds.subList(0, 2));
+        assertEquals(3, rosterSize());
+
+        examService.removeStudentsFromExam(exam.getId(), List.of(studentIds.get(1)));
+
+        assertEquals(List.of(studentIds.get(0), studentIds.get(2)), jdbcTemplate.queryForList(
+                "SELECT student_id FROM exam_students WHERE exam_id = ? ORDER BY student_id", Long.class, exam.getId()));
+    }
+
+    private int rosterSize() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM exam_students WHERE exam_id = ?", Integer.class, exam.getId());
+    }
+
+    private void enroll(Long studentId) {
+        jdbcTemplate.update("INSERT INTO student_courses (student_id, course_id) VALUES (?, ?)", studentId, course.getId());
+    }
+
+    private List<Long> newStudents(int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Student student = new Student();
+            student.setName("Roster Student " + i);
+            student.setEmail("roster-student-" + System.nanoTime() + "-" + i + "@lms.test");
+            student.setPassword("secret");
+            ids.add(studentRepository.save(student).getId());
+        }
+        return ids;
+    }
+}
@@ -1,13 +1,17 @@
  package com.aditya.learningManagementApp.service;
 
+     import com.aditya.learningManagementApp.configure.ServiceMetrics;
+     import com.aditya.learningManagementApp.dto.ExamRosterEntry;
+     import com.aditya.learningManagementApp.dto.ExamSummary;
+     import com.aditya.learningManagementApp.dto.StudentSummary;
      import com.aditya.learningManagementApp.entities.Course;
      import com.aditya.learningManagementApp.entities.Exam;
      import com.aditya.learningManagementApp.entities.Instructor;
      import com.aditya.learningManagementApp.entities.Student;
      import com.aditya.learningManagementApp.GlobalExceptionHandler.ResourceNotFoundException;
+     import com.aditya.learningManagementApp.repository.ExamJdbcRepository;
      import com.aditya.learningManagementApp.repository.ExamRepository;
      import com.aditya.learningManagementApp.repository.InstructorRepository;
-     import com.aditya.learningManagementApp.repository.StudentRepository;
      import org.junit.jupiter.api.BeforeEach;
      import org.junit.jupiter.api.Test;
      import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,10 +24,11 @@
 import java.util.HashSet;
 import java.util.List;
      import java.util.Optional;
+     import java.util.Set;
 
      import static org.junit.jupiter.api.Assertions.*;
      import static org.mockito.ArgumentMatchers.any;
-     import static org.mockito.ArgumentMatchers.anyList;
+     import static org.mockito.ArgumentMatchers.anyCollection;
      import static org.mockito.Mockito.*;
 
      @ExtendWith(MockitoExtension.class)
@@ -32,11 +37,14 @@ import java.util.List;
          @Mock
          private ExamRepository examRepository;
 
+         @Mock
+         private ExamJdbcRepository examJdbcRepository;
+
          @Mock
          private InstructorRepository instructorRepository;
 
          @Mock
-         private StudentRepository studentRepository;
+         private ServiceMetrics serviceMetrics;
 
          @InjectMocks
          private ExamService examService;
@@ -60,14 +68,14 @@ import java.util.List;
              exam1.setName("Midterm Exam");
              exam1.setInstructor(instructor);
              exam1.setCourse(course);
-             exam1.setStudents(new ArrayList<>());
+             exam1.setStudents(new HashSet<>());
 
              exam2 = new Exam();
              exam2.setId(2L);
              exam2.setName("Final Exam");
              exam2.setInstructor(instructor);
              exam2.setCourse(course);
-             exam2.setStudents(new ArrayList<>());
+             exam2.setStudents(new HashSet<>());
 
              student1 = new Student(1L, "Student One", "s1@test.com", "pass", new HashSet<>());
              student2 = new Student(2L, "Student Two", "s2@test.com", "pass", new HashSet<>());
@@ -119,47 +127,62 @@ import java.util.List;
 
          @Test
          void getExamsByInstructor() {
-             List<Exam> exams = Arrays.asList(exam1, exam2);
-             when(examRepository.findByInstructorId(1L)).thenReturn(exams);
+             List<ExamSummary> exams = Arrays.asList(summaryOf(exam1), summaryOf(exam2));
+             when(examRepository.findSummariesByInstructorId(1L)).thenReturn(exams);
 
-             List<Exam> result = examService.getExamsByInstructor(1L);
+             List<ExamSummary> result = examService.getExamsByInstructor(1L, false);
 
              assertEquals(2, result.size());
              assertEquals(exams, result);
-             verify(examRepository).findByInstructorId(1L);
+             assertNull(result.get(0).students());
+             verify(examRepository).findSummariesByInstructorId(1L);
+             verify(examRepository, never()).findRosterEntries(any());
+         }
+
+         @Test
+         void getExamsByInstructor_WithRosters_UsesOneRosterQuery() {
+             when(examRepository.findSummariesByInstructorId(1L)).thenReturn(List.of(summaryOf(exam1), summaryOf(exam2)));
+             when(examRepository.findRosterEntries(any())).thenReturn(List.of(
+                     new ExamRosterEntry(1L, 1L, "Student One", "s1@test.com"),
+                     new ExamRosterEntry(1L, 2L, "Student Two", "s2@test.com"),
+                     new ExamRosterEntry(2L, 2L, "Student Two", "s2@test.com")));
+
+             List<ExamSummary> result = examService.getExamsByInstructor(1L, true);
+
+             assertEquals(List.of(StudentSummary.from(student1), StudentSummary.from(student2)), result.get(0).students());
+             assertEquals(List.of(StudentSummary.from(student2)), result.get(1).students());
+             verify(examRepository, times(1)).findRosterEntries(any());
          }
 
          @Test
          void getExamsByStudent() {
              // Assume exam1 is assigned to student1
-             List<Exam> exams = List.of(exam1);
-             when(examRepository.findByStudentsId(1L)).thenReturn(exams);
+             List<ExamSummary> exams = List.of(summaryOf(exam1));
+             when(examRepository.findSummariesByStudentId(1L)).thenReturn(exams);
 
-             List<Exam> result = examService.getExamsByStudent(1L);
+             List<ExamSummary> result = examService.getExamsByStudent(1L, false);
 
              assertEquals(1, result.size());
-             assertEquals(exam1, result.get(0));
-             verify(examRepository).findByStudentsId(1L);
+             assertEquals(1L, result.get(0).id());
+             verify(examRepository).findSummariesByStudentId(1L);
+         }
+
+         private static ExamSummary summaryOf(Exam exam) {
+             return new ExamSummary(exam.getId(), exam.getName(), exam.getCourse().getId(), exam.getCourse().getTitle(),
+                     exam.getInstructor().getId(), exam.getInstructor().getName());
          }
 
          @Test
          void assignStudentsToExam_Success() {
-             List<Long> studentIds = Arrays.asList(1L, 2L);
-             List<Student> students = Arrays.asList(student1, student2);
-
              when(examRepository.findById(1L)).thenReturn(Optional.of(exam1));
-             when(studentRepository.findAllById(studentIds)).thenReturn(students);
-             when(examRepository.save(any(Exam.class))).thenReturn(exam1);
+             when(examJdbcRepository.assignStudents(1L, Set.of(1L, 2L))).thenReturn(2);
 
-             Exam updatedExam = examService.assignStudentsToExam(1L, studentIds);
+             Exam updatedExam = examService.assignStudentsToExam(1L, Arrays.asList(1L, 2L));
 
-             assertNotNull(updatedExam);
-             assertEquals(2, updatedExam.getStudents().size());
-             assertTrue(updatedExam.getStudents().contains(student1));
-             assertTrue(updatedExam.getStudents().contains(student2));
+             assertSame(exam1, updatedExam);
              verify(examRepository).findById(1L);
-             verify(studentRepository).findAllById(studentIds);
-             verify(examRepository).save(exam1);
+             verify(serviceMetrics).recordPayload(ExamService.class, "assignStudentsToExam", 2);
+             verify(examRepository, never()).save(any());
          }
 
          @Test
@@ -173,32 +196,59 @@ import java.util.List;
 
              assertEquals("Exam not found with ID: 99", exception.getMessage());
              verify(examRepository).findById(99L);
-             verify(studentRepository, never()).findAllById(anyList());
-             verify(examRepository, never()).save(any());
+             verify(examJdbcRepository, never()).assignStudents(any(), anyCollection());
          }
 
-          @Test
-         void assignStudentsToExam_SomeStudentsNotFound() {
-            // Scenario: Request to add student 1 and 3, but student 3 doesn't exist.
-            // findAllById returns only the students it found.
-             List<Long> studentIds = Arrays.asList(1L, 3L);
-             List<Student> foundStudents = List.of(student1); // Only student 1 found
+         @Test
+         void assignStudentsToExam_CountsOnlyAddedStudents() {
+             // Student 1 is already on the roster and student 3 does not exist; the INSERT ... SELECT skips both
+             when(examRepository.findById(1L)).thenReturn(Optional.of(exam1));
+             when(examJdbcRepository.assignStudents(1L, Set.of(1L, 2L, 3L))).thenReturn(1);
+
+             examService.assignStudentsToExam(1L, Arrays.asList(1L, 2L, 3L, 2L));
 
+             verify(serviceMetrics).recordPayload(ExamService.class, "assignStudentsToExam", 1);
+         }
+
+         @Test
+         void removeStudentsFromExam_Success() {
              when(examRepository.findById(1L)).thenReturn(Optional.of(exam1));
-             when(studentRepository.findAllById(studentIds)).thenReturn(foundStudents);
-             when(examRepository.save(any(Exam.class))).thenReturn(exam1);
+             when(examJdbcRepository.removeStudents(1L, Set.of(1L, 99L))).thenReturn(1);
 
-             Exam updatedExam = examService.assignStudentsToExam(1L, studentIds);
+             Exam updatedExam = examService.removeStudentsFromExam(1L, List.of(1L, 99L));
 
-             assertNotNull(updatedExam);
-             // Should only contain the found student
-             assertEquals(1, updatedExam.getStudents().size());
-             assertTrue(updatedExam.getStudents().contains(student1));
-             verify(examRepository).findById(1L);
-             verify(studentRepository).findAllById(studentIds);
-             verify(examRepository).save(exam1);
+             assertSame(exam1, updatedExam);
+             verify(examJdbcRepository).removeStudents(1L, Set.of(1L, 99L));
+             verify(examRepository, never()).save(any());
          }
 
+         @Test
+         void removeStudentsFromExam_ExamNotFound() {
+             when(examRepository.findById(99L)).thenReturn(Optional.empty());
+
+             assertThrows(ResourceNotFoundException.class, () -> examService.removeStudentsFromExam(99L, List.of(1L)));
+             verify(examJdbcRepository, never()).removeStudents(any(), anyCollection());
+         }
+
+         @Test
+         void assignCourseRosterToExam_Success() {
+             when(examRepository.findById(1L)).thenReturn(Optional.of(exam1));
+             when(examJdbcRepository.assignCourseRoster(1L, 1L)).thenReturn(25);
+
+             assertEquals(25, examService.assignCourseRosterToExam(1L));
+             verify(serviceMetrics).recordPayload(ExamService.class, "assignCourseRosterToExam", 25);
+         }
+
+         @Test
+         void assignCourseRosterToExam_ExamNotFound() {
+             when(examRepository.findById(99L)).thenReturn(Optional.empty());
+
+             ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () ->
+                     examService.assignCourseRosterToExam(99L));
+
+             assertEquals("Exam not found with ID: 99", exception.getMessage());
+             verify(examJdbcRepository, never()).assignCourseRoster(any(), any());
+         }
 
          @Test
          void deleteExam_Success() {
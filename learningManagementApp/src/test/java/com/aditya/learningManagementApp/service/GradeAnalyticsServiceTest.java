@@ -0,0 +1,150 @@
+package com.aditya.learningManagementApp.service;
+
+import com.aditya.learningManagementApp.dto.GradeDistributionSummary;
+import com.aditya.learningManagementApp.dto.GradeEntry;
+import com.aditya.learningManagementApp.dto.GradeUpdate;
+import com.aditya.learningManagementApp.entities.Course;
+import com.aditya.learningManagementApp.entities.Exam;
+import com.aditya.learningManagementApp.entities.Grade;
+import com.aditya.learningManagementApp.entities.Student;
+import com.aditya.learningManagementApp.GlobalExceptionHandler.ResourceNotFoundException;
+import com.aditya.learningManagementApp.repository.GradeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The statistics GradeService keeps per exam and course as it grades must
+ * match what a rebuild from the grades table produces.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class GradeAnalyticsServiceTest {
+
+    @Autowired
+    private GradeAnalyticsService gradeAnalyticsService;
+
+    @Autowired
+    private GradeService gradeService;
+
+    @Autowired
+    private GradeRepository gradeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationContext context;
+
+    private GradingFixture fixture;
+
+    private Course course;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new GradingFixture(context, "Analytics");
+        course = fixture.newCourse("Statistics");
+    }
+
+    @Test
+    void gradesAndChanges_UpdateExamAndCourseStatistics() {
+        Exam midterm = fixture.newExam(course, "Midterm");
+        Exam finals = fixture.newExam(course, "Final");
+        List<Student> students = newEnrolledStudents(4);
+
+        gradeService.assignGrade(fixture.grade(students.get(0), midterm, null, "95"));
+        Grade changed = gradeService.assignGrade(fixture.grade(students.get(1), midterm, null, "85"));
+        gradeService.assignGradesForExam(finals.getId(), List.of(
+                new GradeEntry(students.get(2).getId(), null, new BigDecimal("75")),
+                new GradeEntry(students.get(3).getId(), "Pass", null)));
+
+        GradeDistributionSummary exam = gradeAnalyticsService.getExamDistribution(midterm.getId());
+        assertEquals(2, exam.graded());
+        assertEquals(new BigDecimal("90.00"), exam.mean());
+        assertEquals(Map.of("A", 1, "B", 1), exam.letters());
+
+        GradeDistributionSummary total = gradeAnalyticsService.getCourseDistribution(course.getId());
+        assertEquals(4, total.graded());
+        assertEquals(3, total.scored());
+        assertEquals(new BigDecimal("85.00"), total.mean());
+        assertEquals(1, total.letters().get(GradeHistogram.OTHER));
+
+        gradeService.changeGrade(changed.getId(), new GradeUpdate(null, new BigDecimal("65")));
+
+        assertEquals(new BigDecimal("80.00"), gradeAnalyticsService.getExamDistribution(midterm.getId()).mean());
+        assertEquals(Map.of("A", 1, "D", 1), gradeAnalyticsService.getExamDistribution(midterm.getId()).letters());
+        assertEquals(new BigDecimal("78.33"), gradeAnalyticsService.getCourseDistribution(course.getId()).mean());
+    }
+
+    @Test
+    void rebuild_MatchesIncrementalStatistics() {
+        Exam exam = fixture.newExam(course, "Quiz");
+        List<Student> students = newEnrolledStudents(3);
+        gradeService.assignGrade(fixture.grade(students.get(0), exam, "B+", "88"));
+        gradeService.assignGrade(fixture.grade(students.get(1), exam, null, "42.5"));
+        gradeService.assignGrade(fixture.grade(students.get(2), exam, "A", null));
+        GradeDistributionSummary incremental = gradeAnalyticsService.getCourseDistribution(course.getId());
+
+        // Statistics knocked out of step behind the service's back
+        jdbcTemplate.update("DELETE FROM grade_distributions");
+
+        assertTrue(gradeAnalyticsService.rebuildDistributions() >= 1);
+
+        assertEquals(incremental, gradeAnalyticsService.getCourseDistribution(course.getId()));
+        assertEquals(3, gradeAnalyticsService.getExamDistribution(exam.getId()).graded());
+    }
+
+    @Test
+    void examOfOtherCourse_IsRejectedAndRebuiltUnderItsOwnCourse() {
+        Course other = fixture.newCourse("Other");
+        Exam otherExam = fixture.newExam(other, "Other final");
+        Student student = newEnrolledStudents(1).get(0);
+
+        Grade crossCourse = fixture.grade(student, otherExam, "B", "85");
+        crossCourse.setCourse(course);
+        assertThrows(IllegalArgumentException.class, () -> gradeService.assignGrade(crossCourse));
+
+        // Written before the check existed: the grade names this course, its exam belongs to the other one
+        gradeRepository.save(crossCourse);
+        gradeAnalyticsService.rebuildDistributions();
+
+        assertEquals(1, gradeAnalyticsService.getExamDistribution(otherExam.getId()).graded());
+        assertEquals(1, gradeAnalyticsService.getCourseDistribution(other.getId()).graded());
+        assertEquals(0, gradeAnalyticsService.getCourseDistribution(course.getId()).graded());
+    }
+
+    @Test
+    void ungradedExam_HasEmptyDistribution() {
+        GradeDistributionSummary summary = gradeAnalyticsService.getExamDistribution(fixture.newExam(course, "Empty").getId());
+
+        assertEquals(0, summary.graded());
+        assertNull(summary.median());
+        assertTrue(summary.percentiles().isEmpty());
+    }
+
+    @Test
+    void unknownExam_NotFound() {
+        assertThrows(ResourceNotFoundException.class, () -> gradeAnalyticsService.getExamDistribution(-1L));
+    }
+
+    private List<Student> newEnrolledStudents(int count) {
+        List<Student> students = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Student student = fixture.newStudent();
+            fixture.enroll(student, course);
+            students.add(student);
+        }
+        return students;
+    }
+}
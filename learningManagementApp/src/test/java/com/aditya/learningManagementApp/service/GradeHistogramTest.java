@@ -0,0 +1,81 @@
+package com.aditya.learningManagementApp.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradeHistogramTest {
+
+    @Test
+    void scoreStatistics() {
+        GradeHistogram histogram = new GradeHistogram();
+        for (int score = 1; score <= 100; score++) {
+            histogram.add(null, BigDecimal.valueOf(score));
+        }
+
+        assertEquals(new BigDecimal("50.50"), histogram.mean());
+        assertEquals(new BigDecimal("28.87"), histogram.standardDeviation());
+        assertEquals(new BigDecimal("50.50"), histogram.quantile(0.5));
+        assertEquals(new BigDecimal("90.50"), histogram.quantile(0.9));
+        assertEquals(List.of(9, 10, 10, 10, 10, 10, 10, 10, 10, 11), histogram.scoreBands());
+    }
+
+    @Test
+    void mergeEqualsAddingEverything() {
+        GradeHistogram first = new GradeHistogram();
+        first.add("A", new BigDecimal("95"));
+        first.add("Pass", null);
+        GradeHistogram second = new GradeHistogram();
+        second.add("c+", new BigDecimal("78.5"));
+
+        GradeHistogram merged = first.merge(second);
+
+        assertEquals(3, merged.getGraded());
+        assertEquals(2, merged.getScored());
+        assertEquals(Map.of("A", 1, "C+", 1, GradeHistogram.OTHER, 1), merged.letterCounts());
+        assertEquals(new BigDecimal("3.15"), merged.meanGradePoints());
+        assertEquals(new BigDecimal("86.75"), merged.mean());
+    }
+
+    @Test
+    void removeUndoesAdd() {
+        GradeHistogram histogram = new GradeHistogram();
+        histogram.add("B", new BigDecimal("84"));
+        histogram.add("A", new BigDecimal("96"));
+
+        histogram.remove("B", new BigDecimal("84"));
+
+        assertEquals(1, histogram.getGraded());
+        assertEquals(Map.of("A", 1), histogram.letterCounts());
+        assertEquals(new BigDecimal("96.00"), histogram.quantile(0.5));
+        assertEquals(new BigDecimal("0.00"), histogram.standardDeviation());
+    }
+
+    @Test
+    void encodedCountersRoundTrip() {
+        GradeHistogram histogram = new GradeHistogram();
+        histogram.add("A-", new BigDecimal("91.25"));
+        histogram.add("F", new BigDecimal("12"));
+
+        GradeHistogram decoded = GradeHistogram.decode(histogram.getGraded(), histogram.getScored(), histogram.getScoreSum(),
+                histogram.getScoreSumSquares(), histogram.encodeLetterCounts(), histogram.encodeScoreBins());
+
+        assertEquals(histogram.letterCounts(), decoded.letterCounts());
+        assertEquals(histogram.scoreBands(), decoded.scoreBands());
+        assertEquals(histogram.quantile(0.25), decoded.quantile(0.25));
+    }
+
+    @Test
+    void noScores_NoScoreStatistics() {
+        GradeHistogram histogram = new GradeHistogram();
+        histogram.add("B", null);
+
+        assertNull(histogram.mean());
+        assertNull(histogram.quantile(0.5));
+        assertEquals(new BigDecimal("3.00"), histogram.meanGradePoints());
+    }
+}
@@ -1,22 +1,42 @@
 package com.aditya.learningManagementApp.service;
 
+     import com.aditya.learningManagementApp.configure.ServiceMetrics;
+     import com.aditya.learningManagementApp.dto.CourseSummary;
+     import com.aditya.learningManagementApp.dto.ExportFormat;
+     import com.aditya.learningManagementApp.dto.GradeBatchResult;
+     import com.aditya.learningManagementApp.dto.GradeEntry;
+     import com.aditya.learningManagementApp.dto.GradeRow;
+     import com.aditya.learningManagementApp.dto.GradeSummary;
+     import com.aditya.learningManagementApp.dto.GradeUpdate;
+     import com.aditya.learningManagementApp.dto.StudentSummary;
      import com.aditya.learningManagementApp.entities.Course;
      import com.aditya.learningManagementApp.entities.Exam;
      import com.aditya.learningManagementApp.entities.Grade;
      import com.aditya.learningManagementApp.entities.Student;
      import com.aditya.learningManagementApp.GlobalExceptionHandler.ResourceNotFoundException;
      import com.aditya.learningManagementApp.repository.CourseRepository;
+     import com.aditya.learningManagementApp.repository.EnrollmentJdbcRepository;
      import com.aditya.learningManagementApp.repository.ExamRepository;
+     import com.aditya.learningManagementApp.repository.GradeJdbcRepository;
      import com.aditya.learningManagementApp.repository.GradeRepository;
      import com.aditya.learningManagementApp.repository.StudentRepository;
+     import com.aditya.learningManagementApp.repository.TranscriptJdbcRepository;
+     import com.aditya.learningManagementApp.repository.TranscriptJdbcRepository.Delta;
+     import com.fasterxml.jackson.databind.ObjectMapper;
      import org.junit.jupiter.api.BeforeEach;
      import org.junit.jupiter.api.Test;
      import org.junit.jupiter.api.extension.ExtendWith;
+     import org.mockito.ArgumentCaptor;
      import org.mockito.InjectMocks;
      import org.mockito.Mock;
+     import org.mockito.Spy;
      import org.mockito.junit.jupiter.MockitoExtension;
 
+     import java.io.ByteArrayOutputStream;
+     import java.math.BigDecimal;
+     import java.nio.charset.StandardCharsets;
      import java.util.*;
+     import java.util.stream.Stream;
 
      import static org.junit.jupiter.api.Assertions.*;
      import static org.mockito.ArgumentMatchers.any;
@@ -33,6 +53,23 @@ package com.aditya.learningManagementApp.service;
          private CourseRepository courseRepository;
          @Mock
          private ExamRepository examRepository;
+         @Mock
+         private EnrollmentJdbcRepository enrollmentJdbcRepository;
+         @Mock
+         private GradeJdbcRepository gradeJdbcRepository;
+         @Mock
+         private TranscriptJdbcRepository transcriptJdbcRepository;
+         @Mock
+         private GradeAnalyticsService gradeAnalyticsService;
+         @Mock
+         private StudentService studentService;
+         @Mock
+         private CourseService courseService;
+         @Spy
+         private ObjectMapper objectMapper = new ObjectMapper();
+
+         @Mock
+         private ServiceMetrics serviceMetrics;
 
          @InjectMocks
          private GradeService gradeService;
@@ -53,9 +90,6 @@ package com.aditya.learningManagementApp.service;
              exam.setName("Test Exam");
              exam.setCourse(course);
 
-             // Simulate student enrolled in the course
-             student.getCourses().add(course);
-
              grade = new Grade();
              // Set entities with IDs for repository lookups
              Student studentRef = new Student(); studentRef.setId(1L);
@@ -76,10 +110,13 @@ package com.aditya.learningManagementApp.service;
 
          @Test
          void assignGrade_Success() {
-             when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
-             when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
+             when(studentService.getStudentById(1L)).thenReturn(Optional.of(StudentSummary.from(student)));
+             when(courseService.getCourseById(1L)).thenReturn(CourseSummary.from(course));
              when(examRepository.findById(1L)).thenReturn(Optional.of(exam));
+             when(enrollmentJdbcRepository.isEnrolled(1L, 1L)).thenReturn(true);
              when(gradeRepository.findByStudentIdAndCourseId(1L, 1L)).thenReturn(Optional.empty()); // No existing grade
+             when(studentRepository.getReferenceById(1L)).thenReturn(student);
+             when(courseRepository.getReferenceById(1L)).thenReturn(course);
              when(gradeRepository.save(any(Grade.class))).thenAnswer(i -> {
                  Grade saved = i.getArgument(0);
                  saved.setId(1L); // Simulate getting an ID
@@ -91,19 +128,23 @@ package com.aditya.learningManagementApp.service;
              assertNotNull(result);
              assertEquals(1L, result.getId());
              assertEquals("A", result.getGrade());
-             assertEquals(student, result.getStudent()); // Service sets the full fetched entities
+             assertEquals(student, result.getStudent()); // Service sets entity references
              assertEquals(course, result.getCourse());
              assertEquals(exam, result.getExam());
-             verify(studentRepository).findById(1L);
-             verify(courseRepository).findById(1L);
+             verify(studentRepository, never()).findById(anyLong());
+             verify(courseRepository, never()).findById(anyLong());
              verify(examRepository).findById(1L);
              verify(gradeRepository).findByStudentIdAndCourseId(1L, 1L);
-             verify(gradeRepository).save(grade);
+             verify(gradeRepository).save(result);
+             assertNotSame(grade, result);
+             assertNull(grade.getId()); // The posted grade stays untouched, so a retry saves a new row
+             verify(transcriptJdbcRepository).applyDeltas(List.of(new Delta(1L, 1, 1, new BigDecimal("4.00"))));
+             verify(gradeAnalyticsService).record(eq(1L), eq(1L), argThat(change -> change.letterCounts().equals(Map.of("A", 1))));
          }
 
          @Test
          void assignGrade_StudentNotFound() {
-             when(studentRepository.findById(99L)).thenReturn(Optional.empty());
+             when(studentService.getStudentById(99L)).thenReturn(Optional.empty());
              // Need to set student id in grade object for the test
              Student studentRef = new Student(); studentRef.setId(99L);
              grade.setStudent(studentRef);
@@ -114,16 +155,16 @@ package com.aditya.learningManagementApp.service;
              });
 
              assertEquals("Student not found with id: 99", exception.getMessage());
-             verify(studentRepository).findById(99L);
-             verify(courseRepository, never()).findById(anyLong());
+             verify(studentService).getStudentById(99L);
+             verify(courseService, never()).getCourseById(anyLong());
              verify(examRepository, never()).findById(anyLong());
              verify(gradeRepository, never()).save(any());
          }
 
           @Test
          void assignGrade_CourseNotFound() {
-             when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
-             when(courseRepository.findById(99L)).thenReturn(Optional.empty());
+             when(studentService.getStudentById(1L)).thenReturn(Optional.of(StudentSummary.from(student)));
+             when(courseService.getCourseById(99L)).thenThrow(new ResourceNotFoundException("Course not found with id: 99"));
              // Need to set course id in grade object for the test
              Course courseRef = new Course(); courseRef.setId(99L);
              grade.setCourse(courseRef);
@@ -133,16 +174,15 @@ package com.aditya.learningManagementApp.service;
              });
 
              assertEquals("Course not found with id: 99", exception.getMessage());
-             verify(studentRepository).findById(1L);
-             verify(courseRepository).findById(99L);
+             verify(courseService).getCourseById(99L);
              verify(examRepository, never()).findById(anyLong());
              verify(gradeRepository, never()).save(any());
          }
 
          @Test
          void assignGrade_ExamNotFound() {
-             when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
-             when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
+             when(studentService.getStudentById(1L)).thenReturn(Optional.of(StudentSummary.from(student)));
+             when(courseService.getCourseById(1L)).thenReturn(CourseSummary.from(course));
              when(examRepository.findById(99L)).thenReturn(Optional.empty());
              // Need to set exam id in grade object for the test
              Exam examRef = new Exam(); examRef.setId(99L);
@@ -153,37 +193,51 @@ package com.aditya.learningManagementApp.service;
              });
 
              assertEquals("Exam not found with id: 99", exception.getMessage());
-             verify(studentRepository).findById(1L);
-             verify(courseRepository).findById(1L);
              verify(examRepository).findById(99L);
              verify(gradeRepository, never()).save(any());
          }
 
          @Test
-         void assignGrade_StudentNotEnrolled() {
-             student.getCourses().remove(course); // Ensure student is not enrolled
+         void assignGrade_ExamOfOtherCourse() {
+             Course otherCourse = new Course("Other Course", "Desc", null);
+             otherCourse.setId(2L);
+             exam.setCourse(otherCourse);
+             when(studentService.getStudentById(1L)).thenReturn(Optional.of(StudentSummary.from(student)));
+             when(courseService.getCourseById(1L)).thenReturn(CourseSummary.from(course));
+             when(examRepository.findById(1L)).thenReturn(Optional.of(exam));
+
+             IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> {
+                 gradeService.assignGrade(grade);
+             });
 
-             when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
-             when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
+             assertEquals("Exam 1 does not belong to course 1", exception.getMessage());
+             verify(gradeRepository, never()).save(any());
+             verify(gradeAnalyticsService, never()).record(any(), any(), any());
+         }
+
+         @Test
+         void assignGrade_StudentNotEnrolled() {
+             when(studentService.getStudentById(1L)).thenReturn(Optional.of(StudentSummary.from(student)));
+             when(courseService.getCourseById(1L)).thenReturn(CourseSummary.from(course));
              when(examRepository.findById(1L)).thenReturn(Optional.of(exam));
+             when(enrollmentJdbcRepository.isEnrolled(1L, 1L)).thenReturn(false);
 
              IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
                  gradeService.assignGrade(grade);
              });
 
              assertTrue(exception.getMessage().startsWith("Student is not enrolled in this course!"));
-             verify(studentRepository).findById(1L);
-             verify(courseRepository).findById(1L);
-             verify(examRepository).findById(1L);
+             verify(enrollmentJdbcRepository).isEnrolled(1L, 1L);
              verify(gradeRepository, never()).findByStudentIdAndCourseId(anyLong(), anyLong());
              verify(gradeRepository, never()).save(any());
          }
 
          @Test
          void assignGrade_GradeAlreadyExists() {
-             when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
-             when(courseRepository.findById(1L)).thenReturn(Optional.of(course));
+             when(studentService.getStudentById(1L)).thenReturn(Optional.of(StudentSummary.from(student)));
+             when(courseService.getCourseById(1L)).thenReturn(CourseSummary.from(course));
              when(examRepository.findById(1L)).thenReturn(Optional.of(exam));
+             when(enrollmentJdbcRepository.isEnrolled(1L, 1L)).thenReturn(true);
              when(gradeRepository.findByStudentIdAndCourseId(1L, 1L)).thenReturn(Optional.of(existingGrade)); // Grade exists
 
              IllegalStateException exception = assertThrows(IllegalStateException.class, () -> {
@@ -191,34 +245,202 @@ package com.aditya.learningManagementApp.service;
              });
 
              assertEquals("Grade already assigned for this student and course!", exception.getMessage());
-             verify(studentRepository).findById(1L);
-             verify(courseRepository).findById(1L);
-             verify(examRepository).findById(1L);
              verify(gradeRepository).findByStudentIdAndCourseId(1L, 1L);
              verify(gradeRepository, never()).save(any());
          }
 
          @Test
          void getGradesByStudent() {
-             List<Grade> grades = Collections.singletonList(existingGrade);
-             when(gradeRepository.findByStudentId(1L)).thenReturn(grades);
+             List<GradeSummary> grades = Collections.singletonList(GradeSummary.from(existingGrade));
+             when(gradeRepository.findSummariesByStudentId(1L)).thenReturn(grades);
 
-             List<Grade> result = gradeService.getGradesByStudent(1L);
+             List<GradeSummary> result = gradeService.getGradesByStudent(1L);
 
              assertEquals(1, result.size());
-             assertEquals(existingGrade, result.get(0));
-             verify(gradeRepository).findByStudentId(1L);
+             assertEquals(new GradeSummary(10L, 1L, 1L, 1L, "B", null, null), result.get(0));
+             verify(gradeRepository).findSummariesByStudentId(1L);
+             verify(gradeRepository, never()).findByStudentId(anyLong());
          }
 
          @Test
          void getGradesByCourse() {
-             List<Grade> grades = Collections.singletonList(existingGrade);
-             when(gradeRepository.findByCourseId(1L)).thenReturn(grades);
+             List<GradeSummary> grades = Collections.singletonList(GradeSummary.from(existingGrade));
+             when(gradeRepository.findSummariesByCourseId(1L)).thenReturn(grades);
 
-             List<Grade> result = gradeService.getGradesByCourse(1L);
+             List<GradeSummary> result = gradeService.getGradesByCourse(1L);
 
              assertEquals(1, result.size());
-             assertEquals(existingGrade, result.get(0));
-             verify(gradeRepository).findByCourseId(1L);
+             assertEquals(new GradeSummary(10L, 1L, 1L, 1L, "B", null, null), result.get(0));
+             verify(gradeRepository).findSummariesByCourseId(1L);
+             verify(gradeRepository, never()).findByCourseId(anyLong());
+         }
+
+         @Test
+         void exportGradesByCourse_Ndjson() throws Exception {
+             when(gradeRepository.streamRowsByCourseId(1L)).thenReturn(Stream.of(
+                     new GradeRow(1L, 1L, "A"), new GradeRow(2L, 1L, "B")));
+             ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+             long count = gradeService.exportGradesByCourse(1L, ExportFormat.NDJSON, out);
+
+             assertEquals(2, count);
+             assertEquals("{\"studentId\":1,\"examId\":1,\"grade\":\"A\"}\n{\"studentId\":2,\"examId\":1,\"grade\":\"B\"}\n",
+                     out.toString(StandardCharsets.UTF_8));
+             verify(gradeRepository, never()).findByCourseId(anyLong());
+         }
+
+         @Test
+         void exportGradesByCourse_CsvQuotesFields() throws Exception {
+             when(gradeRepository.streamRowsByCourseId(1L)).thenReturn(Stream.of(new GradeRow(1L, 2L, "B+, retake")));
+             ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+             gradeService.exportGradesByCourse(1L, ExportFormat.CSV, out);
+
+             assertEquals("studentId,examId,grade\n1,2,\"B+, retake\"\n", out.toString(StandardCharsets.UTF_8));
+         }
+
+         @Test
+         void exportGradesByCourse_CsvQuotesCarriageReturn() throws Exception {
+             when(gradeRepository.streamRowsByCourseId(1L)).thenReturn(Stream.of(new GradeRow(1L, 2L, "A\rB")));
+             ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+             gradeService.exportGradesByCourse(1L, ExportFormat.CSV, out);
+
+             assertEquals("studentId,examId,grade\n1,2,\"A\rB\"\n", out.toString(StandardCharsets.UTF_8));
+         }
+
+         @Test
+         @SuppressWarnings("unchecked")
+         void assignGradesForExam_ReportsPerRowResults() {
+             List<GradeEntry> entries = List.of(
+                     new GradeEntry(1L, "A"),    // assigned
+                     new GradeEntry(2L, "B"),    // already graded
+                     new GradeEntry(3L, "C"),    // not enrolled
+                     new GradeEntry(99L, "A"),   // unknown student
+                     new GradeEntry(1L, "B"),    // repeated in request
+                     new GradeEntry(4L, " "));   // blank grade
+             when(examRepository.findById(1L)).thenReturn(Optional.of(exam));
+             when(studentRepository.findExistingIds(any())).thenReturn(Set.of(1L, 2L, 3L, 4L));
+             when(enrollmentJdbcRepository.findEnrolledStudentIds(eq(1L), any())).thenReturn(Set.of(1L, 2L, 4L));
+             when(gradeJdbcRepository.findGradedStudentIds(eq(1L), any())).thenReturn(Set.of(2L));
+
+             List<GradeBatchResult> results = gradeService.assignGradesForExam(1L, entries);
+
+             assertEquals(List.of(
+                     GradeBatchResult.Status.ASSIGNED,
+                     GradeBatchResult.Status.ALREADY_GRADED,
+                     GradeBatchResult.Status.NOT_ENROLLED,
+                     GradeBatchResult.Status.STUDENT_NOT_FOUND,
+                     GradeBatchResult.Status.DUPLICATE_IN_REQUEST,
+                     GradeBatchResult.Status.INVALID),
+                     results.stream().map(GradeBatchResult::status).toList());
+             ArgumentCaptor<List<Grade>> saved = ArgumentCaptor.forClass(List.class);
+             verify(gradeRepository).saveAll(saved.capture());
+             assertEquals(1, saved.getValue().size());
+             assertEquals("A", saved.getValue().get(0).getGrade());
+             assertEquals(exam, saved.getValue().get(0).getExam());
+             verify(gradeRepository, never()).save(any());
+         }
+
+         @Test
+         void assignGradesForExam_ExamNotFound() {
+             when(examRepository.findById(99L)).thenReturn(Optional.empty());
+
+             ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () ->
+                     gradeService.assignGradesForExam(99L, List.of(new GradeEntry(1L, "A"))));
+
+             assertEquals("Exam not found with id: 99", exception.getMessage());
+             verify(gradeRepository, never()).saveAll(any());
+         }
+
+         @Test
+         void assignGrade_DerivesLetterFromScore() {
+             grade.setGrade(null);
+             grade.setScore(new BigDecimal("88.5"));
+             when(studentService.getStudentById(1L)).thenReturn(Optional.of(StudentSummary.from(student)));
+             when(courseService.getCourseById(1L)).thenReturn(CourseSummary.from(course));
+             when(examRepository.findById(1L)).thenReturn(Optional.of(exam));
+             when(enrollmentJdbcRepository.isEnrolled(1L, 1L)).thenReturn(true);
+             when(gradeRepository.findByStudentIdAndCourseId(1L, 1L)).thenReturn(Optional.empty());
+             when(studentRepository.getReferenceById(1L)).thenReturn(student);
+             when(courseRepository.getReferenceById(1L)).thenReturn(course);
+             when(gradeRepository.save(any(Grade.class))).thenAnswer(i -> i.getArgument(0));
+
+             Grade result = gradeService.assignGrade(grade);
+
+             assertEquals("B+", result.getGrade());
+             assertEquals(new BigDecimal("3.30"), result.getGradePoints());
+             verify(transcriptJdbcRepository).applyDeltas(List.of(new Delta(1L, 1, 1, new BigDecimal("3.30"))));
+         }
+
+         @Test
+         void assignGrade_ScoreOutOfRange() {
+             grade.setScore(new BigDecimal("101"));
+
+             IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                     gradeService.assignGrade(grade));
+
+             assertEquals("Score must be between 0 and 100", exception.getMessage());
+             verify(gradeRepository, never()).save(any());
+             verifyNoInteractions(transcriptJdbcRepository);
+         }
+
+         @Test
+         void changeGrade_MovesTranscriptByPointDifference() {
+             existingGrade.setGradePoints(new BigDecimal("3.00"));
+             when(gradeRepository.findById(10L)).thenReturn(Optional.of(existingGrade));
+
+             Grade result = gradeService.changeGrade(10L, new GradeUpdate("A-", null));
+
+             assertEquals("A-", result.getGrade());
+             assertEquals(new BigDecimal("3.70"), result.getGradePoints());
+             verify(transcriptJdbcRepository).applyDeltas(List.of(new Delta(1L, 0, 0, new BigDecimal("0.70"))));
+             verify(gradeAnalyticsService).record(eq(1L), eq(1L), argThat(change -> change.getGraded() == 0
+                     && change.letterCounts().equals(Map.of("A-", 1, "B", -1))));
+         }
+
+         @Test
+         void changeGrade_LetterOnlyKeepsScore() {
+             existingGrade.setScore(new BigDecimal("84"));
+             when(gradeRepository.findById(10L)).thenReturn(Optional.of(existingGrade));
+
+             gradeService.changeGrade(10L, new GradeUpdate("A-", null));
+
+             assertEquals("A-", existingGrade.getGrade());
+             assertEquals(new BigDecimal("84"), existingGrade.getScore());
+         }
+
+         @Test
+         void changeGrade_ScoreOnlyDerivesLetter() {
+             existingGrade.setScore(new BigDecimal("84"));
+             when(gradeRepository.findById(10L)).thenReturn(Optional.of(existingGrade));
+
+             gradeService.changeGrade(10L, new GradeUpdate(null, new BigDecimal("91")));
+
+             assertEquals("A-", existingGrade.getGrade());
+             assertEquals(new BigDecimal("91"), existingGrade.getScore());
+             assertEquals(new BigDecimal("3.70"), existingGrade.getGradePoints());
+         }
+
+         @Test
+         void changeGrade_OffScaleGradeLeavesGpa() {
+             existingGrade.setGradePoints(new BigDecimal("3.00"));
+             when(gradeRepository.findById(10L)).thenReturn(Optional.of(existingGrade));
+
+             gradeService.changeGrade(10L, new GradeUpdate("Incomplete", null));
+
+             assertNull(existingGrade.getGradePoints());
+             verify(transcriptJdbcRepository).applyDeltas(List.of(new Delta(1L, 0, -1, new BigDecimal("-3.00"))));
+         }
+
+         @Test
+         void changeGrade_NotFound() {
+             when(gradeRepository.findById(99L)).thenReturn(Optional.empty());
+
+             ResourceNotFoundException exception = assertThrows(ResourceNotFoundException.class, () ->
+                     gradeService.changeGrade(99L, new GradeUpdate("A", null)));
+
+             assertEquals("Grade not found with id: 99", exception.getMessage());
+             verifyNoInteractions(transcriptJdbcRepository);
          }
-     }
\ No newline at end of file
+     }
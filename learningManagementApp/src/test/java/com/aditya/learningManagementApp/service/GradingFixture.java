@@ -0,0 +1,70 @@
+package com.aditya.learningManagementApp.service;
+
+import com.aditya.learningManagementApp.entities.Course;
+import com.aditya.learningManagementApp.entities.Exam;
+import com.aditya.learningManagementApp.entities.Grade;
+import com.aditya.learningManagementApp.entities.Instructor;
+import com.aditya.learningManagementApp.entities.Student;
+import com.aditya.learningManagementApp.repository.CourseRepository;
+import com.aditya.learningManagementApp.repository.ExamRepository;
+import com.aditya.learningManagementApp.repository.InstructorRepository;
+import com.aditya.learningManagementApp.repository.StudentRepository;
+import org.springframework.context.ApplicationContext;
+
+import java.math.BigDecimal;
+
+/**
+ * Courses, exams and enrolled students under one instructor in the test
+ * database, for tests that grade through GradeService and check what it
+ * keeps alongside the grades. Emails are made unique per call, since the
+ * H2 database is shared by every test of the run.
+ */
+class GradingFixture {
+
+    private final ApplicationContext context;
+    private final String tag;
+    private final Instructor instructor;
+
+    GradingFixture(ApplicationContext context, String tag) {
+        this.context = context;
+        this.tag = tag;
+        Instructor newInstructor = new Instructor();
+        newInstructor.setName(tag + " Instructor");
+        newInstructor.setEmail(tag + "-" + System.nanoTime() + "@lms.test");
+        newInstructor.setPassword("secret");
+        this.instructor = context.getBean(InstructorRepository.class).save(newInstructor);
+    }
+
+    Course newCourse(String title) {
+        return context.getBean(CourseRepository.class).save(new Course(title, tag, instructor));
+    }
+
+    Exam newExam(Course course, String name) {
+        Exam exam = new Exam();
+        exam.setName(name);
+        exam.setCourse(course);
+        exam.setInstructor(instructor);
+        return context.getBean(ExamRepository.class).save(exam);
+    }
+
+    Student newStudent() {
+        return context.getBean(StudentRepository.class).save(
+                new Student(tag + " Student", "student-" + System.nanoTime() + "@lms.test", "secret"));
+    }
+
+    void enroll(Student student, Course course) {
+        context.getBean(CourseEnrollmentService.class).enrollStudent(student.getId(), course.getId());
+    }
+
+    // A grade for the exam's course; the student is enrolled in it first, as GradeService requires
+    Grade grade(Student student, Exam exam, String letter, String score) {
+        enroll(student, exam.getCourse());
+        Grade grade = new Grade();
+        grade.setStudent(student);
+        grade.setCourse(exam.getCourse());
+        grade.setExam(exam);
+        grade.setGrade(letter);
+        grade.setScore(score == null ? null : new BigDecimal(score));
+        return grade;
+    }
+}
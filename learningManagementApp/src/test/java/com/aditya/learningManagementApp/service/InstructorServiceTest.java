@@ -1,5 +1,6 @@
 package com.aditya.learningManagementApp.service;
 
+     import com.aditya.learningManagementApp.dto.InstructorSummary;
      import com.aditya.learningManagementApp.entities.Instructor;
      import com.aditya.learningManagementApp.GlobalExceptionHandler.ResourceNotFoundException;
      import com.aditya.learningManagementApp.repository.InstructorRepository;
@@ -63,10 +64,10 @@ package com.aditya.learningManagementApp.service;
          void getInstructorById_Success() {
              when(instructorRepository.findById(1L)).thenReturn(Optional.of(instructor));
 
-             Optional<Instructor> result = instructorService.getInstructorById(1L);
+             Optional<InstructorSummary> result = instructorService.getInstructorById(1L);
 
              assertTrue(result.isPresent());
-             assertEquals(instructor, result.get());
+             assertEquals(InstructorSummary.from(instructor), result.get());
              verify(instructorRepository).findById(1L);
          }
 
@@ -74,7 +75,7 @@ package com.aditya.learningManagementApp.service;
          void getInstructorById_NotFound() {
              when(instructorRepository.findById(99L)).thenReturn(Optional.empty());
 
-             Optional<Instructor> result = instructorService.getInstructorById(99L);
+             Optional<InstructorSummary> result = instructorService.getInstructorById(99L);
 
              assertFalse(result.isPresent());
              verify(instructorRepository).findById(99L);
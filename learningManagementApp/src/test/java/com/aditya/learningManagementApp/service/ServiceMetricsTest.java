@@ -0,0 +1,72 @@
+package com.aditya.learningManagementApp.service;
+
+import com.aditya.learningManagementApp.GlobalExceptionHandler.ResourceNotFoundException;
+import com.aditya.learningManagementApp.configure.ServiceMetrics;
+import com.aditya.learningManagementApp.configure.ServiceMetricsAspect;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ServiceMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ServiceMetrics serviceMetrics;
+    private ServiceMetricsAspect aspect;
+    private ProceedingJoinPoint joinPoint;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        serviceMetrics = new ServiceMetrics(meterRegistry);
+        aspect = new ServiceMetricsAspect(serviceMetrics);
+
+        Signature signature = mock(Signature.class);
+        when(signature.getDeclaringType()).thenReturn(CourseService.class);
+        when(signature.getName()).thenReturn("getCourseById");
+        joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getSignature()).thenReturn(signature);
+    }
+
+    @Test
+    void timeOperation_TagsSuccess() throws Throwable {
+        when(joinPoint.proceed()).thenReturn("result");
+
+        assertEquals("result", aspect.timeOperation(joinPoint));
+
+        Timer timer = meterRegistry.get(ServiceMetrics.OPERATION_TIMER)
+                .tags("service", "CourseService", "operation", "getCourseById", "outcome", "success")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void timeOperation_TagsFailureAndRethrows() throws Throwable {
+        when(joinPoint.proceed()).thenThrow(new ResourceNotFoundException("Course not found with id: 1"));
+
+        assertThrows(ResourceNotFoundException.class, () -> aspect.timeOperation(joinPoint));
+
+        Timer timer = meterRegistry.get(ServiceMetrics.OPERATION_TIMER)
+                .tags("outcome", "failure", "exception", "ResourceNotFoundException")
+                .timer();
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void recordPayload_RecordsItemsPerCall() {
+        serviceMetrics.recordPayload(CourseEnrollmentService.class, "bulkEnroll", 3);
+        serviceMetrics.recordPayload(CourseEnrollmentService.class, "bulkEnroll", 5);
+
+        DistributionSummary summary = meterRegistry.get(ServiceMetrics.PAYLOAD_SUMMARY)
+                .tags("service", "CourseEnrollmentService", "operation", "bulkEnroll")
+                .summary();
+        assertEquals(2, summary.count());
+        assertEquals(8, summary.totalAmount());
+    }
+}
@@ -0,0 +1,69 @@
+package com.aditya.learningManagementApp.service;
+
+import com.aditya.learningManagementApp.entities.Course;
+import com.aditya.learningManagementApp.entities.Instructor;
+import com.aditya.learningManagementApp.entities.Student;
+import com.aditya.learningManagementApp.repository.CourseRepository;
+import com.aditya.learningManagementApp.repository.InstructorRepository;
+import com.aditya.learningManagementApp.repository.StudentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Deleting a student gives back the seats their enrollments held, so the
+ * enrolled count keeps matching the student_courses rows.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class StudentDeletionTest {
+
+    @Autowired
+    private StudentService studentService;
+
+    @Autowired
+    private CourseEnrollmentService courseEnrollmentService;
+
+    @Autowired
+    private InstructorRepository instructorRepository;
+
+    @Autowired
+    private CourseRepository courseRepository;
+
+    @Autowired
+    private StudentRepository studentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void deleteStudent_ReleasesSeats() {
+        Instructor instructor = new Instructor();
+        instructor.setName("Seat Instructor");
+        instructor.setEmail("seats-" + System.nanoTime() + "@lms.test");
+        instructor.setPassword("secret");
+        instructor = instructorRepository.save(instructor);
+        Course first = courseRepository.save(new Course("First", "Seats", instructor));
+        Course second = courseRepository.save(new Course("Second", "Seats", instructor));
+        Long leaving = studentRepository.save(new Student("Leaving", "leaving-" + System.nanoTime() + "@lms.test", "x")).getId();
+        Long staying = studentRepository.save(new Student("Staying", "staying-" + System.nanoTime() + "@lms.test", "x")).getId();
+        courseEnrollmentService.enrollStudent(leaving, first.getId());
+        courseEnrollmentService.enrollStudent(leaving, second.getId());
+        courseEnrollmentService.enrollStudent(staying, first.getId());
+
+        studentService.deleteStudent(leaving);
+
+        assertEquals(1, enrolledCount(first.getId()));
+        assertEquals(0, enrolledCount(second.getId()));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM student_courses WHERE student_id = ?", Integer.class, leaving));
+    }
+
+    private int enrolledCount(Long courseId) {
+        return jdbcTemplate.queryForObject("SELECT enrolled_count FROM courses WHERE id = ?", Integer.class, courseId);
+    }
+}
@@ -1,7 +1,9 @@
  package com.aditya.learningManagementApp.service;
 
+     import com.aditya.learningManagementApp.dto.StudentSummary;
      import com.aditya.learningManagementApp.entities.Student;
      import com.aditya.learningManagementApp.GlobalExceptionHandler.ResourceNotFoundException;
+     import com.aditya.learningManagementApp.repository.EnrollmentJdbcRepository;
      import com.aditya.learningManagementApp.repository.StudentRepository;
      import org.junit.jupiter.api.BeforeEach;
      import org.junit.jupiter.api.Test;
@@ -12,6 +14,7 @@
      import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
      import java.util.HashSet;
+     import java.util.List;
      import java.util.Optional;
 
      import static org.junit.jupiter.api.Assertions.*;
@@ -24,6 +27,9 @@
          @Mock
          private StudentRepository studentRepository;
 
+         @Mock
+         private EnrollmentJdbcRepository enrollmentJdbcRepository;
+
          @Mock
          private BCryptPasswordEncoder passwordEncoder;
 
@@ -61,10 +67,10 @@
          void getStudentById_Success() {
              when(studentRepository.findById(1L)).thenReturn(Optional.of(student));
 
-             Optional<Student> result = studentService.getStudentById(1L);
+             Optional<StudentSummary> result = studentService.getStudentById(1L);
 
              assertTrue(result.isPresent());
-             assertEquals(student, result.get());
+             assertEquals(StudentSummary.from(student), result.get());
              verify(studentRepository).findById(1L);
          }
 
@@ -72,7 +78,7 @@
          void getStudentById_NotFound() {
              when(studentRepository.findById(99L)).thenReturn(Optional.empty());
 
-             Optional<Student> result = studentService.getStudentById(99L);
+             Optional<StudentSummary> result = studentService.getStudentById(99L);
 
              assertFalse(result.isPresent());
              verify(studentRepository).findById(99L);
@@ -138,11 +144,14 @@
          @Test
          void deleteStudent_Success() {
              when(studentRepository.existsById(1L)).thenReturn(true);
+             when(enrollmentJdbcRepository.findCourseIdsOfStudent(1L)).thenReturn(List.of(3L, 5L));
              doNothing().when(studentRepository).deleteById(1L);
 
              assertDoesNotThrow(() -> studentService.deleteStudent(1L));
 
              verify(studentRepository).existsById(1L);
+             verify(enrollmentJdbcRepository).dropEnrollment(1L, 3L);
+             verify(enrollmentJdbcRepository).dropEnrollment(1L, 5L);
              verify(studentRepository).deleteById(1L);
          }
 
@@ -0,0 +1,116 @@
+package com.aditya.learningManagementApp.service;
+
+import com.aditya.learningManagementApp.configure.TokenConfig;
+import com.aditya.learningManagementApp.dto.TokenResponse;
+import com.aditya.learningManagementApp.entities.Role;
+import com.aditya.learningManagementApp.entities.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtException;
+
+import javax.crypto.SecretKey;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenServiceTest {
+
+    private static final String SECRET = "bG1zLWRldmVsb3BtZW50LXRva2VuLXNlY3JldC1jaGFuZ2UtbWU=";
+
+    @Mock
+    private UserService userService;
+
+    private final TokenConfig tokenConfig = new TokenConfig();
+    private JwtDecoder accessTokenDecoder;
+    private TokenService tokenService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        SecretKey key = tokenConfig.tokenSigningKey(SECRET);
+        accessTokenDecoder = tokenConfig.jwtDecoder(key);
+        tokenService = new TokenService(tokenConfig.jwtEncoder(key), key, userService,
+                Duration.ofMinutes(15), Duration.ofDays(7));
+
+        user = new User("test@example.com", "hash", List.of(new Role("ROLE_STUDENT")));
+        user.setId(7L);
+    }
+
+    @Test
+    void issueTokens_AccessTokenCarriesUserIdAndRoles() {
+        TokenResponse tokens = tokenService.issueTokens(user);
+
+        Jwt jwt = accessTokenDecoder.decode(tokens.accessToken());
+        assertEquals("test@example.com", jwt.getSubject());
+        assertEquals(7L, ((Number) jwt.getClaim(TokenConfig.CLAIM_USER_ID)).longValue());
+        assertEquals(List.of("ROLE_STUDENT"), jwt.getClaimAsStringList(TokenConfig.CLAIM_ROLES));
+        assertEquals("Bearer", tokens.tokenType());
+        assertEquals(900, tokens.expiresIn());
+    }
+
+    @Test
+    void refreshToken_IsNotAcceptedAsAccessToken() {
+        TokenResponse tokens = tokenService.issueTokens(user);
+
+        assertThrows(JwtException.class, () -> accessTokenDecoder.decode(tokens.refreshToken()));
+    }
+
+    @Test
+    void refresh_IssuesNewTokensForExistingUser() {
+        TokenResponse tokens = tokenService.issueTokens(user);
+        when(userService.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+
+        TokenResponse refreshed = tokenService.refresh(tokens.refreshToken());
+
+        assertEquals("test@example.com", accessTokenDecoder.decode(refreshed.accessToken()).getSubject());
+    }
+
+    @Test
+    void refresh_RejectsAccessToken() {
+        TokenResponse tokens = tokenService.issueTokens(user);
+
+        assertThrows(BadCredentialsException.class, () -> tokenService.refresh(tokens.accessToken()));
+    }
+
+    @Test
+    void refresh_RejectsTokenIssuedBeforePasswordChange() {
+        TokenResponse tokens = tokenService.issueTokens(user);
+        user.setTokenVersion(1);
+        when(userService.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+
+        assertThrows(BadCredentialsException.class, () -> tokenService.refresh(tokens.refreshToken()));
+    }
+
+    @Test
+    void refresh_RejectsTokenOfDeletedUserWhoseEmailWasRegisteredAgain() {
+        TokenResponse tokens = tokenService.issueTokens(user);
+        User newUser = new User("test@example.com", "hash", List.of(new Role("ROLE_STUDENT")));
+        newUser.setId(8L);
+        when(userService.findByEmail("test@example.com")).thenReturn(Optional.of(newUser));
+
+        assertThrows(BadCredentialsException.class, () -> tokenService.refresh(tokens.refreshToken()));
+    }
+
+    @Test
+    void missingSecret_FailsStartup() {
+        assertThrows(IllegalStateException.class, () -> tokenConfig.tokenSigningKey(""));
+    }
+
+    @Test
+    void refresh_RejectsDeletedUser() {
+        TokenResponse tokens = tokenService.issueTokens(user);
+        when(userService.findByEmail("test@example.com")).thenReturn(Optional.empty());
+
+        assertThrows(BadCredentialsException.class, () -> tokenService.refresh(tokens.refreshToken()));
+    }
+}
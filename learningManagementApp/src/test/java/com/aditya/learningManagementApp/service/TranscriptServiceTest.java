@@ -0,0 +1,235 @@
+package com.aditya.learningManagementApp.service;
+
+import com.aditya.learningManagementApp.dto.GradeBatchResult;
+import com.aditya.learningManagementApp.dto.GradeEntry;
+import com.aditya.learningManagementApp.dto.GradeUpdate;
+import com.aditya.learningManagementApp.dto.Transcript;
+import com.aditya.learningManagementApp.entities.Exam;
+import com.aditya.learningManagementApp.entities.Grade;
+import com.aditya.learningManagementApp.entities.Student;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The transcript row GradeService maintains as it grades must always match
+ * what a rebuild from the grades table produces.
+ */
+@SpringBootTest(properties = "lms.transcripts.rebuild-chunk-size=2")
+@ActiveProfiles("h2")
+class TranscriptServiceTest {
+
+    @Autowired
+    private TranscriptService transcriptService;
+
+    @Autowired
+    private GradeService gradeService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationContext context;
+
+    private GradingFixture fixture;
+
+    @BeforeEach
+    void setUp() {
+        fixture = new GradingFixture(context, "Transcript");
+    }
+
+    @Test
+    void gradesAndChanges_KeepTranscriptCurrent() {
+        Student student = fixture.newStudent();
+        Exam algebra = newExam("Algebra");
+        Exam biology = newExam("Biology");
+        Exam chemistry = newExam("Chemistry");
+
+        gradeService.assignGrade(fixture.grade(student, algebra, "A", null));
+        Grade biologyGrade = gradeService.assignGrade(fixture.grade(student, biology, null, "84"));
+        gradeService.assignGrade(fixture.grade(student, chemistry, "Pass", null));
+
+        Transcript transcript = transcriptService.getTranscript(student.getId());
+        assertEquals(3, transcript.examGrades());
+        assertEquals(2, transcript.gpaExamGrades());
+        assertEquals(new BigDecimal("3.50"), transcript.gpa());
+        assertEquals(List.of("A", "B", "Pass"), transcript.grades().stream().map(entry -> entry.grade()).toList());
+
+        gradeService.changeGrade(biologyGrade.getId(), new GradeUpdate("C", null));
+
+        assertEquals(new BigDecimal("3.00"), transcriptService.getTranscript(student.getId()).gpa());
+    }
+
+    @Test
+    void batchGrading_UpdatesTranscripts() {
+        Student first = fixture.newStudent();
+        Student second = fixture.newStudent();
+        Exam exam = newExam("Physics");
+        fixture.enroll(first, exam.getCourse());
+        fixture.enroll(second, exam.getCourse());
+
+        gradeService.assignGradesForExam(exam.getId(), List.of(
+                new GradeEntry(first.getId(), "B-"),
+                new GradeEntry(second.getId(), null, new BigDecimal("150"))));
+
+        assertEquals(new BigDecimal("2.70"), transcriptService.getTranscript(first.getId()).gpa());
+        assertEquals(0, transcriptService.getTranscript(second.getId()).examGrades());
+    }
+
+    @Test
+    void concurrentFirstGrades_BothCountOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 20; round++) {
+                Student student = fixture.newStudent();
+                List<Grade> grades = List.of(fixture.grade(student, newExam("Race A"), "A", null), fixture.grade(student, newExam("Race B"), "B", null));
+                CyclicBarrier start = new CyclicBarrier(grades.size());
+                List<Future<Grade>> calls = new ArrayList<>();
+                for (Grade grade : grades) {
+                    calls.add(executor.submit(() -> {
+                        start.await();
+                        return gradeService.assignGrade(grade);
+                    }));
+                }
+                for (Future<Grade> call : calls) {
+                    assertNotNull(call.get().getId());
+                }
+
+                Transcript transcript = transcriptService.getTranscript(student.getId());
+                assertEquals(2, transcript.examGrades());
+                assertEquals(new BigDecimal("3.50"), transcript.gpa());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentGradesForOneCourse_OnlyOneIsAssigned() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 20; round++) {
+                Student student = fixture.newStudent();
+                Exam midterm = newExam("Duplicate race");
+                Exam retake = fixture.newExam(midterm.getCourse(), "Duplicate race retake");
+                List<Grade> grades = List.of(fixture.grade(student, midterm, "A", null), fixture.grade(student, retake, "C", null));
+                CyclicBarrier start = new CyclicBarrier(grades.size());
+                List<Future<Grade>> calls = new ArrayList<>();
+                for (Grade grade : grades) {
+                    calls.add(executor.submit(() -> {
+                        start.await();
+                        return gradeService.assignGrade(grade);
+                    }));
+                }
+                int assigned = 0;
+                for (Future<Grade> call : calls) {
+                    try {
+                        assertNotNull(call.get().getId());
+                        assigned++;
+                    } catch (ExecutionException e) {
+                        // The loser is told the grade exists, not handed the key violation
+                        assertInstanceOf(IllegalStateException.class, e.getCause());
+                    }
+                }
+
+                assertEquals(1, assigned);
+                assertEquals(1, transcriptService.getTranscript(student.getId()).examGrades());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentBatchesForOneExam_GradeEachStudentOnce() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            for (int round = 0; round < 20; round++) {
+                Student student = fixture.newStudent();
+                Exam exam = newExam("Batch race");
+                fixture.enroll(student, exam.getCourse());
+                CyclicBarrier start = new CyclicBarrier(2);
+                List<Future<List<GradeBatchResult>>> calls = new ArrayList<>();
+                for (String letter : List.of("A", "C")) {
+                    calls.add(executor.submit(() -> {
+                        start.await();
+                        return gradeService.assignGradesForExam(exam.getId(), List.of(new GradeEntry(student.getId(), letter)));
+                    }));
+                }
+                List<GradeBatchResult.Status> statuses = new ArrayList<>();
+                for (Future<List<GradeBatchResult>> call : calls) {
+                    statuses.add(call.get().get(0).status());
+                }
+
+                assertTrue(statuses.containsAll(List.of(GradeBatchResult.Status.ASSIGNED, GradeBatchResult.Status.ALREADY_GRADED)),
+                        statuses::toString);
+                assertEquals(1, transcriptService.getTranscript(student.getId()).examGrades());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void rebuild_MatchesIncrementalTotals() {
+        Student student = fixture.newStudent();
+        gradeService.assignGrade(fixture.grade(student, newExam("History"), "B+", null));
+        gradeService.assignGrade(fixture.grade(student, newExam("Music"), "D", null));
+        Transcript incremental = transcriptService.getTranscript(student.getId());
+
+        // Totals knocked out of step behind the service's back
+        jdbcTemplate.update("UPDATE grades SET grade_points = NULL WHERE student_id = ?", student.getId());
+        jdbcTemplate.update("DELETE FROM student_transcripts WHERE student_id = ?", student.getId());
+        assertEquals(0, transcriptService.getTranscript(student.getId()).examGrades());
+
+        assertTrue(transcriptService.rebuildTranscripts() >= 1);
+
+        assertEquals(incremental, transcriptService.getTranscript(student.getId()));
+    }
+
+    @Test
+    void secondExamOfOneCourse_IsNotGradedAgain() {
+        Student student = fixture.newStudent();
+        Exam midterm = newExam("Geometry");
+        Exam retake = fixture.newExam(midterm.getCourse(), "Geometry retake");
+        gradeService.assignGrade(fixture.grade(student, midterm, "A", null));
+
+        // One grade per student and course, whichever exam it is for
+        assertThrows(IllegalStateException.class,
+                () -> gradeService.assignGrade(fixture.grade(student, retake, "C", null)));
+        transcriptService.rebuildTranscripts();
+
+        Transcript transcript = transcriptService.getTranscript(student.getId());
+        assertEquals(1, transcript.examGrades());
+        assertEquals(new BigDecimal("4.00"), transcript.gpa());
+    }
+
+    @Test
+    void studentWithoutGrades_HasEmptyTranscript() {
+        Transcript transcript = transcriptService.getTranscript(fixture.newStudent().getId());
+
+        assertEquals(0, transcript.examGrades());
+        assertNull(transcript.gpa());
+        assertTrue(transcript.grades().isEmpty());
+    }
+
+    // Each exam gets a course of its own, so grading it never runs into the one-grade-per-course rule
+    private Exam newExam(String title) {
+        return fixture.newExam(fixture.newCourse(title), title + " final");
+    }
+}
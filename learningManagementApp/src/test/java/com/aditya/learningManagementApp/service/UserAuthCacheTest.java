@@ -0,0 +1,115 @@
+package com.aditya.learningManagementApp.service;
+
+import com.aditya.learningManagementApp.configure.CacheConfig;
+import com.aditya.learningManagementApp.configure.CachingPasswordEncoder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class UserAuthCacheTest {
+
+    private ConcurrentMapCacheManager cacheManager;
+    private UserAuthCache userAuthCache;
+    private UserDetails userDetails;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(CacheConfig.USER_DETAILS, CacheConfig.VERIFIED_CREDENTIALS);
+        userAuthCache = new UserAuthCache(cacheManager, true);
+        userDetails = User.withUsername("test@example.com").password("hash").authorities("ROLE_STUDENT").build();
+    }
+
+    @Test
+    void putAndGetUser_UsesHashedKeys() {
+        userAuthCache.putUserInCache(userDetails);
+
+        assertEquals(userDetails, userAuthCache.getUserFromCache("test@example.com"));
+        assertNull(cacheManager.getCache(CacheConfig.USER_DETAILS).get("test@example.com"));
+    }
+
+    @Test
+    void erasingCredentialsOfReturnedUser_LeavesCachedEntryIntact() {
+        userAuthCache.putUserInCache(userDetails);
+
+        ((User) userAuthCache.getUserFromCache("test@example.com")).eraseCredentials();
+        ((User) userDetails).eraseCredentials();
+
+        UserDetails cached = userAuthCache.getUserFromCache("test@example.com");
+        assertEquals("hash", cached.getPassword());
+        assertEquals("ROLE_STUDENT", cached.getAuthorities().iterator().next().getAuthority());
+    }
+
+    @Test
+    void removeUser_EvictsEntry() {
+        userAuthCache.putUserInCache(userDetails);
+
+        userAuthCache.removeUserFromCache("test@example.com");
+
+        assertNull(userAuthCache.getUserFromCache("test@example.com"));
+    }
+
+    @Test
+    void evictAfterCommit_DropsEntryCachedBeforeCommit() {
+        userAuthCache.putUserInCache(userDetails);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userAuthCache.evictAfterCommit("test@example.com");
+            assertNull(userAuthCache.getUserFromCache("test@example.com"));
+
+            // A login before the commit reloads the row as it was
+            userAuthCache.putUserInCache(userDetails);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertNull(userAuthCache.getUserFromCache("test@example.com"));
+    }
+
+    @Test
+    void disabledCache_NeverReturnsEntries() {
+        UserAuthCache disabled = new UserAuthCache(cacheManager, false);
+
+        disabled.putUserInCache(userDetails);
+        disabled.markVerified("secret", "hash");
+
+        assertNull(disabled.getUserFromCache("test@example.com"));
+        assertFalse(disabled.isVerified("secret", "hash"));
+    }
+
+    @Test
+    void cachingPasswordEncoder_SkipsDelegateForVerifiedCredential() {
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.matches("secret", "hash")).thenReturn(true);
+        CachingPasswordEncoder encoder = new CachingPasswordEncoder(delegate, userAuthCache);
+
+        assertTrue(encoder.matches("secret", "hash"));
+        assertTrue(encoder.matches("secret", "hash"));
+
+        verify(delegate, times(1)).matches("secret", "hash");
+    }
+
+    @Test
+    void cachingPasswordEncoder_DoesNotCacheFailuresOrOtherHashes() {
+        PasswordEncoder delegate = mock(PasswordEncoder.class);
+        when(delegate.matches("secret", "hash")).thenReturn(true);
+        when(delegate.matches("wrong", "hash")).thenReturn(false);
+        when(delegate.matches("secret", "newHash")).thenReturn(false);
+        CachingPasswordEncoder encoder = new CachingPasswordEncoder(delegate, userAuthCache);
+
+        assertTrue(encoder.matches("secret", "hash"));
+        assertFalse(encoder.matches("wrong", "hash"));
+        assertFalse(encoder.matches("wrong", "hash"));
+        assertFalse(encoder.matches("secret", "newHash")); // password changed: old verification must not apply
+
+        verify(delegate, times(2)).matches("wrong", "hash");
+    }
+}
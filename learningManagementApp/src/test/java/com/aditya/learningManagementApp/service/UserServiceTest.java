@@ -1,5 +1,6 @@
 package com.aditya.learningManagementApp.service;
 
+     import com.aditya.learningManagementApp.GlobalExceptionHandler.ResourceNotFoundException;
      import com.aditya.learningManagementApp.entities.Role;
      import com.aditya.learningManagementApp.entities.User;
      import com.aditya.learningManagementApp.repository.RoleRepository;
@@ -13,6 +14,7 @@ package com.aditya.learningManagementApp.service;
      import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
      import java.util.Collections;
+     import java.util.List;
      import java.util.Optional;
 
      import static org.junit.jupiter.api.Assertions.*;
@@ -31,6 +33,9 @@ package com.aditya.learningManagementApp.service;
          @Mock
          private BCryptPasswordEncoder passwordEncoder;
 
+         @Mock
+         private UserAuthCache userAuthCache;
+
          @InjectMocks
          private UserService userService;
 
@@ -129,4 +134,47 @@ package com.aditya.learningManagementApp.service;
              assertFalse(result.isPresent());
              verify(userRepository).findByEmail("notfound@example.com");
          }
-     }
\ No newline at end of file
+
+         @Test
+         void changePassword_EvictsCachedPrincipal() {
+             when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+             when(passwordEncoder.encode("newPassword")).thenReturn("encodedNewPassword");
+             when(userRepository.save(any(User.class))).thenAnswer(i -> i.getArgument(0));
+
+             User result = userService.changePassword("test@example.com", "newPassword");
+
+             assertEquals("encodedNewPassword", result.getPassword());
+             assertEquals(1, result.getTokenVersion()); // refresh tokens issued before are revoked
+             verify(userAuthCache).evictAfterCommit("test@example.com");
+         }
+
+         @Test
+         void updateRoles_EvictsCachedPrincipal() {
+             when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+             when(roleRepository.findByName("ROLE_STUDENT")).thenReturn(Optional.of(studentRole));
+             when(userRepository.save(any(User.class))).thenAnswer(i -> i.getArgument(0));
+
+             User result = userService.updateRoles("test@example.com", List.of("ROLE_STUDENT"));
+
+             assertEquals(List.of(studentRole), result.getRoles());
+             verify(userAuthCache).evictAfterCommit("test@example.com");
+         }
+
+         @Test
+         void deleteUser_EvictsCachedPrincipal() {
+             when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
+
+             userService.deleteUser("test@example.com");
+
+             verify(userRepository).delete(user);
+             verify(userAuthCache).evictAfterCommit("test@example.com");
+         }
+
+         @Test
+         void deleteUser_NotFound() {
+             when(userRepository.findByEmail("missing@example.com")).thenReturn(Optional.empty());
+
+             assertThrows(ResourceNotFoundException.class, () -> userService.deleteUser("missing@example.com"));
+             verify(userAuthCache, never()).evictAfterCommit(anyString());
+         }
+     }
@@ -0,0 +1,144 @@
+-- What the original application's ddl-auto=update (MySQL8Dialect) created, as Hibernate generated it.
+-- SchemaMigrationTest baselines this at V1 and migrates it like an existing production database.
+
+create table courses (
+    id bigint not null auto_increment,
+    instructor_id bigint not null,
+    description varchar(255) not null,
+    title varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table exam_students (
+    exam_id bigint not null,
+    student_id bigint not null
+) engine=InnoDB;
+
+create table exams (
+    course_id bigint not null,
+    id bigint not null auto_increment,
+    instructor_id bigint not null,
+    name varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table grades (
+    course_id bigint not null,
+    exam_id bigint not null,
+    id bigint not null auto_increment,
+    student_id bigint not null,
+    grade varchar(255),
+    primary key (id)
+) engine=InnoDB;
+
+create table instructors (
+    id bigint not null auto_increment,
+    email varchar(255) not null,
+    name varchar(255) not null,
+    password varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table roles (
+    id bigint not null auto_increment,
+    name varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table student_courses (
+    course_id bigint not null,
+    student_id bigint not null,
+    primary key (course_id, student_id)
+) engine=InnoDB;
+
+create table students (
+    id bigint not null auto_increment,
+    email varchar(255) not null,
+    name varchar(255) not null,
+    password varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+create table user_roles (
+    role_id bigint not null,
+    user_id bigint not null
+) engine=InnoDB;
+
+create table users (
+    id bigint not null auto_increment,
+    email varchar(255) not null,
+    password varchar(255) not null,
+    primary key (id)
+) engine=InnoDB;
+
+alter table instructors 
+   add constraint UK1p61qho6k9oewkyd5uv1aniv7 unique (email);
+
+alter table roles 
+   add constraint UKofx66keruapi6vyqpv6f2or37 unique (name);
+
+alter table students 
+   add constraint UKe2rndfrsx22acpq2ty1caeuyw unique (email);
+
+alter table users 
+   add constraint UK6dotkott2kjsp8vw4d0m25fb7 unique (email);
+
+alter table courses 
+   add constraint FK1kswo6qqebbdy2kq0kx6udof7 
+   foreign key (instructor_id) 
+   references instructors (id);
+
+alter table exam_students 
+   add constraint FK65je6wuwel4i8f1f9rle73bec 
+   foreign key (student_id) 
+   references students (id);
+
+alter table exam_students 
+   add constraint FK6r5kumkfq7e03btoddiva3jdt 
+   foreign key (exam_id) 
+   references exams (id);
+
+alter table exams 
+   add constraint FKr1qm93flajdaclug2fg8i7bcg 
+   foreign key (course_id) 
+   references courses (id);
+
+alter table exams 
+   add constraint FKpllcv2gan58f9ae3aqyxc0ph8 
+   foreign key (instructor_id) 
+   references instructors (id);
+
+alter table grades 
+   add constraint FKox7bxu57m6gpmeeyj38rfrdw9 
+   foreign key (course_id) 
+   references courses (id);
+
+alter table grades 
+   add constraint FK8mv6x74stqpbxncsci4gh2omn 
+   foreign key (exam_id) 
+   references exams (id);
+
+alter table grades 
+   add constraint FK13a16545m7vvrcspc999r15s9 
+   foreign key (student_id) 
+   references students (id);
+
+alter table student_courses 
+   add constraint FKsfpq78oyrqua1h0obpl7ulc18 
+   foreign key (course_id) 
+   references courses (id);
+
+alter table student_courses 
+   add constraint FKwj1l0mta35u161acdl2tupoo 
+   foreign key (student_id) 
+   references students (id);
+
+alter table user_roles 
+   add constraint FKh8ciramu9cc9q3qcqiv4ue8a6 
+   foreign key (role_id) 
+   references roles (id);
+
+alter table user_roles 
+   add constraint FKhfh9dx7w3ubf1co1vdev94g3f 
+   foreign key (user_id) 
+   references users (id);